@@ -0,0 +1,48 @@
+package org.dozer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+/**
+ * Mapper which can perform mapping on a caller supplied executor. Mapping
+ * context is copied when mapping is requested, so given context is not
+ * modified and can be passed to several requests. Mapping errors are thrown by
+ * {@link Future#get()} as a cause of
+ * {@link java.util.concurrent.ExecutionException}.
+ */
+public interface AsyncMapper {
+
+    /**
+     * Constructs new instance of destinationClass and performs mapping from
+     * source object on given executor.
+     * 
+     * @param source source object
+     * @param destinationClass
+     * @param context mapping context; can be <code>null</code>
+     * @param executor executor which performs mapping
+     * @param <T>
+     * @return future of mapped object
+     */
+    <T> Future<T> mapAsync(Object source, Class<T> destinationClass, MappingContext context, Executor executor);
+
+    /**
+     * Constructs new instances of destinationClass and performs mapping from
+     * each source object. Source objects are split into batches which are
+     * mapped on given executor independently.
+     * 
+     * @param sources source objects
+     * @param destinationClass
+     * @param context mapping context; can be <code>null</code>
+     * @param executor executor which performs mapping
+     * @param <T>
+     * @return future of mapped objects list in the order of source objects;
+     *         <code>null</code> source object is mapped to <code>null</code>
+     */
+    <T> Future<List<T>> mapAllAsync(Collection<?> sources,
+            Class<T> destinationClass,
+            MappingContext context,
+            Executor executor);
+
+}
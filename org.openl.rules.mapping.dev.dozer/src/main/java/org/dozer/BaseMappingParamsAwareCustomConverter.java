@@ -7,11 +7,14 @@ import org.openl.rules.mapping.MappingParameters;
  * interface. Current implementation prevents raise condition problem and
  * provide a new one method which should be implemented by user to get
  * implementation of {@link MappingParamsAwareCustomConverter} abstraction.
+ * Mapper passes parameters explicitly through
+ * {@link #convert(MappingContext, Object, Object, Class, Class)}.
  */
-public abstract class BaseMappingParamsAwareCustomConverter implements MappingParamsAware, CustomConverter {
+public abstract class BaseMappingParamsAwareCustomConverter implements MappingParamsAware, ContextAwareCustomConverter {
 
     /**
-     * Thread local variable which holds user defined mapping parameters.
+     * Thread local variable which holds user defined mapping parameters. Used
+     * only if converter is called without mapping context.
      */
     private ThreadLocal<MappingParameters> parameters = new ThreadLocal<MappingParameters>();
 
@@ -19,6 +22,18 @@ public abstract class BaseMappingParamsAwareCustomConverter implements MappingPa
         this.parameters.set(params);
     }
 
+    public Object convert(MappingContext context,
+            Object existingDestinationFieldValue,
+            Object sourceFieldValue,
+            Class<?> destinationClass,
+            Class<?> sourceClass) {
+        return convert(context.getParams(),
+            existingDestinationFieldValue,
+            sourceFieldValue,
+            destinationClass,
+            sourceClass);
+    }
+
     public Object convert(Object existingDestinationFieldValue,
             Object sourceFieldValue,
             Class<?> destinationClass,
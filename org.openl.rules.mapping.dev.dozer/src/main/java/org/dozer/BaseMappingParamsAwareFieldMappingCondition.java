@@ -9,10 +9,12 @@ import org.openl.rules.mapping.MappingParameters;
  * implementation of {@link MappingParamsAwareFieldMappingCondition}
  * abstraction.
  */
-public abstract class BaseMappingParamsAwareFieldMappingCondition implements MappingParamsAware, FieldMappingCondition {
+public abstract class BaseMappingParamsAwareFieldMappingCondition implements MappingParamsAware,
+        ContextAwareFieldMappingCondition {
 
     /**
-     * Thread local variable which holds user defined mapping parameters.
+     * Thread local variable which holds user defined mapping parameters. Used
+     * only if condition is evaluated without mapping context.
      */
     private ThreadLocal<MappingParameters> parameters = new ThreadLocal<MappingParameters>();
 
@@ -20,6 +22,14 @@ public abstract class BaseMappingParamsAwareFieldMappingCondition implements Map
         this.parameters.set(params);
     }
 
+    public boolean mapField(MappingContext context,
+            Object sourceFieldValue,
+            Object destFieldValue,
+            Class<?> sourceType,
+            Class<?> destType) {
+        return mapField(context.getParams(), sourceFieldValue, destFieldValue, sourceType, destType);
+    }
+
     public boolean mapField(Object sourceFieldValue, Object destFieldValue, Class<?> sourceType, Class<?> destType) {
         return mapField(parameters.get(), sourceFieldValue, destFieldValue, sourceType, destType);
     }
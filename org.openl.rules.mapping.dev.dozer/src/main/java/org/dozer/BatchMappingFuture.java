@@ -0,0 +1,70 @@
+package org.dozer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Future of asynchronous batch mapping which collects results of batches in
+ * the order they were submitted.
+ *
+ * @param <T> destination type
+ */
+final class BatchMappingFuture<T> implements Future<List<T>> {
+
+    private final List<Future<List<T>>> batches;
+    private final int size;
+
+    BatchMappingFuture(List<Future<List<T>>> batches, int size) {
+        this.batches = batches;
+        this.size = size;
+    }
+
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        boolean cancelled = false;
+        for (Future<List<T>> batch : batches) {
+            cancelled |= batch.cancel(mayInterruptIfRunning);
+        }
+        return cancelled;
+    }
+
+    public boolean isCancelled() {
+        for (Future<List<T>> batch : batches) {
+            if (batch.isCancelled()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isDone() {
+        for (Future<List<T>> batch : batches) {
+            if (!batch.isDone()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public List<T> get() throws InterruptedException, ExecutionException {
+        List<T> results = new ArrayList<T>(size);
+        for (Future<List<T>> batch : batches) {
+            results.addAll(batch.get());
+        }
+        return results;
+    }
+
+    public List<T> get(long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        List<T> results = new ArrayList<T>(size);
+        for (Future<List<T>> batch : batches) {
+            results.addAll(batch.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS));
+        }
+        return results;
+    }
+
+}
@@ -0,0 +1,101 @@
+package org.dozer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.dozer.fieldmap.FieldMap;
+
+/**
+ * Index of destination collection items which is built once per mapped
+ * collection field and used to merge source items into existing destination
+ * collection when collection item discriminator or non-cumulative relationship
+ * is used. Items are looked up by identity first because mapped item can change
+ * its hash code; then by equality as {@link Collection#contains(Object)} does.
+ */
+final class CollectionMergeIndex {
+
+    private final FieldMap fieldMap;
+    private final Object destObj;
+    private final List<Object> items;
+    private final Map<Object, Object> itemsByIdentity;
+    private final Map<Object, Object> itemsByEquality;
+    private Map<Object, Object> itemsByKey;
+    private KeyedCollectionItemDiscriminator keyDiscriminator;
+
+    CollectionMergeIndex(FieldMap fieldMap, Object destObj, Collection<?> destCollection) {
+        this.fieldMap = fieldMap;
+        this.destObj = destObj;
+        this.items = new ArrayList<Object>(destCollection.size());
+        this.itemsByIdentity = new IdentityHashMap<Object, Object>(destCollection.size());
+        this.itemsByEquality = new HashMap<Object, Object>(destCollection.size());
+        for (Object item : destCollection) {
+            add(item);
+        }
+    }
+
+    /**
+     * Indicates that index is built for collection field of given destination
+     * object.
+     */
+    boolean isIndexOf(FieldMap fieldMap, Object destObj) {
+        return this.fieldMap == fieldMap && this.destObj == destObj;
+    }
+
+    boolean contains(Object value) {
+        return itemsByIdentity.containsKey(value) || itemsByEquality.containsKey(value);
+    }
+
+    /**
+     * Gets the first item of collection which is equal to given value.
+     */
+    Object get(Object value) {
+        if (itemsByIdentity.containsKey(value)) {
+            return value;
+        }
+        return itemsByEquality.get(value);
+    }
+
+    void add(Object item) {
+        items.add(item);
+        itemsByIdentity.put(item, item);
+        if (!itemsByEquality.containsKey(item)) {
+            itemsByEquality.put(item, item);
+        }
+        if (itemsByKey != null) {
+            addKey(item);
+        }
+    }
+
+    /**
+     * Finds destination item which has the same key as source item.
+     *
+     * @return destination item or <code>null</code> if item is not found
+     */
+    Object findByKey(KeyedCollectionItemDiscriminator discriminator, Class<?> srcItemType, Object srcItemValue) {
+        if (itemsByKey == null || keyDiscriminator != discriminator) {
+            keyDiscriminator = discriminator;
+            itemsByKey = new HashMap<Object, Object>(items.size());
+            for (Object item : items) {
+                addKey(item);
+            }
+        }
+
+        Object key = discriminator.getSourceItemKey(srcItemType, srcItemValue);
+        return key != null ? itemsByKey.get(key) : null;
+    }
+
+    private void addKey(Object item) {
+        if (item == null) {
+            return;
+        }
+        Object key = keyDiscriminator.getDestItemKey(item);
+        if (key != null && !itemsByKey.containsKey(key)) {
+            itemsByKey.put(key, item);
+        }
+    }
+
+}
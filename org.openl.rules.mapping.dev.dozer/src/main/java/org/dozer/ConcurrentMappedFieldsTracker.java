@@ -0,0 +1,142 @@
+package org.dozer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Tracker of mapped objects which is shared by processors mapping collection
+ * items in parallel. Source objects are compared by identity, so an object
+ * referenced by items of different tasks is mapped only once. Parent tracker
+ * must not be modified while this tracker is used.
+ */
+final class ConcurrentMappedFieldsTracker extends MappedFieldsTracker {
+
+    private final ConcurrentMap<IdentityKey, List<Object>> mappedFields = new ConcurrentHashMap<IdentityKey, List<Object>>();
+    private final MappedFieldsTracker parent;
+
+    ConcurrentMappedFieldsTracker(MappedFieldsTracker parent) {
+        this.parent = parent;
+    }
+
+    @Override
+    public void put(Object src, Object dest) {
+        List<Object> mappedTo = getMappedTo(src);
+        synchronized (mappedTo) {
+            if (!containsIdentical(mappedTo, dest)) {
+                mappedTo.add(dest);
+            }
+        }
+    }
+
+    @Override
+    public Object putIfAbsent(Object src, Object dest, Class<?> destType) {
+        if (parent != null) {
+            Object alreadyMappedValue = parent.getMappedValue(src, destType);
+            if (alreadyMappedValue != null) {
+                return alreadyMappedValue;
+            }
+        }
+
+        List<Object> mappedTo = getMappedTo(src);
+        synchronized (mappedTo) {
+            Object alreadyMappedValue = findAssignable(mappedTo, destType);
+            if (alreadyMappedValue != null) {
+                return alreadyMappedValue;
+            }
+            if (!containsIdentical(mappedTo, dest)) {
+                mappedTo.add(dest);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    void copyTo(MappedFieldsTracker target) {
+        for (Map.Entry<IdentityKey, List<Object>> entry : mappedFields.entrySet()) {
+            List<Object> mappedTo = entry.getValue();
+            synchronized (mappedTo) {
+                for (Object dest : mappedTo) {
+                    target.put(entry.getKey().object, dest);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        mappedFields.clear();
+    }
+
+    @Override
+    public Object getMappedValue(Object src, Class<?> destType) {
+        List<Object> mappedTo = mappedFields.get(new IdentityKey(src));
+        if (mappedTo != null) {
+            synchronized (mappedTo) {
+                Object alreadyMappedValue = findAssignable(mappedTo, destType);
+                if (alreadyMappedValue != null) {
+                    return alreadyMappedValue;
+                }
+            }
+        }
+        if (parent != null) {
+            return parent.getMappedValue(src, destType);
+        }
+        return null;
+    }
+
+    private List<Object> getMappedTo(Object src) {
+        IdentityKey key = new IdentityKey(src);
+        List<Object> mappedTo = mappedFields.get(key);
+        if (mappedTo == null) {
+            mappedTo = new ArrayList<Object>(1);
+            List<Object> existing = mappedFields.putIfAbsent(key, mappedTo);
+            if (existing != null) {
+                mappedTo = existing;
+            }
+        }
+        return mappedTo;
+    }
+
+    private static boolean containsIdentical(List<Object> mappedTo, Object dest) {
+        for (Object value : mappedTo) {
+            if (value == dest) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object findAssignable(List<Object> mappedTo, Class<?> destType) {
+        for (Object value : mappedTo) {
+            if (value != null && destType.isAssignableFrom(value.getClass())) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static final class IdentityKey {
+
+        private final Object object;
+        private final int hashCode;
+
+        IdentityKey(Object object) {
+            this.object = object;
+            this.hashCode = System.identityHashCode(object);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof IdentityKey && ((IdentityKey) obj).object == object;
+        }
+    }
+
+}
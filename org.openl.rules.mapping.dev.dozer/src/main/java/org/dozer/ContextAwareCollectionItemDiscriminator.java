@@ -0,0 +1,30 @@
+package org.dozer;
+
+/**
+ * Collection item discriminator which receives mapping context explicitly.
+ * Mapper calls
+ * {@link #discriminate(MappingContext, Class, Object, Class, Class, Object)}
+ * instead of {@link #discriminate(Class, Object, Class, Class, Object)} and
+ * does not inject mapping parameters through {@link MappingParamsAware}.
+ */
+public interface ContextAwareCollectionItemDiscriminator extends CollectionItemDiscriminator {
+
+    /**
+     * Discriminates destination element of target collection.
+     * 
+     * @param context context of current mapping request
+     * @param sourceItemType
+     * @param sourceItemValue
+     * @param destCollectionType
+     * @param destItemType
+     * @param destCollection
+     * @return destination element or <code>null</code> if it is not found
+     */
+    Object discriminate(MappingContext context,
+            Class<?> sourceItemType,
+            Object sourceItemValue,
+            Class<?> destCollectionType,
+            Class<?> destItemType,
+            Object destCollection);
+
+}
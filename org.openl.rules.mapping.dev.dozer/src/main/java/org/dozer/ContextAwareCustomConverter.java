@@ -0,0 +1,27 @@
+package org.dozer;
+
+/**
+ * Custom converter which receives mapping context explicitly. Mapper calls
+ * {@link #convert(MappingContext, Object, Object, Class, Class)} instead of
+ * {@link #convert(Object, Object, Class, Class)} and does not inject mapping
+ * parameters through {@link MappingParamsAware}.
+ */
+public interface ContextAwareCustomConverter extends CustomConverter {
+
+    /**
+     * Converts source value into destination value.
+     * 
+     * @param context context of current mapping request
+     * @param existingDestinationFieldValue existing destination value
+     * @param sourceFieldValue source value
+     * @param destinationClass destination class
+     * @param sourceClass source class
+     * @return converted value
+     */
+    Object convert(MappingContext context,
+            Object existingDestinationFieldValue,
+            Object sourceFieldValue,
+            Class<?> destinationClass,
+            Class<?> sourceClass);
+
+}
@@ -0,0 +1,28 @@
+package org.dozer;
+
+/**
+ * Field mapping condition which receives mapping context explicitly. Mapper
+ * calls {@link #mapField(MappingContext, Object, Object, Class, Class)}
+ * instead of {@link #mapField(Object, Object, Class, Class)} and does not
+ * inject mapping parameters through {@link MappingParamsAware}.
+ */
+public interface ContextAwareFieldMappingCondition extends FieldMappingCondition {
+
+    /**
+     * Indicates that field map should be processed by mapper.
+     * 
+     * @param context context of current mapping request
+     * @param sourceFieldValue source value
+     * @param destFieldValue existing destination value
+     * @param sourceType source type
+     * @param destType destination type
+     * @return <code>true</code> if field should be processed by mapper;
+     *         <code>false</code> - otherwise
+     */
+    boolean mapField(MappingContext context,
+            Object sourceFieldValue,
+            Object destFieldValue,
+            Class<?> sourceType,
+            Class<?> destType);
+
+}
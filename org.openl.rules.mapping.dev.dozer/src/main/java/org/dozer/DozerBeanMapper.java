@@ -15,31 +15,46 @@
  */
 package org.dozer;
 
-import java.lang.reflect.Proxy;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.dozer.cache.CacheManager;
 import org.dozer.cache.DozerCacheManager;
 import org.dozer.cache.DozerCacheType;
+import org.dozer.classmap.ClassMap;
 import org.dozer.classmap.ClassMappings;
 import org.dozer.classmap.Configuration;
 import org.dozer.classmap.MappingFileData;
 import org.dozer.config.GlobalSettings;
+import org.dozer.converters.CustomConverterContainer;
+import org.dozer.converters.CustomConverterDescription;
+import org.dozer.converters.InstanceCustomConverterDescription;
+import org.dozer.converters.JavaClassCustomConverterDescription;
 import org.dozer.event.DozerEventManager;
-import org.dozer.factory.DestBeanCreator;
+import org.dozer.factory.BeanFactoryRegistry;
 import org.dozer.loader.CustomMappingsLoader;
 import org.dozer.loader.LoadMappingsResult;
 import org.dozer.loader.api.BeanMappingBuilder;
 import org.dozer.stats.GlobalStatistics;
 import org.dozer.stats.StatisticType;
-import org.dozer.stats.StatisticsInterceptor;
 import org.dozer.stats.StatisticsManager;
+import org.dozer.util.DozerConstants;
+import org.dozer.util.MappingUtils;
+import org.dozer.util.MappingValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,7 +76,7 @@ import org.slf4j.LoggerFactory;
  * @author garsombke.franz
  * @author dmitry.buzdin
  */
-public class DozerBeanMapper implements Mapper {
+public class DozerBeanMapper implements Mapper, AsyncMapper {
 
     private static final Logger log = LoggerFactory.getLogger(DozerBeanMapper.class);
     private static final StatisticsManager statsMgr = GlobalStatistics.getInstance().getStatsMgr();
@@ -80,16 +95,29 @@ public class DozerBeanMapper implements Mapper {
     private final Map<String, FieldMappingCondition> mappingConditionsWithId = new HashMap<String, FieldMappingCondition>();
     private final List<CollectionItemDiscriminator> collectionItemDiscriminators = new ArrayList<CollectionItemDiscriminator>();
     private final Map<String, CollectionItemDiscriminator> collectionItemDiscriminatorsWithId = new HashMap<String, CollectionItemDiscriminator>();
+    // Bean factories are not shared with other mapper instances
+    private final BeanFactoryRegistry beanFactories = new BeanFactoryRegistry();
     // There are no global caches. Caches are per bean mapper instance
     private final CacheManager cacheManager = new DozerCacheManager();
     private List<? extends DozerEventListener> eventListeners = new ArrayList<DozerEventListener>();
     private CustomFieldMapper customFieldMapper;
+    private boolean compiledMappersEnabled;
+    private ForkJoinPool parallelCollectionPool;
+    private int parallelCollectionThreshold = DozerConstants.DEFAULT_PARALLEL_COLLECTION_THRESHOLD;
+    private volatile int asyncBatchSize = DozerConstants.DEFAULT_ASYNC_BATCH_SIZE;
+    // Idle sessions are kept by mapper, so threads do not hold references to
+    // it after mapping is finished
+    private final Queue<MapperSession> idleSessions = new ConcurrentLinkedQueue<MapperSession>();
     /*
      * Not accessible for injection
      */
     private ClassMappings customMappings;
     private Configuration globalConfiguration;
     private DozerEventManager eventManager;
+    private FieldMapReferenceResolver referenceResolver;
+    // Pool used by mapping processors; null if collections cannot be mapped
+    // in parallel
+    private ForkJoinPool collectionPool;
 
     public DozerBeanMapper() {
         this(Collections.<String> emptyList());
@@ -104,28 +132,163 @@ public class DozerBeanMapper implements Mapper {
      * {@inheritDoc}
      */
     public void map(Object source, Object destination, MappingContext mappingContext) throws MappingException {
-        getMappingProcessor().map(source, destination, mappingContext);
+        MapperSession session = acquireSession();
+        try {
+            session.map(source, destination, mappingContext);
+        } finally {
+            releaseSession(session);
+        }
     }
 
     /**
      * {@inheritDoc}
      */
     public <T> T map(Object source, Class<T> destinationClass, MappingContext mappingContext) throws MappingException {
-        return getMappingProcessor().map(source, destinationClass, mappingContext);
+        MapperSession session = acquireSession();
+        try {
+            return session.map(source, destinationClass, mappingContext);
+        } finally {
+            releaseSession(session);
+        }
     }
 
     /**
      * {@inheritDoc}
      */
     public <T> T map(Object source, Class<T> destinationClass) throws MappingException {
-        return getMappingProcessor().map(source, destinationClass);
+        MapperSession session = acquireSession();
+        try {
+            return session.map(source, destinationClass);
+        } finally {
+            releaseSession(session);
+        }
     }
 
     /**
      * {@inheritDoc}
      */
     public void map(Object source, Object destination) throws MappingException {
-        getMappingProcessor().map(source, destination);
+        MapperSession session = acquireSession();
+        try {
+            session.map(source, destination);
+        } finally {
+            releaseSession(session);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <T> List<T> mapAll(Collection<?> sources, Class<T> destinationClass) throws MappingException {
+        return mapAll(sources, destinationClass, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <T> List<T> mapAll(Collection<?> sources, Class<T> destinationClass, MappingContext context)
+            throws MappingException {
+        MapperSession session = acquireSession();
+        try {
+            return session.mapAll(sources, destinationClass, context);
+        } finally {
+            releaseSession(session);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <T> void mapAll(Collection<?> sources,
+            Class<T> destinationClass,
+            MappingContext context,
+            MappingResultHandler<? super T> handler) throws MappingException {
+        MapperSession session = acquireSession();
+        try {
+            session.mapAll(sources, destinationClass, context, handler);
+        } finally {
+            releaseSession(session);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Returned iterator uses its own mapper session bound to current thread.
+     */
+    public <T> Iterator<T> mapLazily(Iterator<?> sources, Class<T> destinationClass) throws MappingException {
+        return getMappingProcessor().mapLazily(sources, destinationClass);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Returned iterator uses its own mapper session bound to current thread.
+     */
+    public <T> Iterator<T> mapLazily(Iterator<?> sources, Class<T> destinationClass, MappingContext context)
+            throws MappingException {
+        return getMappingProcessor().mapLazily(sources, destinationClass, context);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Mapping is performed by a mapper session acquired by the executing
+     * thread using a copy of mapping context, so the same context can be
+     * passed to several asynchronous requests. Given context is not modified.
+     */
+    public <T> Future<T> mapAsync(final Object source,
+            final Class<T> destinationClass,
+            MappingContext context,
+            Executor executor) {
+        MappingValidator.validateMappingRequest(source, destinationClass);
+        checkExecutor(executor);
+
+        final MappingContext asyncContext = context != null ? new MappingContext(context) : new MappingContext();
+        FutureTask<T> task = new FutureTask<T>(new Callable<T>() {
+            public T call() {
+                return map(source, destinationClass, asyncContext);
+            }
+        });
+        executor.execute(task);
+        return task;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Each batch is mapped by a mapper session acquired by the executing thread
+     * using its own copy of mapping context. Given context is not modified.
+     */
+    public <T> Future<List<T>> mapAllAsync(Collection<?> sources,
+            final Class<T> destinationClass,
+            MappingContext context,
+            Executor executor) {
+        MappingValidator.validateMappingRequest(sources, destinationClass);
+        checkExecutor(executor);
+
+        MappingContext asyncContext = context != null ? context : new MappingContext();
+        List<Object> srcObjs = new ArrayList<Object>(sources);
+        int batchSize = Math.max(asyncBatchSize, 1);
+        List<Future<List<T>>> batches = new ArrayList<Future<List<T>>>(srcObjs.size() / batchSize + 1);
+        for (int start = 0; start < srcObjs.size(); start += batchSize) {
+            final List<Object> batch = srcObjs.subList(start, Math.min(start + batchSize, srcObjs.size()));
+            final MappingContext batchContext = new MappingContext(asyncContext);
+            FutureTask<List<T>> task = new FutureTask<List<T>>(new Callable<List<T>>() {
+                public List<T> call() {
+                    return mapAll(batch, destinationClass, batchContext);
+                }
+            });
+            batches.add(task);
+            executor.execute(task);
+        }
+        return new BatchMappingFuture<T>(batches, srcObjs.size());
+    }
+
+    private static void checkExecutor(Executor executor) {
+        if (executor == null) {
+            MappingUtils.throwMappingException("Executor must not be null");
+        }
     }
 
     /**
@@ -154,7 +317,7 @@ public class DozerBeanMapper implements Mapper {
 
     public void setFactories(Map<String, BeanFactory> factories) {
         checkIfInitialized();
-        DestBeanCreator.setStoredFactories(factories);
+        beanFactories.setFactories(factories);
     }
 
     public List<CustomConverter> getCustomConverters() {
@@ -234,8 +397,6 @@ public class DozerBeanMapper implements Mapper {
         // the bean mapper instance and
         // are not shared across the VM.
         GlobalSettings globalSettings = GlobalSettings.getInstance();
-        cacheManager.addCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name(),
-            globalSettings.getConverterByDestTypeCacheMaxSize());
         cacheManager.addCache(DozerCacheType.SUPER_TYPE_CHECK.name(), globalSettings.getSuperTypesCacheMaxSize());
 
         // stats
@@ -246,12 +407,45 @@ public class DozerBeanMapper implements Mapper {
         DozerInitializer.getInstance().destroy();
     }
 
+    /**
+     * Creates a new mapping session bound to the current thread. Session
+     * reuses mapping processor between mapping requests and can be used to map
+     * many objects in a row.
+     * 
+     * @return mapping session
+     */
+    public MapperSession newSession() {
+        return new MapperSession(this, statsMgr, Thread.currentThread());
+    }
+
     protected Mapper getMappingProcessor() {
+        return newSession();
+    }
+
+    /**
+     * Takes idle session of this mapper or creates a new one. Session is used
+     * by the current thread until it is released.
+     */
+    private MapperSession acquireSession() {
+        MapperSession session = idleSessions.poll();
+        if (session == null) {
+            session = new MapperSession(this, statsMgr, null);
+        }
+        return session;
+    }
+
+    private void releaseSession(MapperSession session) {
+        idleSessions.offer(session);
+    }
+
+    MappingProcessor createMappingProcessor() {
 
         if (initializing.compareAndSet(false, true)) {
             try {
                 log.info("OpenL Mapper Framework (Dozer 5.3.2)");
                 loadCustomMappings();
+                bindFieldMapReferences();
+                collectionPool = resolveCollectionPool();
                 eventManager = new DozerEventManager(eventListeners);
             } finally {
                 ready.countDown();
@@ -264,28 +458,28 @@ public class DozerBeanMapper implements Mapper {
             log.error("Thread interrupted: ", e);
         }
 
-        Mapper processor = new MappingProcessor(customMappings,
+        return new MappingProcessor(customMappings,
             globalConfiguration,
             cacheManager,
             statsMgr,
             customConverters,
             eventManager,
             getCustomFieldMapper(),
-            customConvertersWithId,
-            mappingConditions,
-            mappingConditionsWithId,
-            collectionItemDiscriminators,
-            collectionItemDiscriminatorsWithId);
-
-        // If statistics are enabled, then Proxy the processor with a statistics
-        // interceptor
-        if (statsMgr.isStatisticsEnabled()) {
-            processor = (Mapper) Proxy.newProxyInstance(processor.getClass().getClassLoader(),
-                processor.getClass().getInterfaces(),
-                new StatisticsInterceptor(processor, statsMgr));
-        }
+            referenceResolver,
+            compiledMappersEnabled,
+            collectionPool,
+            parallelCollectionThreshold);
+    }
 
-        return processor;
+    /**
+     * Gets class mappings of initialized mapper. Intended for internal use
+     * only.
+     *
+     * @return class mappings or <code>null</code> if mapper is not initialized
+     *         yet
+     */
+    ClassMappings getClassMappings() {
+        return customMappings;
     }
 
     // public void addDefaultCustomConverter(Class<?> defaultCustomConverter) {
@@ -297,6 +491,79 @@ public class DozerBeanMapper implements Mapper {
         LoadMappingsResult loadMappingsResult = customMappingsLoader.load(mappingFiles, builderMappings);
         this.customMappings = loadMappingsResult.getCustomMappings();
         this.globalConfiguration = loadMappingsResult.getGlobalConfiguration();
+        this.globalConfiguration.setBeanFactories(beanFactories);
+    }
+
+    /**
+     * Binds custom converters, mapping conditions and collection item
+     * discriminators to field mappings which reference them, so they are not
+     * resolved during mapping.
+     *
+     * @throws MappingException if referenced id is not registered
+     */
+    private void bindFieldMapReferences() {
+        referenceResolver = new FieldMapReferenceResolver(customConverters,
+            customConvertersWithId,
+            mappingConditions,
+            mappingConditionsWithId,
+            collectionItemDiscriminators,
+            collectionItemDiscriminatorsWithId);
+        referenceResolver.bind(customMappings);
+    }
+
+    /**
+     * Gets pool which is used to map collections in parallel. Converters which
+     * are shared by mapping processors and configured for each conversion
+     * cannot be used by several threads, so collections are mapped
+     * sequentially if such converters are registered.
+     */
+    private ForkJoinPool resolveCollectionPool() {
+        if (parallelCollectionPool == null) {
+            return null;
+        }
+        boolean configurable = hasConfigurableConverters(customConverters) || hasConfigurableConverters(
+            customConvertersWithId.values()) || hasConfigurableConverters(globalConfiguration.getCustomConverters());
+        for (ClassMap classMap : customMappings.getAll().values()) {
+            configurable = configurable || hasConfigurableConverters(classMap.getCustomConverters());
+        }
+        if (configurable) {
+            log.warn(
+                "Collections are mapped sequentially, because registered custom converters implement MapperAware or ConfigurableCustomConverter.");
+            return null;
+        }
+        return parallelCollectionPool;
+    }
+
+    private static boolean hasConfigurableConverters(Collection<CustomConverter> converters) {
+        for (CustomConverter converter : converters) {
+            if (converter != null && isConfigurableConverter(converter.getClass())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasConfigurableConverters(CustomConverterContainer container) {
+        if (container == null) {
+            return false;
+        }
+        for (CustomConverterDescription description : container.getConverters()) {
+            Class<?> type = null;
+            if (description instanceof InstanceCustomConverterDescription) {
+                CustomConverter instance = ((InstanceCustomConverterDescription) description).getInstance();
+                type = instance != null ? instance.getClass() : null;
+            } else if (description instanceof JavaClassCustomConverterDescription) {
+                type = ((JavaClassCustomConverterDescription) description).getType();
+            }
+            if (type != null && isConfigurableConverter(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isConfigurableConverter(Class<?> type) {
+        return MapperAware.class.isAssignableFrom(type) || ConfigurableCustomConverter.class.isAssignableFrom(type);
     }
 
     public void setMappings(List<? extends BeanMappingBuilder> mappingBuilder) {
@@ -329,6 +596,74 @@ public class DozerBeanMapper implements Mapper {
         this.customFieldMapper = customFieldMapper;
     }
 
+    public boolean isCompiledMappersEnabled() {
+        return compiledMappersEnabled;
+    }
+
+    /**
+     * Enables compiled field mappings. If enabled simple field mappings are
+     * compiled into direct accessor calls once per class pair and are not
+     * processed by generic mapping logic. Field mappings which cannot be
+     * compiled are processed as usual.
+     *
+     * @param compiledMappersEnabled <code>true</code> to enable compiled field
+     *            mappings
+     */
+    public void setCompiledMappersEnabled(boolean compiledMappersEnabled) {
+        checkIfInitialized();
+        this.compiledMappersEnabled = compiledMappersEnabled;
+    }
+
+    public ForkJoinPool getParallelCollectionPool() {
+        return parallelCollectionPool;
+    }
+
+    /**
+     * Sets pool which is used to map items of large collections in parallel.
+     * Parallel mapping is enabled only for field mappings and class mappings
+     * which allow it explicitly. Items are mapped by separate processors which
+     * share one tracker of mapped objects: an object referenced by several
+     * items is mapped once, even if items are mapped by different threads, and
+     * objects mapped before collection are reused. Changes of mapping
+     * parameters made while items are mapped are not visible outside of the
+     * item. Custom converters and event listeners must be thread-safe; if
+     * registered converters implement {@link MapperAware} or
+     * {@link ConfigurableCustomConverter}, they are configured before each
+     * conversion, so all collections are mapped sequentially.
+     *
+     * @param parallelCollectionPool pool; <code>null</code> to map all
+     *            collections sequentially
+     */
+    public void setParallelCollectionPool(ForkJoinPool parallelCollectionPool) {
+        checkIfInitialized();
+        this.parallelCollectionPool = parallelCollectionPool;
+    }
+
+    public int getParallelCollectionThreshold() {
+        return parallelCollectionThreshold;
+    }
+
+    /**
+     * Sets minimal size of source collection which is mapped in parallel.
+     * Smaller collections are mapped sequentially.
+     *
+     * @param parallelCollectionThreshold minimal collection size
+     */
+    public void setParallelCollectionThreshold(int parallelCollectionThreshold) {
+        checkIfInitialized();
+        this.parallelCollectionThreshold = parallelCollectionThreshold;
+    }
+
+    /**
+     * Sets maximal number of source objects which are mapped by a single task
+     * of asynchronous batch mapping.
+     *
+     * @param asyncBatchSize batch size
+     */
+    public void setAsyncBatchSize(int asyncBatchSize) {
+        this.asyncBatchSize = asyncBatchSize;
+    }
+
     private void checkIfInitialized() {
         if (ready.getCount() == 0) {
             throw new MappingException(
@@ -0,0 +1,210 @@
+package org.dozer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.dozer.classmap.ClassMap;
+import org.dozer.classmap.ClassMappings;
+import org.dozer.fieldmap.FieldMap;
+import org.dozer.util.MappingUtils;
+import org.dozer.util.ReflectionUtils;
+
+/**
+ * Resolves custom converters, mapping conditions and collection item
+ * discriminators referenced by field mappings either by id or by class name.
+ * References are bound to field mappings once when mapper is initialized, so
+ * mapper does not load classes, look up ids or create instances during
+ * mapping. The only exception is a custom converter referenced by class which
+ * is {@link MapperAware} or {@link ConfigurableCustomConverter}: mapper and
+ * parameter are set on such converter for each conversion, so a new instance
+ * is created for each conversion. Only intended for internal use.
+ */
+final class FieldMapReferenceResolver {
+
+    private final List<CustomConverter> customConverters;
+    private final Map<String, CustomConverter> customConvertersWithId;
+    private final List<FieldMappingCondition> conditions;
+    private final Map<String, FieldMappingCondition> conditionsWithId;
+    private final List<CollectionItemDiscriminator> discriminators;
+    private final Map<String, CollectionItemDiscriminator> discriminatorsWithId;
+    // classes of converters which are created for each conversion
+    private final ConcurrentMap<String, Class<?>> perConversionConverters = new ConcurrentHashMap<String, Class<?>>();
+
+    FieldMapReferenceResolver(List<CustomConverter> customConverters,
+            Map<String, CustomConverter> customConvertersWithId,
+            List<FieldMappingCondition> conditions,
+            Map<String, FieldMappingCondition> conditionsWithId,
+            List<CollectionItemDiscriminator> discriminators,
+            Map<String, CollectionItemDiscriminator> discriminatorsWithId) {
+        this.customConverters = customConverters;
+        this.customConvertersWithId = customConvertersWithId;
+        this.conditions = conditions;
+        this.conditionsWithId = conditionsWithId;
+        this.discriminators = discriminators;
+        this.discriminatorsWithId = discriminatorsWithId;
+    }
+
+    Map<String, CustomConverter> getCustomConvertersWithId() {
+        return customConvertersWithId;
+    }
+
+    /**
+     * Binds references of all field mappings of given class mappings.
+     *
+     * @throws MappingException if referenced id is not registered or
+     *             referenced class cannot be instantiated
+     */
+    void bind(ClassMappings classMappings) {
+        for (ClassMap classMap : classMappings.getAll().values()) {
+            List<FieldMap> fieldMaps = classMap.getFieldMaps();
+            if (fieldMaps == null) {
+                continue;
+            }
+            for (FieldMap fieldMap : fieldMaps) {
+                getCustomConverter(fieldMap);
+                getMappingCondition(fieldMap);
+                getCollectionItemDiscriminator(fieldMap);
+            }
+        }
+    }
+
+    /**
+     * Gets custom converter of field mapping. Field mappings created after
+     * mapper initialization are bound on first access.
+     *
+     * @return converter instance or <code>null</code> if field mapping does
+     *         not reference custom converter
+     * @see #isSharedCustomConverter(FieldMap, CustomConverter)
+     */
+    CustomConverter getCustomConverter(FieldMap fieldMap) {
+        CustomConverter converter = fieldMap.getCustomConverterInstance();
+        if (converter != null) {
+            return converter;
+        }
+
+        String id = fieldMap.getCustomConverterId();
+        if (!MappingUtils.isBlankOrNull(id)) {
+            converter = customConvertersWithId != null ? customConvertersWithId.get(id) : null;
+            if (converter == null) {
+                throw new MappingException("CustomConverter instance not found with id:" + id);
+            }
+        } else if (!MappingUtils.isBlankOrNull(fieldMap.getCustomConverter())) {
+            String converterClassName = fieldMap.getCustomConverter();
+            Class<?> converterClass = perConversionConverters.get(converterClassName);
+            if (converterClass != null) {
+                return (CustomConverter) ReflectionUtils.newInstance(converterClass);
+            }
+
+            converterClass = MappingUtils.loadClass(converterClassName);
+            converter = findByClass(converterClass, customConverters);
+            if (converter == null) {
+                converter = (CustomConverter) ReflectionUtils.newInstance(converterClass);
+                if (converter instanceof MapperAware || converter instanceof ConfigurableCustomConverter) {
+                    // converter is configured for each conversion, so it
+                    // cannot be shared between threads
+                    perConversionConverters.putIfAbsent(converterClassName, converterClass);
+                    return converter;
+                }
+            }
+        } else {
+            return null;
+        }
+
+        fieldMap.setCustomConverterInstance(converter);
+        return converter;
+    }
+
+    /**
+     * Checks whether custom converter returned by
+     * {@link #getCustomConverter(FieldMap)} is bound to field mapping and can be
+     * reused for other conversions.
+     */
+    boolean isSharedCustomConverter(FieldMap fieldMap, CustomConverter converter) {
+        return converter != null && converter == fieldMap.getCustomConverterInstance();
+    }
+
+    /**
+     * Gets mapping condition of field mapping. Field mappings created after
+     * mapper initialization are bound on first access.
+     *
+     * @return condition instance or <code>null</code> if field mapping does
+     *         not reference mapping condition
+     */
+    FieldMappingCondition getMappingCondition(FieldMap fieldMap) {
+        FieldMappingCondition condition = fieldMap.getMappingConditionInstance();
+        if (condition != null) {
+            return condition;
+        }
+
+        String id = fieldMap.getMappingConditionId();
+        if (!MappingUtils.isBlankOrNull(id)) {
+            condition = conditionsWithId != null ? conditionsWithId.get(id) : null;
+            if (condition == null) {
+                throw new MappingException("Mapping condition instance not found with id:" + id);
+            }
+        } else if (!MappingUtils.isBlankOrNull(fieldMap.getMappingCondition())) {
+            Class<?> conditionClass = MappingUtils.loadClass(fieldMap.getMappingCondition());
+            condition = findByClass(conditionClass, conditions);
+            if (condition == null) {
+                condition = (FieldMappingCondition) ReflectionUtils.newInstance(conditionClass);
+            }
+        } else {
+            return null;
+        }
+
+        fieldMap.setMappingConditionInstance(condition);
+        return condition;
+    }
+
+    /**
+     * Gets collection item discriminator of field mapping. Field mappings
+     * created after mapper initialization are bound on first access.
+     *
+     * @return discriminator instance or <code>null</code> if field mapping
+     *         does not reference collection item discriminator
+     */
+    CollectionItemDiscriminator getCollectionItemDiscriminator(FieldMap fieldMap) {
+        CollectionItemDiscriminator discriminator = fieldMap.getCollectionItemDiscriminatorInstance();
+        if (discriminator != null) {
+            return discriminator;
+        }
+
+        String id = fieldMap.getCollectionItemDiscriminatorId();
+        if (!MappingUtils.isBlankOrNull(id)) {
+            discriminator = discriminatorsWithId != null ? discriminatorsWithId.get(id) : null;
+            if (discriminator == null) {
+                throw new MappingException("Cannot find collection item discriminator instance with id:" + id);
+            }
+        } else if (!MappingUtils.isBlankOrNull(fieldMap.getCollectionItemDiscriminator())) {
+            Class<?> discriminatorClass = MappingUtils.loadClass(fieldMap.getCollectionItemDiscriminator());
+            discriminator = findByClass(discriminatorClass, discriminators);
+            if (discriminator == null) {
+                discriminator = (CollectionItemDiscriminator) ReflectionUtils.newInstance(discriminatorClass);
+            }
+        } else {
+            return null;
+        }
+
+        fieldMap.setCollectionItemDiscriminatorInstance(discriminator);
+        return discriminator;
+    }
+
+    /**
+     * Finds injected instance which can be used in place of given class. The
+     * last matching instance wins.
+     */
+    private static <T> T findByClass(Class<?> type, List<T> instances) {
+        T result = null;
+        if (instances != null) {
+            for (T instance : instances) {
+                if (instance.getClass().isAssignableFrom(type)) {
+                    result = instance;
+                }
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,29 @@
+package org.dozer;
+
+/**
+ * Collection item discriminator which identifies items by keys. Mapper
+ * indexes items of destination collection by key once per collection and
+ * finds destination item of each source item using the index instead of
+ * {@link #discriminate(Class, Object, Class, Class, Object)} call. Items with
+ * <code>null</code> key are never matched.
+ */
+public interface KeyedCollectionItemDiscriminator extends CollectionItemDiscriminator {
+
+    /**
+     * Gets key of source collection item.
+     *
+     * @param sourceItemType type of source item
+     * @param sourceItemValue source item
+     * @return item key; can be <code>null</code>
+     */
+    Object getSourceItemKey(Class<?> sourceItemType, Object sourceItemValue);
+
+    /**
+     * Gets key of destination collection item.
+     *
+     * @param destItemValue destination item
+     * @return item key; can be <code>null</code>
+     */
+    Object getDestItemKey(Object destItemValue);
+
+}
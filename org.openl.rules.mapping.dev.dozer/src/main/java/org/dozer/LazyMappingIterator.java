@@ -0,0 +1,41 @@
+package org.dozer;
+
+import java.util.Iterator;
+
+/**
+ * Iterator which maps next source object only when it is requested, so only
+ * the object being mapped is held in memory. <code>null</code> source object
+ * is mapped to <code>null</code>. Removal is not supported.
+ *
+ * @param <T> destination type
+ */
+abstract class LazyMappingIterator<T> implements Iterator<T> {
+
+    private final Iterator<?> sources;
+
+    LazyMappingIterator(Iterator<?> sources) {
+        this.sources = sources;
+    }
+
+    public boolean hasNext() {
+        return sources.hasNext();
+    }
+
+    public T next() {
+        Object source = sources.next();
+        return source != null ? map(source) : null;
+    }
+
+    public void remove() {
+        throw new UnsupportedOperationException("Mapped objects cannot be removed");
+    }
+
+    /**
+     * Maps source object.
+     *
+     * @param source source object; never <code>null</code>
+     * @return mapped object
+     */
+    protected abstract T map(Object source);
+
+}
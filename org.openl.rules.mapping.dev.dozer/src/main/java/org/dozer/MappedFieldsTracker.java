@@ -44,6 +44,47 @@ public class MappedFieldsTracker {
         }
     }
 
+    /**
+     * Puts mapped object unless source object is already mapped to an object
+     * of given type.
+     *
+     * @param src source object
+     * @param dest destination object
+     * @param destType required destination type
+     * @return object which source object is already mapped to or
+     *         <code>null</code> if given destination object is put
+     */
+    public Object putIfAbsent(Object src, Object dest, Class<?> destType) {
+        Object alreadyMappedValue = getMappedValue(src, destType);
+        if (alreadyMappedValue != null) {
+            return alreadyMappedValue;
+        }
+        put(src, dest);
+        return null;
+    }
+
+    /**
+     * Puts all objects mapped by other tracker into this one.
+     */
+    public void putAll(MappedFieldsTracker other) {
+        other.copyTo(this);
+    }
+
+    /**
+     * Puts all objects mapped by this tracker into target one.
+     */
+    void copyTo(MappedFieldsTracker target) {
+        for (Map.Entry<Object, Map<Integer, Object>> entry : mappedFields.entrySet()) {
+            for (Object dest : entry.getValue().values()) {
+                target.put(entry.getKey(), dest);
+            }
+        }
+    }
+
+    public void clear() {
+        mappedFields.clear();
+    }
+
     public Object getMappedValue(Object src, Class<?> destType) {
         Map<Integer, Object> alreadyMappedValues = mappedFields.get(src);
         if (alreadyMappedValues != null) {
@@ -15,6 +15,10 @@
  */
 package org.dozer;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
 /**
  * Public root interface for performing Dozer mappings from application code.
  * 
@@ -66,4 +70,83 @@ public interface Mapper {
      * @throws MappingException
      */
     void map(Object source, Object destination, MappingContext context) throws MappingException;
+
+    /**
+     * Constructs new instances of destinationClass and performs mapping from
+     * each source object. Class mapping and custom converter are resolved once
+     * per runtime class of source objects.
+     * 
+     * @param sources source objects
+     * @param destinationClass
+     * @param <T>
+     * @return list of mapped objects in the order of source objects;
+     *         <code>null</code> source object is mapped to <code>null</code>
+     * @throws MappingException
+     */
+    <T> List<T> mapAll(Collection<?> sources, Class<T> destinationClass) throws MappingException;
+
+    /**
+     * Constructs new instances of destinationClass and performs mapping from
+     * each source object. Class mapping and custom converter are resolved once
+     * per runtime class of source objects.
+     * 
+     * @param sources source objects
+     * @param destinationClass
+     * @param context
+     * @param <T>
+     * @return list of mapped objects in the order of source objects;
+     *         <code>null</code> source object is mapped to <code>null</code>
+     * @throws MappingException
+     */
+    <T> List<T> mapAll(Collection<?> sources, Class<T> destinationClass, MappingContext context)
+            throws MappingException;
+
+    /**
+     * Constructs new instances of destinationClass, performs mapping from each
+     * source object and passes mapped objects to handler instead of collecting
+     * them.
+     * 
+     * @param sources source objects
+     * @param destinationClass
+     * @param context
+     * @param handler receiver of mapped objects
+     * @param <T>
+     * @throws MappingException
+     */
+    <T> void mapAll(Collection<?> sources,
+            Class<T> destinationClass,
+            MappingContext context,
+            MappingResultHandler<? super T> handler) throws MappingException;
+
+    /**
+     * Returns iterator which constructs new instance of destinationClass and
+     * performs mapping from the next source object each time the next mapped
+     * object is requested. Source objects are not collected, so iterators of
+     * any size can be mapped with bounded memory.
+     * 
+     * @param sources source objects
+     * @param destinationClass
+     * @param <T>
+     * @return iterator of mapped objects in the order of source objects;
+     *         <code>null</code> source object is mapped to <code>null</code>
+     * @throws MappingException
+     */
+    <T> Iterator<T> mapLazily(Iterator<?> sources, Class<T> destinationClass) throws MappingException;
+
+    /**
+     * Returns iterator which constructs new instance of destinationClass and
+     * performs mapping from the next source object each time the next mapped
+     * object is requested. Source objects are not collected, so iterators of
+     * any size can be mapped with bounded memory.
+     * 
+     * @param sources source objects
+     * @param destinationClass
+     * @param context
+     * @param <T>
+     * @return iterator of mapped objects in the order of source objects;
+     *         <code>null</code> source object is mapped to <code>null</code>
+     * @throws MappingException
+     */
+    <T> Iterator<T> mapLazily(Iterator<?> sources, Class<T> destinationClass, MappingContext context)
+            throws MappingException;
 }
\ No newline at end of file
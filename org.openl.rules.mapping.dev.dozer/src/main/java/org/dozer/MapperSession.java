@@ -0,0 +1,269 @@
+package org.dozer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import org.dozer.stats.StatisticType;
+import org.dozer.stats.StatisticsManager;
+import org.dozer.util.MappingUtils;
+import org.dozer.util.MappingValidator;
+
+/**
+ * Mapping session. Session reuses mapping processor and its internal state
+ * between sequential mapping requests, so it is cheaper than creating a new
+ * processor for each request. Nested mapping requests, e.g. from custom
+ * converters, are processed by separate processors.
+ * <p/>
+ * Session is used in one of two modes:
+ * <ul>
+ * <li>session created by {@link DozerBeanMapper#newSession()} is bound to the
+ * thread which has created it and fails if it is used by another thread;</li>
+ * <li>session pooled by mapper has no owner thread. Mapper takes it from the
+ * pool for a single mapping request and returns it afterwards, so it is used
+ * by one thread at a time, but by different threads over its lifetime.</li>
+ * </ul>
+ * In both modes session is not thread-safe and must not be used by several
+ * threads concurrently. Session references its mapper, so it should not be
+ * kept longer than the mapper is used.
+ * 
+ * @see DozerBeanMapper#newSession()
+ */
+public final class MapperSession implements Mapper {
+
+    private final DozerBeanMapper mapper;
+    private final StatisticsManager statsMgr;
+    private final MappingProcessor processor;
+    private final Thread owner;
+
+    private boolean active;
+
+    /**
+     * Creates session.
+     * 
+     * @param mapper mapper which creates processors
+     * @param statsMgr statistics manager
+     * @param owner thread session is bound to; <code>null</code> if session
+     *            is pooled by mapper and is used by one thread at a time
+     */
+    MapperSession(DozerBeanMapper mapper, StatisticsManager statsMgr, Thread owner) {
+        this.mapper = mapper;
+        this.statsMgr = statsMgr;
+        this.processor = mapper.createMappingProcessor();
+        this.owner = owner;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <T> T map(Object source, Class<T> destinationClass) throws MappingException {
+        MappingProcessor current = acquire();
+        long start = System.currentTimeMillis();
+        try {
+            T result = current.map(source, destinationClass);
+            mappingSucceeded(start);
+            return result;
+        } catch (Throwable e) {
+            mappingFailed(e, source, destinationClass);
+            throw e;
+        } finally {
+            release(current);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void map(Object source, Object destination) throws MappingException {
+        MappingProcessor current = acquire();
+        long start = System.currentTimeMillis();
+        try {
+            current.map(source, destination);
+            mappingSucceeded(start);
+        } catch (Throwable e) {
+            mappingFailed(e, source, destination);
+            throw e;
+        } finally {
+            release(current);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <T> T map(Object source, Class<T> destinationClass, MappingContext context) throws MappingException {
+        MappingProcessor current = acquire();
+        long start = System.currentTimeMillis();
+        try {
+            T result = current.map(source, destinationClass, context);
+            mappingSucceeded(start);
+            return result;
+        } catch (Throwable e) {
+            mappingFailed(e, source, destinationClass);
+            throw e;
+        } finally {
+            release(current);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void map(Object source, Object destination, MappingContext context) throws MappingException {
+        MappingProcessor current = acquire();
+        long start = System.currentTimeMillis();
+        try {
+            current.map(source, destination, context);
+            mappingSucceeded(start);
+        } catch (Throwable e) {
+            mappingFailed(e, source, destination);
+            throw e;
+        } finally {
+            release(current);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <T> List<T> mapAll(Collection<?> sources, Class<T> destinationClass) throws MappingException {
+        return mapAll(sources, destinationClass, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <T> List<T> mapAll(Collection<?> sources, Class<T> destinationClass, MappingContext context)
+            throws MappingException {
+        final List<T> results = new ArrayList<T>(sources != null ? sources.size() : 0);
+        mapAll(sources, destinationClass, context, new MappingResultHandler<T>() {
+            public void handle(T result) {
+                results.add(result);
+            }
+        });
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Each source object is mapped as a separate mapping request, but
+     * processor is acquired only once for the whole batch.
+     */
+    public <T> void mapAll(Collection<?> sources,
+            Class<T> destinationClass,
+            MappingContext context,
+            MappingResultHandler<? super T> handler) throws MappingException {
+        MappingProcessor current = acquire();
+        long start = System.currentTimeMillis();
+        try {
+            current.mapAll(sources, destinationClass, context, handler, true);
+            mappingSucceeded(start, sources.size());
+        } catch (Throwable e) {
+            mappingFailed(e, sources, destinationClass);
+            throw e;
+        } finally {
+            release(current);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public <T> Iterator<T> mapLazily(Iterator<?> sources, Class<T> destinationClass) throws MappingException {
+        return mapLazily(sources, destinationClass, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Each source object is mapped as a separate mapping request when the
+     * next mapped object is requested, so nothing but class mapping resolved
+     * for the previous object is kept between requests. Iterator can be used
+     * only by the thread session is bound to.
+     */
+    public <T> Iterator<T> mapLazily(Iterator<?> sources,
+            final Class<T> destinationClass,
+            MappingContext context) throws MappingException {
+        MappingValidator.validateMappingRequest(sources, destinationClass);
+
+        final MappingContext lazyContext = context != null ? context : new MappingContext();
+        final MappingProcessor.BatchMapping batch = new MappingProcessor.BatchMapping();
+        return new LazyMappingIterator<T>(sources) {
+            @Override
+            protected T map(Object source) {
+                MappingProcessor current = acquire();
+                long start = System.currentTimeMillis();
+                try {
+                    T result = current.mapBatchElement(source, destinationClass, batch, lazyContext);
+                    mappingSucceeded(start);
+                    return result;
+                } catch (Throwable e) {
+                    mappingFailed(e, source, destinationClass);
+                    throw e;
+                } finally {
+                    release(current);
+                }
+            }
+        };
+    }
+
+    private MappingProcessor acquire() {
+        if (owner != null && Thread.currentThread() != owner) {
+            MappingUtils.throwMappingException("Mapper session cannot be used by thread " + Thread.currentThread()
+                .getName() + ". It is bound to thread " + owner.getName());
+        }
+        if (active) {
+            // nested mapping request must not share state with the outer one
+            return mapper.createMappingProcessor();
+        }
+        active = true;
+        return processor;
+    }
+
+    private void release(MappingProcessor current) {
+        if (current == processor) {
+            // do not hold references to mapped objects between requests
+            processor.reset();
+            active = false;
+        }
+    }
+
+    private void mappingSucceeded(long start) {
+        mappingSucceeded(start, 1);
+    }
+
+    private void mappingSucceeded(long start, int count) {
+        if (statsMgr.isStatisticsEnabled()) {
+            long stop = System.currentTimeMillis();
+            statsMgr.increment(StatisticType.MAPPING_SUCCESS_COUNT, count);
+            statsMgr.increment(StatisticType.MAPPING_TIME, (stop - start));
+        }
+    }
+
+    private void mappingFailed(Throwable e, Object source, Object destination) {
+        if (statsMgr.isStatisticsEnabled()) {
+            statsMgr.increment(StatisticType.MAPPING_FAILURE_COUNT);
+            Throwable rootCause = MappingUtils.getRootCause(e);
+            statsMgr.increment(StatisticType.MAPPING_FAILURE_EX_TYPE_COUNT, rootCause.getClass());
+
+            // Determine src and dest class name. The combination of src and
+            // dest class name will be used for the statistic entry key.
+            String srcClassName = null;
+            if (source != null) {
+                srcClassName = source.getClass().getName();
+            }
+            String destClassName = null;
+            if (destination != null) {
+                if (destination instanceof Class) {
+                    destClassName = ((Class<?>) destination).getName();
+                } else {
+                    destClassName = destination.getClass().getName();
+                }
+            }
+            statsMgr.increment(StatisticType.MAPPING_FAILURE_TYPE_COUNT, srcClassName + "-->" + destClassName);
+        }
+    }
+
+}
@@ -1,13 +1,30 @@
 package org.dozer;
 
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.openl.rules.mapping.MappingParameters;
 
 /**
  * The class that represents context of mapping process. Intended to satisfy
  * user needs to change mapping business logic at runtime.
+ * <p/>
+ * Besides user defined parameters context holds typed slots; slot values are
+ * stored in an array by slot index, so reading or writing a slot does not
+ * involve hashing.
  */
 public class MappingContext {
 
+    /**
+     * Key of mapping parameter which holds parent objects of mapped field.
+     * 
+     * @deprecated use {@link #getParentObjects()} instead
+     */
+    @Deprecated
+    public static final String PARENT_OBJECTS_PARAM = "PARENTOBJECTS";
+
+    private static final Object[] NO_SLOTS = new Object[0];
+
     /**
      * Mapping identifier.
      */
@@ -18,6 +35,31 @@ public class MappingContext {
      */
     private MappingParameters userParams;
 
+    /**
+     * Source and destination objects which contain currently mapped field.
+     */
+    private MappingParentObjects parentObjects;
+
+    /**
+     * Values of typed slots.
+     */
+    private Object[] slots = NO_SLOTS;
+
+    public MappingContext() {
+    }
+
+    /**
+     * Creates a copy of mapping context. Mapping parameters and slots are
+     * copied too, so the copy can be used by another thread.
+     */
+    public MappingContext(MappingContext context) {
+        this.mapId = context.mapId;
+        if (context.userParams != null) {
+            this.userParams = new MappingParameters(context.userParams);
+        }
+        this.slots = context.slots.length == 0 ? NO_SLOTS : context.slots.clone();
+    }
+
     public String getMapId() {
         return mapId;
     }
@@ -34,4 +76,85 @@ public class MappingContext {
         this.userParams = userParams;
     }
 
+    /**
+     * Gets source and destination objects which contain currently mapped
+     * field.
+     * 
+     * @return parent objects or <code>null</code> if no field is being mapped
+     */
+    public MappingParentObjects getParentObjects() {
+        return parentObjects;
+    }
+
+    /**
+     * Sets parent objects of mapped fields. Parent objects are also published
+     * as {@link #PARENT_OBJECTS_PARAM} mapping parameter for converters which
+     * read them from parameters.
+     */
+    void setParentObjects(MappingParentObjects parentObjects) {
+        this.parentObjects = parentObjects;
+        if (userParams != null) {
+            if (parentObjects != null) {
+                userParams.put(PARENT_OBJECTS_PARAM, parentObjects);
+            } else {
+                userParams.remove(PARENT_OBJECTS_PARAM);
+            }
+        }
+    }
+
+    /**
+     * Gets value of typed slot.
+     * 
+     * @param slot slot
+     * @return slot value or <code>null</code> if value is not set
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Slot<T> slot) {
+        return slot.index < slots.length ? (T) slots[slot.index] : null;
+    }
+
+    /**
+     * Sets value of typed slot.
+     * 
+     * @param slot slot
+     * @param value slot value
+     */
+    public <T> void set(Slot<T> slot, T value) {
+        if (slot.index >= slots.length) {
+            if (value == null) {
+                return;
+            }
+            slots = Arrays.copyOf(slots, slot.index + 1);
+        }
+        slots[slot.index] = value;
+    }
+
+    /**
+     * Typed slot of mapping context. Slots are intended to be created once and
+     * kept in static fields; each slot gets its own index.
+     * 
+     * @param <T> type of slot value
+     */
+    public static final class Slot<T> {
+
+        private static final AtomicInteger count = new AtomicInteger();
+
+        private final String name;
+        private final int index;
+
+        public Slot(String name) {
+            this.name = name;
+            this.index = count.getAndIncrement();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
 }
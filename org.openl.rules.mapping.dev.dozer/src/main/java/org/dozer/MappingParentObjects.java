@@ -1,23 +1,28 @@
 package org.dozer;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Stack;
 
 public class MappingParentObjects {
-    private Stack<Object> srcObjects = new Stack<Object>();
-    private Stack<Object> dstObjects = new Stack<Object>();
+    private final List<Object> srcObjects = new ArrayList<Object>();
+    private final List<Object> dstObjects = new ArrayList<Object>();
 
     protected MappingParentObjects() {
     }
 
     protected void push(Object src, Object dest) {
-        srcObjects.push(src);
-        dstObjects.push(dest);
+        srcObjects.add(src);
+        dstObjects.add(dest);
     }
 
     protected void pop() {
-        srcObjects.pop();
-        dstObjects.pop();
+        srcObjects.remove(srcObjects.size() - 1);
+        dstObjects.remove(dstObjects.size() - 1);
+    }
+
+    protected void clear() {
+        srcObjects.clear();
+        dstObjects.clear();
     }
 
     public List<Object> getSourceParents() {
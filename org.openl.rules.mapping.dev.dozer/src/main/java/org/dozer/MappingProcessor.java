@@ -20,10 +20,14 @@ import static org.dozer.util.DozerConstants.ITERATE;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -32,8 +36,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.Stack;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
+import org.apache.commons.beanutils.Converter;
 import org.apache.commons.lang.StringUtils;
 import org.dozer.cache.Cache;
 import org.dozer.cache.CacheKeyFactory;
@@ -44,21 +51,33 @@ import org.dozer.classmap.ClassMapBuilder;
 import org.dozer.classmap.ClassMappings;
 import org.dozer.classmap.Configuration;
 import org.dozer.classmap.CopyByReferenceContainer;
+import org.dozer.classmap.DestPathPrefix;
+import org.dozer.classmap.FieldMapPlan;
+import org.dozer.classmap.MappingPlan;
 import org.dozer.classmap.RelationshipType;
+import org.dozer.classmap.SourcePathPrefix;
+import org.dozer.converters.CustomConverterContainer;
 import org.dozer.converters.DateFormatContainer;
 import org.dozer.converters.PrimitiveOrWrapperConverter;
 import org.dozer.event.DozerEvent;
 import org.dozer.event.DozerEventManager;
 import org.dozer.event.DozerEventType;
 import org.dozer.event.EventManager;
-import org.dozer.factory.BeanCreationDirective;
+import org.dozer.factory.ArgumentsInstantiator;
 import org.dozer.factory.DestBeanCreator;
+import org.dozer.fieldmap.CompiledFieldMapping;
 import org.dozer.fieldmap.CustomGetSetMethodFieldMap;
 import org.dozer.fieldmap.ExcludeFieldMap;
 import org.dozer.fieldmap.FieldMap;
+import org.dozer.fieldmap.FieldMapCompiler;
+import org.dozer.fieldmap.GenericFieldMap;
 import org.dozer.fieldmap.HintContainer;
 import org.dozer.fieldmap.MapFieldMap;
 import org.dozer.fieldmap.MultiSourceFieldMap;
+import org.dozer.propertydescriptor.DeepFieldPath;
+import org.dozer.propertydescriptor.DozerPropertyDescriptor;
+import org.dozer.propertydescriptor.GetterSetterPropertyDescriptor;
+import org.dozer.propertydescriptor.JavaBeanPropertyDescriptor;
 import org.dozer.stats.StatisticType;
 import org.dozer.stats.StatisticsManager;
 import org.dozer.util.CollectionUtils;
@@ -67,7 +86,6 @@ import org.dozer.util.IteratorUtils;
 import org.dozer.util.LogMsgFactory;
 import org.dozer.util.MappingUtils;
 import org.dozer.util.MappingValidator;
-import org.dozer.util.ReflectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -75,8 +93,8 @@ import org.slf4j.LoggerFactory;
  * Internal Mapping Engine. Not intended for direct use by Application code.
  * This class does most of the heavy lifting and is very recursive in nature.
  * <p/>
- * This class is not thread-safe and is instantiated for each new mapping
- * request.
+ * This class is not thread-safe. It is instantiated for each mapping session
+ * and can be reused for sequential mapping requests of the same thread.
  *
  * @author garsombke.franz
  * @author sullins.ben
@@ -91,28 +109,32 @@ public class MappingProcessor implements Mapper {
     private final ClassMappings classMappings;
     private final Configuration globalConfiguration;
     private final List<CustomConverter> customConverterObjects;
-    private final Map<String, CustomConverter> customConverterObjectsWithId;
+    private final FieldMapReferenceResolver referenceResolver;
     private final StatisticsManager statsMgr;
     private final EventManager eventMgr;
     private final CustomFieldMapper customFieldMapper;
 
-    private final List<FieldMappingCondition> conditionObjects;
-    private final Map<String, FieldMappingCondition> conditionObjectsWithId;
+    private final boolean compiledMappersEnabled;
 
-    private final List<CollectionItemDiscriminator> collectionItemDiscriminatorObjects;
-    private final Map<String, CollectionItemDiscriminator> collectionItemDiscriminatorObjectsWithId;
+    private final ForkJoinPool parallelPool;
+    private final int parallelThreshold;
 
-    private final MappedFieldsTracker mappedFields = new MappedFieldsTracker();
+    private final MappedFieldsTracker mappedFields;
 
-    private final Cache converterByDestTypeCache;
     private final Cache superTypeCache;
     private final PrimitiveOrWrapperConverter primitiveConverter = new PrimitiveOrWrapperConverter();
 
-    private Stack<FieldMap> fieldMapStack = new Stack<FieldMap>();
-    private MappingParentObjects parentObjects = new MappingParentObjects();
+    private final ArrayDeque<FieldMap> fieldMapStack = new ArrayDeque<FieldMap>();
+    private final MappingParentObjects parentObjects = new MappingParentObjects();
 
     private String srcFullFieldMap, dstFullFieldMap;
 
+    /**
+     * Index of collection which is currently merged. Used to find destination
+     * items of {@link KeyedCollectionItemDiscriminator}.
+     */
+    private CollectionMergeIndex collectionMergeIndex;
+
     /**
      * This is converter for return mapId by srcFieldValue and destFieldValue.
      */
@@ -125,11 +147,10 @@ public class MappingProcessor implements Mapper {
             List<CustomConverter> customConverterObjects,
             DozerEventManager eventManager,
             CustomFieldMapper customFieldMapper,
-            Map<String, CustomConverter> customConverterObjectsWithId,
-            List<FieldMappingCondition> conditionObjects,
-            Map<String, FieldMappingCondition> conditionObjectsWithId,
-            List<CollectionItemDiscriminator> collectionItemDiscriminatorObjects,
-            Map<String, CollectionItemDiscriminator> collectionItemDiscriminatorObjectsWithId) {
+            FieldMapReferenceResolver referenceResolver,
+            boolean compiledMappersEnabled,
+            ForkJoinPool parallelPool,
+            int parallelThreshold) {
 
         this.classMappings = classMappings;
         this.globalConfiguration = globalConfiguration;
@@ -137,13 +158,13 @@ public class MappingProcessor implements Mapper {
         this.customConverterObjects = customConverterObjects;
         this.eventMgr = eventManager;
         this.customFieldMapper = customFieldMapper;
-        this.converterByDestTypeCache = cacheMgr.getCache(DozerCacheType.CONVERTER_BY_DEST_TYPE.name());
         this.superTypeCache = cacheMgr.getCache(DozerCacheType.SUPER_TYPE_CHECK.name());
-        this.customConverterObjectsWithId = customConverterObjectsWithId;
-        this.conditionObjects = conditionObjects;
-        this.conditionObjectsWithId = conditionObjectsWithId;
-        this.collectionItemDiscriminatorObjects = collectionItemDiscriminatorObjects;
-        this.collectionItemDiscriminatorObjectsWithId = collectionItemDiscriminatorObjectsWithId;
+        this.referenceResolver = referenceResolver;
+        this.compiledMappersEnabled = compiledMappersEnabled;
+        this.parallelPool = parallelPool;
+        this.parallelThreshold = parallelThreshold;
+        this.mappedFields = new MappedFieldsTracker();
+        Map<String, CustomConverter> customConverterObjectsWithId = referenceResolver.getCustomConvertersWithId();
         if (customConverterObjectsWithId != null) {
             for (CustomConverter converter : customConverterObjectsWithId.values()) {
                 if (converter instanceof MapIdConverterAggregator) {
@@ -153,32 +174,80 @@ public class MappingProcessor implements Mapper {
         }
     }
 
+    /**
+     * Creates processor which maps a part of collection items of parent
+     * processor in another thread. Created processor registers mapped objects
+     * in given tracker which is shared by all processors of the same parallel
+     * mapping; parent objects are visible to created processor.
+     */
+    private MappingProcessor(MappingProcessor parent, MappedFieldsTracker mappedFields) {
+        this.classMappings = parent.classMappings;
+        this.globalConfiguration = parent.globalConfiguration;
+        this.statsMgr = parent.statsMgr;
+        this.customConverterObjects = parent.customConverterObjects;
+        this.eventMgr = parent.eventMgr;
+        this.customFieldMapper = parent.customFieldMapper;
+        this.superTypeCache = parent.superTypeCache;
+        this.referenceResolver = parent.referenceResolver;
+        this.compiledMappersEnabled = parent.compiledMappersEnabled;
+        this.parallelPool = parent.parallelPool;
+        this.parallelThreshold = parent.parallelThreshold;
+        this.mappedFields = mappedFields;
+        this.mapIdConverterAggregator = parent.mapIdConverterAggregator;
+
+        List<Object> srcParents = parent.parentObjects.getSourceParents();
+        List<Object> destParents = parent.parentObjects.getDestParents();
+        for (int i = 0; i < srcParents.size(); i++) {
+            parentObjects.push(srcParents.get(i), destParents.get(i));
+        }
+    }
+
+    /**
+     * Clears state of the last mapping request, so processor can be reused for
+     * the next one.
+     */
+    void reset() {
+        mappedFields.clear();
+        fieldMapStack.clear();
+        parentObjects.clear();
+        srcFullFieldMap = null;
+        dstFullFieldMap = null;
+        collectionMergeIndex = null;
+    }
+
     /* Mapper Interface Implementation */
 
     static void removeOrphans(Collection<?> mappedElements, List<Object> result) {
-        for (Iterator<?> iterator = result.iterator(); iterator.hasNext();) {
-            Object object = iterator.next();
-            if (!mappedElements.contains(object)) {
-                iterator.remove();
+        Set<Object> mapped = new HashSet<Object>(mappedElements);
+        Set<Object> retained = new HashSet<Object>();
+        List<Object> retainedList = new ArrayList<Object>(mappedElements.size());
+        for (Object object : result) {
+            if (mapped.contains(object)) {
+                retained.add(object);
+                retainedList.add(object);
             }
         }
         for (Object object : mappedElements) {
-            if (!result.contains(object)) {
-                result.add(object);
+            if (retained.add(object)) {
+                retainedList.add(object);
             }
         }
+        result.clear();
+        result.addAll(retainedList);
     }
 
-    static List<?> prepareDestinationList(Collection<?> srcCollectionValue, Object field) {
+    static List<?> prepareDestinationList(Iterable<?> srcCollectionValue, Object field) {
+        // size of iterator source is unknown
+        int capacity = srcCollectionValue instanceof Collection ? ((Collection<?>) srcCollectionValue).size() : 10;
         if (field == null) {
-            return new ArrayList<Object>(srcCollectionValue.size());
+            return new ArrayList<Object>(capacity);
         } else {
             if (CollectionUtils.isList(field.getClass())) {
                 return (List<?>) field;
             } else if (CollectionUtils.isArray(field.getClass())) {
                 return new ArrayList<Object>(Arrays.asList((Object[]) field));
             } else { // assume it is neither - safest way is to create new List
-                return new ArrayList<Object>(srcCollectionValue.size());
+                return new ArrayList<Object>(capacity);
             }
         }
     }
@@ -203,6 +272,100 @@ public class MappingProcessor implements Mapper {
         map(srcObj, null, destObj, getContextOrNewEmptyContext(context));
     }
 
+    public <T> List<T> mapAll(final Collection<?> srcObjs, final Class<T> destClass) {
+        return mapAll(srcObjs, destClass, null);
+    }
+
+    public <T> List<T> mapAll(final Collection<?> srcObjs, final Class<T> destClass, final MappingContext context) {
+        MappingValidator.validateMappingRequest(srcObjs, destClass);
+        final List<T> results = new ArrayList<T>(srcObjs.size());
+        mapAll(srcObjs, destClass, context, new MappingResultHandler<T>() {
+            public void handle(T result) {
+                results.add(result);
+            }
+        }, false);
+        return results;
+    }
+
+    public <T> void mapAll(final Collection<?> srcObjs,
+            final Class<T> destClass,
+            final MappingContext context,
+            final MappingResultHandler<? super T> handler) {
+        mapAll(srcObjs, destClass, context, handler, false);
+    }
+
+    /**
+     * Maps each object of source collection to a new instance of destination
+     * class. Class mapping and custom converter are resolved once for each
+     * runtime class of source objects; mapping context is shared by all
+     * objects.
+     *
+     * @param srcObjs source objects
+     * @param destClass destination class
+     * @param context mapping context
+     * @param handler receiver of mapped objects
+     * @param isolated if <code>true</code> processor state is cleared after
+     *            each object, so every object is mapped as a separate mapping
+     *            request; must be <code>false</code> for nested requests
+     */
+    <T> void mapAll(Collection<?> srcObjs,
+            Class<T> destClass,
+            MappingContext context,
+            MappingResultHandler<? super T> handler,
+            boolean isolated) {
+        MappingValidator.validateMappingRequest(srcObjs, destClass);
+        if (handler == null) {
+            MappingUtils.throwMappingException("Mapping result handler must not be null");
+        }
+
+        MappingContext batchContext = getContextOrNewEmptyContext(context);
+        BatchMapping batch = new BatchMapping();
+        for (Object srcObj : srcObjs) {
+            T result = null;
+            if (srcObj != null) {
+                try {
+                    result = mapBatchElement(srcObj, destClass, batch, batchContext);
+                } finally {
+                    if (isolated) {
+                        reset();
+                    }
+                }
+            }
+            handler.handle(result);
+        }
+    }
+
+    public <T> Iterator<T> mapLazily(final Iterator<?> srcObjs, final Class<T> destClass) {
+        return mapLazily(srcObjs, destClass, null);
+    }
+
+    public <T> Iterator<T> mapLazily(final Iterator<?> srcObjs, final Class<T> destClass, MappingContext context) {
+        MappingValidator.validateMappingRequest(srcObjs, destClass);
+
+        final MappingContext lazyContext = getContextOrNewEmptyContext(context);
+        final BatchMapping batch = new BatchMapping();
+        return new LazyMappingIterator<T>(srcObjs) {
+            @Override
+            protected T map(Object srcObj) {
+                return mapBatchElement(srcObj, destClass, batch, lazyContext);
+            }
+        };
+    }
+
+    /**
+     * Maps source object to a new instance of destination class as a part of
+     * batch.
+     *
+     * @param srcObj source object
+     * @param destClass destination class
+     * @param batch class mapping resolved for previous object of batch
+     * @param context mapping context
+     * @return new destination object
+     */
+    <T> T mapBatchElement(Object srcObj, Class<T> destClass, BatchMapping batch, MappingContext context) {
+        return map(srcObj, destClass, null, batch, context);
+    }
+
     private MappingContext getContextOrNewEmptyContext(MappingContext contextFromParams) {
         return contextFromParams == null ? new MappingContext() : contextFromParams;
     }
@@ -217,6 +380,26 @@ public class MappingProcessor implements Mapper {
      * @return new or updated destination object
      */
     private <T> T map(Object srcObj, final Class<T> destClass, final T destObj, MappingContext context) {
+        return map(srcObj, destClass, destObj, null, context);
+    }
+
+    /**
+     * Maps source object; class mapping can be taken from batch if it is
+     * already resolved for the same source class.
+     *
+     * @param srcObj source object
+     * @param destClass destination class
+     * @param destObj destination object
+     * @param batch class mapping resolved for previous object of batch;
+     *            <code>null</code> if object is not mapped as a part of batch
+     * @param <T> destination object type
+     * @return new or updated destination object
+     */
+    private <T> T map(Object srcObj,
+            final Class<T> destClass,
+            final T destObj,
+            BatchMapping batch,
+            MappingContext context) {
         srcObj = MappingUtils.deProxy(srcObj);
 
         Class<T> destType;
@@ -232,21 +415,32 @@ public class MappingProcessor implements Mapper {
         ClassMap classMap = null;
 
         try {
-            // Find appropriate class mapping.
-            classMap = getClassMap(srcObj.getClass(), destType, getMapId(context));
+            CustomConverter converter;
+            if (batch != null && batch.srcClass == srcObj.getClass()) {
+                classMap = batch.classMap;
+                converter = batch.converter;
+            } else {
+                // Find appropriate class mapping.
+                classMap = getClassMap(srcObj.getClass(), destType, getMapId(context));
+
+                // Check to see if custom converter has been specified for this
+                // mapping combination. If so, just use it.
+                converter = MappingUtils.findCustomConverter(customConverterObjects,
+                    classMap.getCustomConverters(),
+                    srcObj.getClass(),
+                    destType);
+
+                if (batch != null) {
+                    batch.srcClass = srcObj.getClass();
+                    batch.classMap = classMap;
+                    batch.converter = converter;
+                }
+            }
 
             eventMgr.fireEvent(new DozerEvent(DozerEventType.MAPPING_STARTED, classMap, null, srcObj, result, null));
 
             // TODO Check if any proxy issues are here
 
-            // Check to see if custom converter has been specified for this
-            // mapping combination. If so, just use it.
-            CustomConverter converter = MappingUtils.findCustomConverter(converterByDestTypeCache,
-                customConverterObjects,
-                classMap.getCustomConverters(),
-                srcObj.getClass(),
-                destType);
-
             if (converter != null) {
                 return (T) mapUsingCustomConverterInstance(converter,
                     srcObj.getClass(),
@@ -258,20 +452,25 @@ public class MappingProcessor implements Mapper {
                     true);
             }
 
-            if (result == null) {
+            boolean createFromValues = result == null && !classMap.getDestClassCreatorParameters().isEmpty();
+            boolean created = false;
+            if (result == null && !createFromValues) {
                 result = (T) DestBeanCreator.create(context.getParams(),
-                    new BeanCreationDirective(srcObj,
-                        classMap.getSrcClassToMap(),
-                        classMap.getDestClassToMap(),
-                        destType,
-                        classMap.getDestClassBeanFactory(),
-                        classMap.getDestClassBeanFactoryId(),
-                        classMap.getDestClassCreateMethod()));
+                    classMap.getBeanFactories(),
+                    srcObj,
+                    classMap.getSrcClassToMap(),
+                    classMap.getDestClassToMap(),
+                    destType,
+                    classMap.getDestClassBeanFactory(),
+                    classMap.getDestClassBeanFactoryId(),
+                    classMap.getDestClassCreateMethod());
+                created = true;
             }
 
             // If this is a nested MapperAware conversion this mapping can be
             // already processed
-            Object alreadyMappedValue = mappedFields.getMappedValue(srcObj, destClass);
+            Object alreadyMappedValue = created ? mappedFields.putIfAbsent(srcObj, result, destClass)
+                                                : mappedFields.getMappedValue(srcObj, destClass);
             if (alreadyMappedValue != null) {
                 return (T) alreadyMappedValue;
             }
@@ -279,7 +478,11 @@ public class MappingProcessor implements Mapper {
             // mapId parameter is null for this invocation because we already
             // used it to find
             // appropriate mapping description.
-            map(classMap, srcObj, result, false, getMapId(context), context);
+            if (createFromValues) {
+                result = (T) mapToCreatedObject(classMap, srcObj, getMapId(context), context);
+            } else {
+                map(classMap, srcObj, result, getMapId(context), context);
+            }
         } catch (Throwable e) {
             MappingUtils.throwMappingException(e);
         }
@@ -295,14 +498,12 @@ public class MappingProcessor implements Mapper {
      * @param classMap
      * @param srcObj
      * @param destObj
-     * @param bypassSuperMappings
      * @param mapId
      * @param context
      */
     private void map(ClassMap classMap,
             Object srcObj,
             Object destObj,
-            boolean bypassSuperMappings,
             String mapId,
             MappingContext context) {
 
@@ -335,8 +536,7 @@ public class MappingProcessor implements Mapper {
 
         // Check to see if custom converter has been specified for this mapping
         // combination. If so, just use it.
-        CustomConverter converter = MappingUtils.findCustomConverter(converterByDestTypeCache,
-            customConverterObjects,
+        CustomConverter converter = MappingUtils.findCustomConverter(customConverterObjects,
             classMap.getCustomConverters(),
             srcClass,
             destClass);
@@ -345,44 +545,125 @@ public class MappingProcessor implements Mapper {
             return;
         }
 
-        // Now check for super class mappings. Process super class mappings
-        // first.
-        List<String> mappedParentFields = null;
-        if (!bypassSuperMappings) {
-            mappedParentFields = mapParentFields(classMap, srcObj, destObj, mapId, context);
+        // Mapping plan already contains field mappings of super class
+        // mappings which go first.
+        MappingPlan mappingPlan = getMappingPlan(classMap, srcClass, destClass, mapId);
+        // Values of deep source path prefixes are read once per source object
+        Object[] srcPathValues = srcObj != destObj ? mappingPlan.createSrcPathValues() : null;
+        // Intermediate objects of deep destination paths are resolved once per
+        // destination object
+        Object[] destPathValues = mappingPlan.createDestPathValues();
+        // Parent objects are published once per mapping request of this
+        // processor; nested objects share the same stack.
+        MappingParentObjects outerParentObjects = context != null ? context.getParentObjects() : parentObjects;
+        if (outerParentObjects != parentObjects) {
+            context.setParentObjects(parentObjects);
         }
-
-        Collection<FieldMap> fieldMappings = getFieldMappings(classMap, mapId);
-        // Perform mappings for each field. Iterate through Fields Maps for this
-        // class mapping
-        for (FieldMap fieldMapping : fieldMappings) {
-            // Bypass field if it has already been mapped as part of super class
-            // mappings.
-            String key = MappingUtils.getMappedParentFieldKey(destObj, fieldMapping);
-            if (mappedParentFields != null && mappedParentFields.contains(key)) {
-                continue;
+        try {
+            // Perform mappings for each field. Iterate through Fields Maps for
+            // this class mapping
+            for (FieldMapPlan fieldMapPlan : mappingPlan.getFieldMapPlans()) {
+                mapPlannedField(fieldMapPlan, srcObj, destObj, srcPathValues, destPathValues, null, context);
             }
+        } finally {
+            if (outerParentObjects != parentObjects) {
+                context.setParentObjects(outerParentObjects);
+            }
+        }
+    }
+
+    /**
+     * Creates destination object from mapped values of source object. Field
+     * mappings which provide creator arguments are applied first, then the
+     * object is created and the rest of field mappings are applied to it.
+     *
+     * @param classMap class mapping which defines creator parameters
+     * @param srcObj source object
+     * @param mapId map id
+     * @param context mapping context
+     * @return created destination object
+     */
+    private Object mapToCreatedObject(ClassMap classMap, Object srcObj, String mapId, MappingContext context) {
+        srcObj = MappingUtils.deProxy(srcObj);
+
+        Class<?> srcClass = srcObj.getClass();
+        Class<?> destClass = classMap.getDestClassToMap();
 
-            // put the field map into the stack to maintain full fieldmap info
-            // PUSH field maps into the stack
-            if (log.isTraceEnabled()) {
-                updateFullFieldMapInfo(fieldMapping);
+        // Check to see if custom converter has been specified for this mapping
+        // combination. If so, just use it.
+        CustomConverter converter = MappingUtils.findCustomConverter(customConverterObjects,
+            classMap.getCustomConverters(),
+            srcClass,
+            destClass);
+        if (converter != null) {
+            return mapUsingCustomConverterInstance(converter, srcClass, srcObj, destClass, null, null, context, true);
+        }
+
+        MappingPlan mappingPlan = getMappingPlan(classMap, srcClass, destClass, mapId);
+        ArgumentsInstantiator creator = mappingPlan.getCreator();
+        Object[] srcPathValues = mappingPlan.createSrcPathValues();
+        Object[] creatorArguments = creator.newArguments();
+
+        Object destObj;
+        MappingParentObjects outerParentObjects = context != null ? context.getParentObjects() : parentObjects;
+        if (outerParentObjects != parentObjects) {
+            context.setParentObjects(parentObjects);
+        }
+        try {
+            // Destination object doesn't exist yet, so values of creator
+            // arguments are collected first
+            for (FieldMapPlan fieldMapPlan : mappingPlan.getFieldMapPlans()) {
+                if (fieldMapPlan.getCreatorParameterIndex() >= 0) {
+                    mapPlannedField(fieldMapPlan, srcObj, null, srcPathValues, null, creatorArguments, context);
+                }
             }
 
-            parentObjects.push(srcObj, destObj);
+            destObj = creator.create(creatorArguments);
+            // the same source object can be mapped by another parallel task
+            // meanwhile
+            Object alreadyMappedValue = mappedFields.putIfAbsent(srcObj, destObj, destClass);
+            if (alreadyMappedValue != null) {
+                return alreadyMappedValue;
+            }
 
-            if (context != null && context.getParams() != null) {
-                context.getParams().put("PARENTOBJECTS", parentObjects);
+            Object[] destPathValues = mappingPlan.createDestPathValues();
+            for (FieldMapPlan fieldMapPlan : mappingPlan.getFieldMapPlans()) {
+                if (fieldMapPlan.getCreatorParameterIndex() < 0) {
+                    mapPlannedField(fieldMapPlan, srcObj, destObj, srcPathValues, destPathValues, null, context);
+                }
+            }
+        } finally {
+            if (outerParentObjects != parentObjects) {
+                context.setParentObjects(outerParentObjects);
             }
+        }
 
-            mapField(fieldMapping, srcObj, destObj, context);
+        return destObj;
+    }
 
-            parentObjects.pop();
+    private void mapPlannedField(FieldMapPlan fieldMapPlan,
+            Object srcObj,
+            Object destObj,
+            Object[] srcPathValues,
+            Object[] destPathValues,
+            Object[] creatorArguments,
+            MappingContext context) {
+        // put the field map into the stack to maintain full fieldmap
+        // info
+        // PUSH field maps into the stack
+        if (log.isTraceEnabled()) {
+            updateFullFieldMapInfo(fieldMapPlan.getFieldMap());
+        }
 
-            // POP the recent mapping out from the stack
-            if (log.isTraceEnabled()) {
-                fieldMapStack.pop();
-            }
+        parentObjects.push(srcObj, destObj);
+
+        mapField(fieldMapPlan, srcObj, destObj, srcPathValues, destPathValues, creatorArguments, context);
+
+        parentObjects.pop();
+
+        // POP the recent mapping out from the stack
+        if (log.isTraceEnabled()) {
+            fieldMapStack.pop();
         }
     }
 
@@ -390,13 +671,13 @@ public class MappingProcessor implements Mapper {
     private void updateFullFieldMapInfo(FieldMap fieldMap) {
         fieldMapStack.push(fieldMap);
 
-        StringBuffer src, dst;
+        StringBuilder src, dst;
 
-        src = new StringBuffer();
-        dst = new StringBuffer();
+        src = new StringBuilder();
+        dst = new StringBuilder();
 
-        if (!fieldMapStack.empty()) {
-            Iterator<FieldMap> i = fieldMapStack.iterator();
+        if (!fieldMapStack.isEmpty()) {
+            Iterator<FieldMap> i = fieldMapStack.descendingIterator();
             while (i.hasNext()) {
                 FieldMap f = i.next();
                 prependDot(src);
@@ -412,12 +693,376 @@ public class MappingProcessor implements Mapper {
         this.log.trace("FULL FIELD PATH: [" + this.srcFullFieldMap + "] -> [" + this.dstFullFieldMap + "]");
     }
 
-    private void prependDot(StringBuffer src) {
+    private void prependDot(StringBuilder src) {
         if (src.length() > 0) {
             src.append(".");
         }
     }
 
+    /**
+     * Gets mapping plan of class map for given runtime classes. Plan is built
+     * on first request and cached by class map.
+     *
+     * @param classMap class map
+     * @param srcClass runtime source class
+     * @param destClass runtime destination class
+     * @param mapId map id
+     * @return mapping plan
+     */
+    private MappingPlan getMappingPlan(ClassMap classMap, Class<?> srcClass, Class<?> destClass, String mapId) {
+        if (MappingUtils.isBlankOrNull(mapId)) {
+            mapId = null;
+        }
+
+        Object key = CacheKeyFactory.createKey(destClass, srcClass, mapId);
+        MappingPlan mappingPlan = classMap.getMappingPlan(key);
+        if (mappingPlan == null) {
+            mappingPlan = classMap.addMappingPlan(key, createMappingPlan(classMap, srcClass, destClass, mapId));
+        }
+
+        return mappingPlan;
+    }
+
+    private MappingPlan createMappingPlan(ClassMap classMap, Class<?> srcClass, Class<?> destClass, String mapId) {
+        List<FieldMap> plannedFieldMappings = new ArrayList<FieldMap>();
+
+        // Field mappings of super class mappings are processed first. Field
+        // mappings which are overridden by class map are skipped.
+        Collection<ClassMap> superClassMaps = checkForSuperTypeMapping(srcClass, destClass);
+        if (!superClassMaps.isEmpty()) {
+            Set<String> overriddenFieldKeys = getOverriddenFieldKeys(classMap, mapId);
+            for (ClassMap superClassMap : superClassMaps) {
+                for (FieldMap fieldMapping : getFieldMappings(superClassMap, mapId)) {
+                    if (!overriddenFieldKeys.contains(getDestFieldKey(fieldMapping))) {
+                        plannedFieldMappings.add(fieldMapping);
+                    }
+                }
+            }
+        }
+        plannedFieldMappings.addAll(getFieldMappings(classMap, mapId));
+
+        List<FieldMapPlan> fieldMapPlans = new ArrayList<FieldMapPlan>(plannedFieldMappings.size());
+        Map<String, SourcePathPrefix> srcPathPrefixes = new HashMap<String, SourcePathPrefix>();
+        // Intermediate destination objects cannot be shared if some field
+        // mapping writes them directly
+        Map<List<Object>, DestPathPrefix> destPathPrefixes = hasOverlappingDestPaths(plannedFieldMappings) ? null
+                                                                                                             : new HashMap<List<Object>, DestPathPrefix>();
+
+        // Destination objects are created from mapped values if class map
+        // defines creator parameters
+        ArgumentsInstantiator creator = null;
+        if (!classMap.getDestClassCreatorParameters().isEmpty() && destClass == classMap.getDestClassToMap()) {
+            creator = ArgumentsInstantiator.bind(destClass,
+                classMap.getDestClassCreatorParameters(),
+                classMap.getDestClassCreateMethod(),
+                classMap.getDestClassBuilderMethod());
+        }
+
+        for (FieldMap fieldMapping : plannedFieldMappings) {
+            fieldMapPlans.add(
+                createFieldMapPlan(fieldMapping, srcClass, destClass, srcPathPrefixes, destPathPrefixes, creator));
+        }
+
+        return new MappingPlan(classMap,
+            mapId,
+            fieldMapPlans,
+            srcPathPrefixes.size(),
+            destPathPrefixes != null ? destPathPrefixes.size() : 0,
+            creator);
+    }
+
+    /**
+     * Checks that destination field of some field mapping is a part of deep
+     * destination field path of another field mapping.
+     */
+    private static boolean hasOverlappingDestPaths(List<FieldMap> fieldMappings) {
+        Set<String> destFieldNames = new HashSet<String>();
+        for (FieldMap fieldMapping : fieldMappings) {
+            if (fieldMapping.getDestFieldName() != null) {
+                destFieldNames.add(removeIndexes(fieldMapping.getDestFieldName()));
+            }
+        }
+
+        for (String destFieldName : destFieldNames) {
+            int index = destFieldName.indexOf(DozerConstants.DEEP_FIELD_DELIMITER);
+            while (index != -1) {
+                if (destFieldNames.contains(destFieldName.substring(0, index))) {
+                    return true;
+                }
+                index = destFieldName.indexOf(DozerConstants.DEEP_FIELD_DELIMITER, index + 1);
+            }
+        }
+
+        return false;
+    }
+
+    private static String removeIndexes(String fieldName) {
+        return fieldName.indexOf('[') == -1 ? fieldName : fieldName.replaceAll("\\[[^\\]]*\\]", "");
+    }
+
+    /**
+     * Resolves field map values which do not depend on mapped objects. Values
+     * which cannot be resolved are left unset; they are resolved again during
+     * mapping of the field to report errors using field error policy.
+     */
+    private FieldMapPlan createFieldMapPlan(FieldMap fieldMapping,
+            Class<?> srcClass,
+            Class<?> destClass,
+            Map<String, SourcePathPrefix> srcPathPrefixes,
+            Map<List<Object>, DestPathPrefix> destPathPrefixes,
+            ArgumentsInstantiator creator) {
+        if (fieldMapping instanceof ExcludeFieldMap) {
+            return new FieldMapPlan(fieldMapping,
+                true,
+                false,
+                null,
+                null,
+                null,
+                null,
+                null,
+                false,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                -1);
+        }
+
+        boolean iterate = !(fieldMapping instanceof MultiSourceFieldMap) && fieldMapping
+            .getDestFieldType() != null && ITERATE.equals(fieldMapping.getDestFieldType());
+
+        int creatorParameterIndex = creator != null ? creator.indexOf(fieldMapping.getDestFieldName()) : -1;
+        if (creatorParameterIndex >= 0 && iterate) {
+            throw new MappingException(
+                "Creator parameter '" + fieldMapping.getDestFieldName() + "' cannot be populated by iterate method");
+        }
+
+        DozerPropertyDescriptor srcPropertyDescriptor = null;
+        Class<?> srcFieldType = null;
+        try {
+            srcPropertyDescriptor = fieldMapping.getSrcPropertyDescriptor(srcClass);
+            srcFieldType = srcPropertyDescriptor.getPropertyType();
+        } catch (Exception e) {
+            log.debug("Source field type cannot be resolved in advance", e);
+        }
+
+        DeepFieldPath srcDeepFieldPath = null;
+        SourcePathPrefix srcPathPrefix = null;
+        if (srcPropertyDescriptor instanceof GetterSetterPropertyDescriptor
+                && !(fieldMapping instanceof MultiSourceFieldMap)) {
+            try {
+                srcDeepFieldPath = ((GetterSetterPropertyDescriptor) srcPropertyDescriptor).getDeepFieldPath(srcClass);
+                if (srcDeepFieldPath != null) {
+                    srcPathPrefix = getSrcPathPrefix(srcDeepFieldPath, srcPathPrefixes);
+                }
+            } catch (Exception e) {
+                log.debug("Source field path cannot be resolved in advance", e);
+                srcDeepFieldPath = null;
+            }
+        }
+
+        Class<?> destFieldType = null;
+        if (creatorParameterIndex >= 0) {
+            destFieldType = creator.getParameterType(creatorParameterIndex);
+        } else if (!iterate) {
+            try {
+                destFieldType = getDestFieldType(fieldMapping, destClass);
+            } catch (Exception e) {
+                log.debug("Destination field type cannot be resolved in advance", e);
+            }
+        }
+
+        // references are bound when mapper is initialized; field mappings
+        // created later are bound here
+        CustomConverter customConverter = null;
+        FieldMappingCondition mappingCondition = null;
+        try {
+            customConverter = referenceResolver.getCustomConverter(fieldMapping);
+            // converters created for each conversion are resolved again
+            if (!referenceResolver.isSharedCustomConverter(fieldMapping, customConverter)) {
+                customConverter = null;
+            }
+            mappingCondition = referenceResolver.getMappingCondition(fieldMapping);
+        } catch (Exception e) {
+            log.debug("Field mapping references cannot be resolved in advance", e);
+        }
+
+        // collections are merged into existing destination value which
+        // doesn't exist until destination object is created
+        if (creatorParameterIndex >= 0 && customConverter == null && !fieldMapping
+            .isCopyByReference() && (MappingUtils.isSupportedCollection(destFieldType) || MappingUtils
+                .isSupportedMap(destFieldType))) {
+            throw new MappingException("Creator parameter '" + fieldMapping
+                .getDestFieldName() + "' of collection type requires custom converter or copy-by-reference");
+        }
+
+        // Default value is converted once if result of conversion can be
+        // safely shared between destination objects.
+        boolean destDefaultValueResolved = false;
+        Object destDefaultValue = null;
+        String defaultValue = fieldMapping.getDestFieldDefaultValue();
+        if (defaultValue == null) {
+            destDefaultValueResolved = true;
+        } else if (!DozerConstants.SELF_KEYWORD.equals(defaultValue) && destFieldType != null) {
+            try {
+                Object value = primitiveConverter.convert(defaultValue,
+                    destFieldType,
+                    new DateFormatContainer(fieldMapping.getDateFormat()));
+                if (isImmutableValue(value)) {
+                    destDefaultValueResolved = true;
+                    destDefaultValue = value;
+                }
+            } catch (Exception e) {
+                log.debug("Default value cannot be resolved in advance", e);
+            }
+        }
+
+        CompiledFieldMapping compiledFieldMapping = null;
+        if (compiledMappersEnabled && destDefaultValueResolved && srcFieldType != null && creatorParameterIndex < 0) {
+            compiledFieldMapping = FieldMapCompiler.compile(fieldMapping, srcClass, destClass);
+            // field mapping cannot be compiled if it is processed by custom
+            // converter defined for field types
+            CustomConverterContainer converters = fieldMapping.getClassMap().getCustomConverters();
+            if (compiledFieldMapping != null && converters != null && converters
+                .getCustomConverter(srcFieldType, compiledFieldMapping.getDestFieldType()) != null) {
+                compiledFieldMapping = null;
+            }
+        }
+
+        // primitive converter of compiled field mapping is resolved once for
+        // field types
+        Converter compiledFieldConverter = null;
+        if (compiledFieldMapping != null && compiledFieldMapping.isConversionRequired()) {
+            compiledFieldConverter = primitiveConverter
+                .getConverter(srcFieldType, compiledFieldMapping.getDestFieldType(), fieldMapping.getDateFormat());
+        }
+
+        DozerPropertyDescriptor destPropertyDescriptor = null;
+        DeepFieldPath destDeepFieldPath = null;
+        DestPathPrefix destPathPrefix = null;
+        if (destPathPrefixes != null && !iterate && compiledFieldMapping == null && creatorParameterIndex < 0
+                && isSharedDestPathSupported(fieldMapping)) {
+            try {
+                destPropertyDescriptor = fieldMapping.getDestPropertyDescriptor(destClass);
+                if (destPropertyDescriptor instanceof JavaBeanPropertyDescriptor) {
+                    GetterSetterPropertyDescriptor descriptor = (GetterSetterPropertyDescriptor) destPropertyDescriptor;
+                    destDeepFieldPath = descriptor.getDeepFieldPath(destClass, null);
+                    destPathPrefix = getDestPathPrefix(descriptor, destDeepFieldPath, fieldMapping, destPathPrefixes);
+                }
+            } catch (Exception e) {
+                log.debug("Destination field path cannot be resolved in advance", e);
+                destDeepFieldPath = null;
+                destPathPrefix = null;
+            }
+        }
+
+        return new FieldMapPlan(fieldMapping,
+            false,
+            iterate,
+            srcPropertyDescriptor,
+            srcFieldType,
+            destFieldType,
+            customConverter,
+            mappingCondition,
+            destDefaultValueResolved,
+            destDefaultValue,
+            compiledFieldMapping,
+            compiledFieldConverter,
+            srcDeepFieldPath,
+            srcPathPrefix,
+            destPropertyDescriptor,
+            destDeepFieldPath,
+            destPathPrefix,
+            creatorParameterIndex);
+    }
+
+    /**
+     * Indicates that intermediate objects of deep destination field path can
+     * be shared. Hints can change types of intermediate objects, so such field
+     * mappings are written by mapper as usual.
+     */
+    private static boolean isSharedDestPathSupported(FieldMap fieldMapping) {
+        return (fieldMapping instanceof GenericFieldMap || fieldMapping instanceof CustomGetSetMethodFieldMap)
+                && MappingUtils.isDeepMapping(fieldMapping.getDestFieldName())
+                && fieldMapping.getDestHintContainer() == null && fieldMapping.getDestDeepIndexHintContainer() == null;
+    }
+
+    /**
+     * Gets prefix of deep destination field path (all path elements except the
+     * last one). Prefixes which access the same properties are shared between
+     * field mappings of the plan.
+     */
+    private static DestPathPrefix getDestPathPrefix(GetterSetterPropertyDescriptor descriptor,
+            DeepFieldPath path,
+            FieldMap fieldMapping,
+            Map<List<Object>, DestPathPrefix> destPathPrefixes) {
+        DestPathPrefix prefix = null;
+
+        for (int i = 0; i < path.size() - 1; i++) {
+            DeepFieldPath.Element element = path.getElement(i);
+            // class map defines bean factory used to create intermediate
+            // objects
+            List<Object> prefixKey = Arrays.<Object> asList(prefix,
+                element.getPropDescriptor().getReadMethod(),
+                element.getPropDescriptor().getWriteMethod(),
+                element.getIndex(),
+                fieldMapping.getClassMap());
+
+            DestPathPrefix next = destPathPrefixes.get(prefixKey);
+            if (next == null) {
+                next = new DestPathPrefix(prefix, descriptor, path, i, fieldMapping, destPathPrefixes.size());
+                destPathPrefixes.put(prefixKey, next);
+            }
+            prefix = next;
+        }
+
+        return prefix;
+    }
+
+    /**
+     * Gets prefix of deep source field path (all path elements except the last
+     * one). Prefixes which read the same properties are shared between field
+     * mappings of the plan.
+     */
+    private static SourcePathPrefix getSrcPathPrefix(DeepFieldPath path,
+            Map<String, SourcePathPrefix> srcPathPrefixes) {
+        SourcePathPrefix prefix = null;
+        StringBuilder key = new StringBuilder();
+
+        for (int i = 0; i < path.size() - 1; i++) {
+            DeepFieldPath.Element element = path.getElement(i);
+            key.append('/').append(element.getPropDescriptor().getReadMethod());
+            if (element.isIndexed()) {
+                key.append('[').append(element.getIndex()).append(']');
+            }
+
+            String prefixKey = key.toString();
+            SourcePathPrefix next = srcPathPrefixes.get(prefixKey);
+            if (next == null) {
+                next = new SourcePathPrefix(prefix, element, srcPathPrefixes.size());
+                srcPathPrefixes.put(prefixKey, next);
+            }
+            prefix = next;
+        }
+
+        return prefix;
+    }
+
+    private static boolean isImmutableValue(Object value) {
+        if (value == null || value instanceof Enum) {
+            return true;
+        }
+
+        Class<?> type = value.getClass();
+        return type == String.class || type == Boolean.class || type == Character.class || type == Byte.class
+                || type == Short.class || type == Integer.class || type == Long.class || type == Float.class
+                || type == Double.class || type == BigDecimal.class || type == BigInteger.class;
+    }
+
     private Collection<FieldMap> getFieldMappings(ClassMap classMap, String mapId) {
         if (MappingUtils.isBlankOrNull(mapId)) {
             return getGeneralFieldMaps(classMap);
@@ -471,57 +1116,48 @@ public class MappingProcessor implements Mapper {
         return mappings.values();
     }
 
-    private List<String> mapParentFields(ClassMap classMap,
-            Object srcObj,
-            Object destObj,
-            String mapId,
-            MappingContext context) {
-
-        Collection<ClassMap> superMappings = new ArrayList<ClassMap>();
-        List<String> mappedParentFields = new ArrayList<String>();
-        Collection<ClassMap> superClasses = checkForSuperTypeMapping(srcObj.getClass(), destObj.getClass());
-        superMappings.addAll(superClasses);
-
-        List<String> overridedFieldMappings = getFieldMapKeys(destObj, classMap.getFieldMaps(), mapId);
-
-        if (!superMappings.isEmpty()) {
-            mappedParentFields = processSuperTypeMapping(superMappings,
-                srcObj,
-                destObj,
-                mapId,
-                context,
-                overridedFieldMappings);
-        }
-
-        return mappedParentFields;
-    }
-
-    private List<String> getFieldMapKeys(Object destObj, List<FieldMap> fieldMaps, String mapId) {
-        List<String> keys = new ArrayList<String>();
+    /**
+     * Gets keys of destination fields which are mapped by class map. Field
+     * mappings of super class mappings with the same keys are overridden.
+     */
+    private Set<String> getOverriddenFieldKeys(ClassMap classMap, String mapId) {
+        Set<String> keys = new HashSet<String>();
 
-        for (FieldMap fieldMap : fieldMaps) {
+        for (FieldMap fieldMap : classMap.getFieldMaps()) {
             // Check that field map is applicable for current mapping using
             // mapId value. If mapId parameter is provided by user and field map
             // has different mapId value we should skip this field map.
             if (MappingUtils.isBlankOrNull(fieldMap.getMapId()) || fieldMap.getMapId().equals(mapId)) {
-                String key = MappingUtils.getMappedParentFieldKey(destObj, fieldMap);
-                if (!keys.contains(key)) {
-                    keys.add(key);
-                }
+                keys.add(getDestFieldKey(fieldMap));
             }
         }
 
         return keys;
     }
 
-    private void mapField(FieldMap fieldMapping, Object srcObj, Object destObj, MappingContext context) {
+    private static String getDestFieldKey(FieldMap fieldMap) {
+        if (fieldMap.getDestFieldKey() == null) {
+            return fieldMap.getDestFieldName();
+        }
+        return fieldMap.getDestFieldName() + "[" + fieldMap.getDestFieldKey() + "]";
+    }
+
+    private void mapField(FieldMapPlan fieldMapPlan,
+            Object srcObj,
+            Object destObj,
+            Object[] srcPathValues,
+            Object[] destPathValues,
+            Object[] creatorArguments,
+            MappingContext context) {
         // The field has been explicitly excluded from mapping. So just return,
         // as
         // no further processing is needed for this field
-        if (fieldMapping instanceof ExcludeFieldMap) {
+        if (fieldMapPlan.isExcluded()) {
             return;
         }
 
+        FieldMap fieldMapping = fieldMapPlan.getFieldMap();
+
         Object srcFieldValue = null;
         try {
             // If a custom field mapper was specified, then invoke it. If not,
@@ -530,9 +1166,24 @@ public class MappingProcessor implements Mapper {
             // field was not actually mapped by the custom field mapper),
             // proceed as
             // normal(use Dozer to map the field)
-            srcFieldValue = fieldMapping.getSrcFieldValue(srcObj);
+            CompiledFieldMapping compiledFieldMapping = fieldMapPlan.getCompiledFieldMapping();
+            if (compiledFieldMapping != null) {
+                srcFieldValue = compiledFieldMapping.getSrcFieldValue(srcObj);
+            } else if (srcPathValues != null && fieldMapPlan.getSrcPathPrefix() != null) {
+                // parent object of deep field is shared with other fields
+                Object parentObj = fieldMapPlan.getSrcPathPrefix().getValue(srcObj, srcPathValues);
+                if (parentObj != null) {
+                    srcFieldValue = ((GetterSetterPropertyDescriptor) fieldMapPlan.getSrcPropertyDescriptor())
+                        .getDeepPropertyValue(fieldMapPlan.getSrcDeepFieldPath(), parentObj);
+                }
+            } else if (fieldMapPlan.getSrcPropertyDescriptor() != null) {
+                srcFieldValue = fieldMapPlan.getSrcPropertyDescriptor().getPropertyValue(srcObj);
+            } else {
+                srcFieldValue = fieldMapping.getSrcFieldValue(srcObj);
+            }
             boolean fieldMapped = false;
-            if (customFieldMapper != null) {
+            // custom field mapper cannot write creator arguments
+            if (customFieldMapper != null && creatorArguments == null) {
                 fieldMapped = customFieldMapper.mapField(srcObj,
                     destObj,
                     srcFieldValue,
@@ -541,14 +1192,23 @@ public class MappingProcessor implements Mapper {
             }
 
             if (!fieldMapped) {
-                if (!(fieldMapping instanceof MultiSourceFieldMap) && fieldMapping.getDestFieldType() != null && ITERATE
-                    .equals(fieldMapping.getDestFieldType())) {
+                if (compiledFieldMapping != null) {
+                    // field mapping is compiled and doesn't require generic
+                    // processing
+                    mapCompiledField(srcObj, destObj, srcFieldValue, fieldMapPlan, compiledFieldMapping);
+                } else if (fieldMapPlan.isIterate()) {
                     // special logic for iterate feature
                     mapFromIterateMethodFieldMap(srcObj, destObj, srcFieldValue, fieldMapping, context);
                 } else {
                     // either deep field map or generic map. The is the most
                     // likely scenario
-                    mapFromFieldMap(srcObj, destObj, srcFieldValue, fieldMapping, context);
+                    mapFromFieldMap(srcObj,
+                        destObj,
+                        srcFieldValue,
+                        fieldMapPlan,
+                        destPathValues,
+                        creatorArguments,
+                        context);
                 }
             }
 
@@ -579,20 +1239,15 @@ public class MappingProcessor implements Mapper {
     private void mapFromFieldMap(Object srcObj,
             Object destObj,
             Object srcFieldValue,
-            FieldMap fieldMapping,
+            FieldMapPlan fieldMapPlan,
+            Object[] destPathValues,
+            Object[] creatorArguments,
             MappingContext context) {
 
-        Class<?> destFieldType;
-
-        if (fieldMapping instanceof CustomGetSetMethodFieldMap) {
-            try {
-                destFieldType = fieldMapping.getDestFieldWriteMethod(destObj.getClass()).getParameterTypes()[0];
-            } catch (Throwable e) {
-                // try traditional way
-                destFieldType = fieldMapping.getDestFieldType(destObj.getClass());
-            }
-        } else {
-            destFieldType = fieldMapping.getDestFieldType(destObj.getClass());
+        FieldMap fieldMapping = fieldMapPlan.getFieldMap();
+        Class<?> destFieldType = fieldMapPlan.getDestFieldType();
+        if (destFieldType == null) {
+            destFieldType = getDestFieldType(fieldMapping, destObj.getClass());
         }
 
         // 1476780 - 12/2006 mht - Add support for field level custom converters
@@ -603,50 +1258,23 @@ public class MappingProcessor implements Mapper {
         Object destFieldValue;
         boolean mapField = true;
 
-        if (!MappingUtils.isBlankOrNull(fieldMapping.getMappingConditionId())) {
-            // check condition using condition id
-            if (conditionObjectsWithId != null && conditionObjectsWithId
-                .containsKey(fieldMapping.getMappingConditionId()) && conditionObjectsWithId
-                    .get(fieldMapping.getMappingConditionId()) != null) {
-
-                Class<?> srcFieldClass = srcFieldValue != null ? srcFieldValue.getClass()
-                                                               : fieldMapping.getSrcFieldType(srcObj.getClass());
-                FieldMappingCondition conditionInstance = conditionObjectsWithId
-                    .get(fieldMapping.getMappingConditionId());
-
-                Object existingValue = getExistingValue(fieldMapping,
-                    srcFieldClass,
-                    srcFieldValue,
-                    destObj,
-                    destFieldType,
-                    context);
-                mapField = evaluateConditionInstance(conditionInstance,
-                    srcFieldClass,
-                    srcFieldValue,
-                    destFieldType,
-                    existingValue,
-                    context);
-            } else {
-                throw new MappingException(
-                    "Mapping condition instance not found with id:" + fieldMapping.getMappingConditionId());
-            }
-        } else if (!MappingUtils.isBlankOrNull(fieldMapping.getMappingCondition())) {
-            Class<?> srcFieldClass = srcFieldValue != null ? srcFieldValue.getClass()
-                                                           : fieldMapping.getSrcFieldType(srcObj.getClass());
-            Class<?> conditionClass = MappingUtils.loadClass(fieldMapping.getMappingCondition());
-
+        FieldMappingCondition conditionInstance = fieldMapPlan.getMappingCondition();
+        if (conditionInstance == null) {
+            conditionInstance = referenceResolver.getMappingCondition(fieldMapping);
+        }
+        if (conditionInstance != null) {
+            Class<?> srcFieldClass = getSrcFieldClass(fieldMapPlan, srcObj, srcFieldValue);
             Object existingValue = getExistingValue(fieldMapping,
                 srcFieldClass,
                 srcFieldValue,
                 destObj,
                 destFieldType,
                 context);
-            mapField = evaluateCondition(conditionClass,
+            mapField = evaluateConditionInstance(conditionInstance,
                 srcFieldClass,
                 srcFieldValue,
                 destFieldType,
                 existingValue,
-                fieldMapping,
                 context);
         }
 
@@ -656,39 +1284,15 @@ public class MappingProcessor implements Mapper {
             return;
         }
 
-        if (!MappingUtils.isBlankOrNull(fieldMapping.getCustomConverterId())) {
-            if (customConverterObjectsWithId != null && customConverterObjectsWithId
-                .containsKey(fieldMapping.getCustomConverterId()) && customConverterObjectsWithId
-                    .get(fieldMapping.getCustomConverterId()) != null) {
-
-                Class<?> srcFieldClass = srcFieldValue != null ? srcFieldValue.getClass()
-                                                               : fieldMapping.getSrcFieldType(srcObj.getClass());
-                CustomConverter converterInstance = customConverterObjectsWithId
-                    .get(fieldMapping.getCustomConverterId());
-                destFieldValue = mapUsingCustomConverterInstance(converterInstance,
-                    srcFieldClass,
-                    srcFieldValue,
-                    destFieldType,
-                    destObj,
-                    fieldMapping,
-                    context,
-                    false);
-            } else {
-                throw new MappingException(
-                    "CustomConverter instance not found with id:" + fieldMapping.getCustomConverterId());
-            }
-        } else if (MappingUtils.isBlankOrNull(fieldMapping.getCustomConverter())) {
-            if (fieldMapping instanceof MultiSourceFieldMap) {
-                MappingUtils.throwMappingException("Custom converter should be provided");
-            }
-            destFieldValue = mapOrRecurseObject(srcObj, srcFieldValue, destFieldType, destObj, fieldMapping, context);
-        } else {
-            Class<?> srcFieldClass = srcFieldValue != null ? srcFieldValue.getClass()
-                                                           : fieldMapping.getSrcFieldType(srcObj.getClass());
-            Class<?> converterClass = MappingUtils.loadClass(fieldMapping.getCustomConverter());
-
-            // get dest value using user defined converter for current field map
-            destFieldValue = mapUsingCustomConverter(converterClass,
+        CustomConverter converterInstance = fieldMapPlan.getCustomConverter();
+        if (converterInstance == null) {
+            converterInstance = referenceResolver.getCustomConverter(fieldMapping);
+        }
+        if (converterInstance != null) {
+            // get dest value using user defined converter for current field
+            // map
+            Class<?> srcFieldClass = getSrcFieldClass(fieldMapPlan, srcObj, srcFieldValue);
+            destFieldValue = mapUsingCustomConverterInstance(converterInstance,
                 srcFieldClass,
                 srcFieldValue,
                 destFieldType,
@@ -696,37 +1300,90 @@ public class MappingProcessor implements Mapper {
                 fieldMapping,
                 context,
                 false);
+        } else {
+            if (fieldMapping instanceof MultiSourceFieldMap) {
+                MappingUtils.throwMappingException("Custom converter should be provided");
+            }
+            destFieldValue = mapOrRecurseObject(srcObj, srcFieldValue, destFieldType, destObj, fieldMapping, context);
         }
 
         Object destDefaultValue = null;
-        if (fieldMapping.getDestFieldDefaultValue() != null) {
-
-            if (DozerConstants.SELF_KEYWORD.equals(fieldMapping.getDestFieldDefaultValue())) {
-                // If default value of destination field is "this" keyword we
-                // create new instance of destination field type
-                // and use as a default value object.
-                //
-                Class<?> srcFieldClass = fieldMapping.getSrcFieldType(srcObj.getClass());
-                destDefaultValue = DestBeanCreator.create(context.getParams(),
-                    new BeanCreationDirective(srcFieldValue,
-                        srcFieldClass,
-                        destFieldType,
-                        destFieldType,
-                        null,
-                        null,
-                        fieldMapping.getDestFieldCreateMethod() != null ? fieldMapping.getDestFieldCreateMethod()
-                                                                        : null));
-            } else {
-                // If default value is provided we use appropriate converter to
-                // convert string value to appropriate object
-                //
-                destDefaultValue = primitiveConverter.convert(fieldMapping.getDestFieldDefaultValue(),
-                    destFieldType,
-                    new DateFormatContainer(fieldMapping.getDateFormat()));
+        if (fieldMapPlan.isDestDefaultValueResolved()) {
+            destDefaultValue = fieldMapPlan.getDestDefaultValue();
+        } else if (DozerConstants.SELF_KEYWORD.equals(fieldMapping.getDestFieldDefaultValue())) {
+            // If default value of destination field is "this" keyword we
+            // create new instance of destination field type
+            // and use as a default value object.
+            //
+            Class<?> srcFieldClass = getSrcFieldClass(fieldMapPlan, srcObj, null);
+            destDefaultValue = DestBeanCreator.create(context.getParams(),
+                null,
+                srcFieldValue,
+                srcFieldClass,
+                destFieldType,
+                destFieldType,
+                null,
+                null,
+                fieldMapping.getDestFieldCreateMethod());
+        } else {
+            // If default value is provided we use appropriate converter to
+            // convert string value to appropriate object
+            //
+            destDefaultValue = primitiveConverter.convert(fieldMapping.getDestFieldDefaultValue(),
+                destFieldType,
+                new DateFormatContainer(fieldMapping.getDateFormat()));
+        }
+
+        writeDestinationValue(destObj,
+            destFieldValue,
+            fieldMapping,
+            fieldMapPlan,
+            destPathValues,
+            creatorArguments,
+            srcObj,
+            destDefaultValue);
+
+        if (log.isDebugEnabled()) {
+            log.debug(LogMsgFactory.createFieldMappingSuccessMsg(srcObj.getClass(),
+                destObj != null ? destObj.getClass() : fieldMapping.getClassMap().getDestClassToMap(),
+                fieldMapping.getSrcFieldName(),
+                fieldMapping.getDestFieldName(),
+                srcFieldValue,
+                destFieldValue,
+                fieldMapping.getMapId()));
+            // getClassMap().getMapId()));
+        }
+    }
+
+    private void mapCompiledField(Object srcObj,
+            Object destObj,
+            Object srcFieldValue,
+            FieldMapPlan fieldMapPlan,
+            CompiledFieldMapping compiledFieldMapping) {
+
+        FieldMap fieldMapping = fieldMapPlan.getFieldMap();
+        Object destFieldValue = srcFieldValue;
+
+        if (srcFieldValue != null && compiledFieldMapping.isConversionRequired()) {
+            // #1841448 - if trim-strings=true, then use a trimmed src string
+            // value when converting to dest value
+            Object convertSrcFieldValue = srcFieldValue;
+            if (fieldMapping.isTrimStrings() && srcFieldValue.getClass().equals(String.class)) {
+                convertSrcFieldValue = ((String) srcFieldValue).trim();
             }
+            destFieldValue = primitiveConverter.convert(convertSrcFieldValue,
+                compiledFieldMapping.getDestFieldType(),
+                fieldMapPlan.getCompiledFieldConverter());
         }
 
-        writeDestinationValue(destObj, destFieldValue, fieldMapping, srcObj, destDefaultValue);
+        writeDestinationValue(destObj,
+            destFieldValue,
+            fieldMapping,
+            fieldMapPlan,
+            null,
+            null,
+            srcObj,
+            fieldMapPlan.getDestDefaultValue());
 
         if (log.isDebugEnabled()) {
             log.debug(LogMsgFactory.createFieldMappingSuccessMsg(srcObj.getClass(),
@@ -736,97 +1393,79 @@ public class MappingProcessor implements Mapper {
                 srcFieldValue,
                 destFieldValue,
                 fieldMapping.getMapId()));
-            // getClassMap().getMapId()));
         }
     }
 
-    private boolean evaluateConditionInstance(FieldMappingCondition conditionInstance,
-            Class<?> srcFieldClass,
-            Object srcFieldValue,
-            Class<?> destFieldType,
-            Object destFieldValue,
-            MappingContext context) {
-
-        setParams(conditionInstance, context);
+    private Class<?> getDestFieldType(FieldMap fieldMapping, Class<?> destClass) {
+        if (fieldMapping instanceof CustomGetSetMethodFieldMap) {
+            try {
+                return fieldMapping.getDestFieldWriteMethod(destClass).getParameterTypes()[0];
+            } catch (Throwable e) {
+                // try traditional way
+                return fieldMapping.getDestFieldType(destClass);
+            }
+        }
 
-        return conditionInstance.mapField(srcFieldValue, destFieldValue, srcFieldClass, destFieldType);
+        return fieldMapping.getDestFieldType(destClass);
     }
 
-    private boolean evaluateCondition(Class<?> conditionClass,
-            Class<?> srcFieldClass,
-            Object srcFieldValue,
-            Class<?> destFieldType,
-            Object destFieldValue,
-            FieldMap fieldMapping,
-            MappingContext context) {
-
-        FieldMappingCondition conditionInstance = null;
-
-        if (conditionObjects != null) {
-            for (FieldMappingCondition conditionObject : conditionObjects) {
-                if (conditionObject.getClass().isAssignableFrom(conditionClass)) {
-                    // we have a match
-                    conditionInstance = conditionObject;
-                }
-            }
+    private Class<?> getSrcFieldClass(FieldMapPlan fieldMapPlan, Object srcObj, Object srcFieldValue) {
+        if (srcFieldValue != null) {
+            return srcFieldValue.getClass();
         }
-        // if converter object instances were not injected, then create new
-        // instance of the converter for each conversion
-        // TODO : Should we really create it each time?
-        if (conditionInstance == null) {
-            conditionInstance = (FieldMappingCondition) ReflectionUtils.newInstance(conditionClass);
+        if (fieldMapPlan.getSrcFieldType() != null) {
+            return fieldMapPlan.getSrcFieldType();
         }
 
-        return evaluateConditionInstance(conditionInstance,
-            srcFieldClass,
-            srcFieldValue,
-            destFieldType,
-            destFieldValue,
-            context);
+        return fieldMapPlan.getFieldMap().getSrcFieldType(srcObj.getClass());
     }
 
-    private Object evaluateCollectionItemDiscriminator(Class<?> discriminatorClass,
+    private boolean evaluateConditionInstance(FieldMappingCondition conditionInstance,
             Class<?> srcFieldClass,
             Object srcFieldValue,
             Class<?> destFieldType,
-            Object destCollection,
-            FieldMap fieldMapping,
+            Object destFieldValue,
             MappingContext context) {
 
-        CollectionItemDiscriminator collectionItemDiscriminatorInstance = null;
-
-        if (collectionItemDiscriminatorObjects != null) {
-            for (CollectionItemDiscriminator disciminatorObject : collectionItemDiscriminatorObjects) {
-                if (disciminatorObject.getClass().isAssignableFrom(discriminatorClass)) {
-                    // we have a match
-                    collectionItemDiscriminatorInstance = disciminatorObject;
-                }
-            }
-        }
-        // if discriminator object instances were not injected, then create new
-        // instance of the converter for each conversion
-        // TODO : Should we really create it each time?
-        if (collectionItemDiscriminatorInstance == null) {
-            collectionItemDiscriminatorInstance = (CollectionItemDiscriminator) ReflectionUtils
-                .newInstance(discriminatorClass);
+        if (conditionInstance instanceof ContextAwareFieldMappingCondition) {
+            return ((ContextAwareFieldMappingCondition) conditionInstance)
+                .mapField(context, srcFieldValue, destFieldValue, srcFieldClass, destFieldType);
         }
 
-        return evaluateCollectionItemDiscriminatorInstance(collectionItemDiscriminatorInstance,
-            srcFieldClass,
-            srcFieldValue,
-            destFieldType,
-            destCollection,
-            context);
+        setParams(conditionInstance, context);
+
+        return conditionInstance.mapField(srcFieldValue, destFieldValue, srcFieldClass, destFieldType);
     }
 
     private Object evaluateCollectionItemDiscriminatorInstance(CollectionItemDiscriminator discriminatorInstance,
             Class<?> srcFieldClass,
             Object srcFieldValue,
             Class<?> destFieldType,
+            Object destObj,
             Object destCollection,
+            FieldMap fieldMapping,
             MappingContext context) {
 
-        setParams(discriminatorInstance, context);
+        boolean contextAware = discriminatorInstance instanceof ContextAwareCollectionItemDiscriminator;
+        if (!contextAware) {
+            setParams(discriminatorInstance, context);
+        }
+
+        // keyed discriminator uses index of collection which is being merged
+        if (discriminatorInstance instanceof KeyedCollectionItemDiscriminator && collectionMergeIndex != null && collectionMergeIndex
+            .isIndexOf(fieldMapping, destObj)) {
+            return collectionMergeIndex
+                .findByKey((KeyedCollectionItemDiscriminator) discriminatorInstance, srcFieldClass, srcFieldValue);
+        }
+
+        if (contextAware) {
+            return ((ContextAwareCollectionItemDiscriminator) discriminatorInstance).discriminate(context,
+                srcFieldClass,
+                srcFieldValue,
+                destCollection.getClass(),
+                destFieldType,
+                destCollection);
+        }
 
         return discriminatorInstance.discriminate(srcFieldClass,
             srcFieldValue,
@@ -844,12 +1483,8 @@ public class MappingProcessor implements Mapper {
 
         Class<?> srcFieldClass = srcFieldValue != null ? srcFieldValue.getClass()
                                                        : fieldMap.getSrcFieldType(srcObj.getClass());
-        CustomConverter converter = MappingUtils.determineCustomConverter(fieldMap,
-            converterByDestTypeCache,
-            customConverterObjects,
-            fieldMap.getClassMap().getCustomConverters(),
-            srcFieldClass,
-            destFieldType);
+        CustomConverter converter = MappingUtils
+            .determineCustomConverter(fieldMap, customConverterObjects, srcFieldClass, destFieldType);
 
         // 1-2007 mht: Invoke custom converter even if the src value is null.
         // #1563795
@@ -937,8 +1572,10 @@ public class MappingProcessor implements Mapper {
             }
         }
 
-        // try to map collection into collection element by element
-        if (MappingUtils.isSupportedCollection(srcFieldClass) && (MappingUtils.isSupportedCollection(destFieldType))) {
+        // try to map collection into collection element by element; items of
+        // iterator are mapped as they are read
+        if ((MappingUtils.isSupportedCollection(srcFieldClass) || srcFieldValue instanceof Iterator) && (MappingUtils
+            .isSupportedCollection(destFieldType))) {
             return mapCollection(srcObj, srcFieldValue, fieldMap, destObj, context);
         }
 
@@ -979,6 +1616,7 @@ public class MappingProcessor implements Mapper {
         // already instantiated.
         Object result = getExistingValue(fieldMap, srcFieldType, srcFieldValue, destObj, destFieldType, context);
         ClassMap classMap = null;
+        boolean createFromValues = false;
 
         // if the field is not null than we don't want a new instance
         if (result == null) {
@@ -1006,15 +1644,26 @@ public class MappingProcessor implements Mapper {
 
             classMap = getClassMap(srcFieldValue.getClass(), targetClass, mapId);
 
-            result = DestBeanCreator.create(context.getParams(),
-                new BeanCreationDirective(srcFieldValue,
+            createFromValues = !classMap.getDestClassCreatorParameters().isEmpty();
+            if (!createFromValues) {
+                result = DestBeanCreator.create(context.getParams(),
+                    classMap.getBeanFactories(),
+                    srcFieldValue,
                     classMap.getSrcClassToMap(),
                     classMap.getDestClassToMap(),
                     destFieldType,
                     classMap.getDestClassBeanFactory(),
                     classMap.getDestClassBeanFactoryId(),
                     fieldMap.getDestFieldCreateMethod() != null ? fieldMap.getDestFieldCreateMethod()
-                                                                : classMap.getDestClassCreateMethod()));
+                                                                : classMap.getDestClassCreateMethod());
+
+                // the same source object can be mapped by another parallel
+                // task meanwhile
+                Object alreadyMappedValue = mappedFields.putIfAbsent(srcFieldValue, result, destFieldType);
+                if (alreadyMappedValue != null) {
+                    return alreadyMappedValue;
+                }
+            }
         }
 
         // map(classMap, srcFieldValue, result, false, fieldMap.getMapId(),
@@ -1025,7 +1674,11 @@ public class MappingProcessor implements Mapper {
             context.setMapId(newMapId);
         }
 
-        map(classMap, srcFieldValue, result, false, getMapId(context), context);
+        if (createFromValues) {
+            result = mapToCreatedObject(classMap, srcFieldValue, getMapId(context), context);
+        } else {
+            map(classMap, srcFieldValue, result, getMapId(context), context);
+        }
         context.setMapId(oldMapId);
 
         return result;
@@ -1053,12 +1706,23 @@ public class MappingProcessor implements Mapper {
             }
         }
 
-        // if it is an iterator object turn it into a List
+        Class<?> destCollectionType = fieldMap.getDestFieldType(destObj.getClass());
+
         if (srcCollectionValue instanceof Iterator) {
-            srcCollectionValue = IteratorUtils.toList((Iterator<?>) srcCollectionValue);
+            // items of iterator are mapped as they are read into list or set
+            Iterator<?> srcValues = (Iterator<?>) srcCollectionValue;
+            if (!(fieldMap instanceof MapFieldMap)) {
+                if (Collection.class.equals(destCollectionType) || CollectionUtils.isList(destCollectionType)) {
+                    return addOrUpdateToList(srcObj, fieldMap, IteratorUtils.asIterable(srcValues), destObj, context);
+                }
+                if (CollectionUtils.isSet(destCollectionType)) {
+                    return addToSet(srcObj, fieldMap, IteratorUtils.asIterable(srcValues), destObj, context);
+                }
+            }
+            // arrays and maps require all items, so turn iterator into a List
+            srcCollectionValue = IteratorUtils.toList(srcValues);
         }
 
-        Class<?> destCollectionType = fieldMap.getDestFieldType(destObj.getClass());
         Class<?> srcFieldType = srcCollectionValue.getClass();
 
         if (fieldMap instanceof MapFieldMap && (MappingUtils.isSupportedMap(fieldMap.getDestFieldType(
@@ -1147,7 +1811,7 @@ public class MappingProcessor implements Mapper {
                 context);
             Object obj = result.get(srcEntry.getKey());
             if (obj != null && obj.equals(destEntryValue) && fieldMap.isNonCumulativeRelationship()) {
-                map(null, srcEntryValue, obj, false, null, context);
+                map(null, srcEntryValue, obj, null, context);
             } else {
                 result.put(srcEntry.getKey(), destEntryValue);
             }
@@ -1187,28 +1851,26 @@ public class MappingProcessor implements Mapper {
             MappingContext context) {
         // Iterate over the destFieldValue - iterating is fine unless we are
         // mapping in the other direction.
-        // Verify that it is truly a collection if it is an iterator object turn
-        // it into a List
-        if (srcFieldValue instanceof Iterator) {
-            srcFieldValue = IteratorUtils.toList((Iterator<?>) srcFieldValue);
-        }
+        // Iterator is consumed as is, so values are mapped and written one by
+        // one without collecting them into a list.
         if (srcFieldValue != null) {
-            for (int i = 0; i < CollectionUtils.getLengthOfCollection(srcFieldValue); i++) {
-                Object value = CollectionUtils.getValueFromCollection(srcFieldValue, i);
+            Iterator<?> values = valuesIterator(srcFieldValue);
+            while (values.hasNext()) {
+                Object value = values.next();
                 // map this value
                 if (fieldMapping.getDestHintContainer() == null) {
                     MappingUtils
                         .throwMappingException("<field type=\"iterate\"> must have a source or destination type hint");
                 }
                 // check for custom converters
-                CustomConverter converter = MappingUtils.findCustomConverter(converterByDestTypeCache,
-                    customConverterObjects,
-                    fieldMapping.getClassMap().getCustomConverters(),
-                    value.getClass(),
-                    fieldMapping.getDestHintContainer().getHint());
+                CustomConverter converter = fieldMapping.findCustomConverter(value.getClass(),
+                    fieldMapping.getDestHintContainer().getHint(),
+                    customConverterObjects);
 
                 if (converter != null) {
-                    Class<?> srcFieldClass = srcFieldValue.getClass();
+                    // converter receives type of the item, not of the iterated
+                    // collection
+                    Class<?> srcFieldClass = value.getClass();
                     value = mapUsingCustomConverterInstance(converter,
                         srcFieldClass,
                         value,
@@ -1307,7 +1969,7 @@ public class MappingProcessor implements Mapper {
 
     private Set<?> addToSet(Object srcObj,
             FieldMap fieldMap,
-            Collection<?> srcCollectionValue,
+            Iterable<?> srcCollectionValue,
             Object destObj,
             MappingContext context) {
         // create a list here so we can keep track of which elements we have
@@ -1323,38 +1985,47 @@ public class MappingProcessor implements Mapper {
         }
         Object destValue;
         Class<?> prevDestEntryType = null;
-        for (Object srcValue : srcCollectionValue) {
-            if (destEntryType == null || (fieldMap.getDestHintContainer() != null && fieldMap.getDestHintContainer()
-                .hasMoreThanOneHint())) {
-                if (srcValue == null) {
-                    destEntryType = prevDestEntryType;
+        CollectionMergeIndex mergeIndex = createCollectionMergeIndex(fieldMap, destObj, result);
+        CollectionMergeIndex prevMergeIndex = collectionMergeIndex;
+        if (mergeIndex != null) {
+            collectionMergeIndex = mergeIndex;
+        }
+        try {
+            for (Object srcValue : srcCollectionValue) {
+                if (destEntryType == null || (fieldMap.getDestHintContainer() != null && fieldMap.getDestHintContainer()
+                    .hasMoreThanOneHint())) {
+                    if (srcValue == null) {
+                        destEntryType = prevDestEntryType;
+                    } else {
+                        destEntryType = fieldMap.getDestHintType(srcValue.getClass());
+                    }
+                }
+                CopyByReferenceContainer copyByReferences = globalConfiguration.getCopyByReferences();
+                if (srcValue != null && copyByReferences.contains(srcValue.getClass())) {
+                    destValue = srcValue;
                 } else {
-                    destEntryType = fieldMap.getDestHintType(srcValue.getClass());
+                    destValue = mapOrRecurseObject(srcObj, srcValue, destEntryType, destObj, fieldMap, context);
                 }
-            }
-            CopyByReferenceContainer copyByReferences = globalConfiguration.getCopyByReferences();
-            if (srcValue != null && copyByReferences.contains(srcValue.getClass())) {
-                destValue = srcValue;
-            } else {
-                destValue = mapOrRecurseObject(srcObj, srcValue, destEntryType, destObj, fieldMap, context);
-            }
-            prevDestEntryType = destEntryType;
-
-            if ((usesCollectionItemDiscriminator(fieldMap) || RelationshipType.NON_CUMULATIVE
-                .equals(fieldMap.getRelationshipType())) && result.contains(destValue)) {
-                List<Object> resultAsList = new ArrayList<Object>(result);
-                int index = resultAsList.indexOf(destValue);
-                // perform an update if complex type - can't map strings
-                Object obj = resultAsList.get(index);
-                // make sure it is not a String
-                if (!obj.getClass().isAssignableFrom(String.class)) {
-                    map(null, srcValue, obj, false, null, context);
-                    mappedElements.add(obj);
+                prevDestEntryType = destEntryType;
+
+                if (mergeIndex != null && mergeIndex.contains(destValue)) {
+                    // perform an update if complex type - can't map strings
+                    Object obj = mergeIndex.get(destValue);
+                    // make sure it is not a String
+                    if (obj != null && !obj.getClass().isAssignableFrom(String.class)) {
+                        map(null, srcValue, obj, null, context);
+                        mappedElements.add(obj);
+                    }
+                } else {
+                    result.add(destValue);
+                    mappedElements.add(destValue);
+                    if (mergeIndex != null) {
+                        mergeIndex.add(destValue);
+                    }
                 }
-            } else {
-                result.add(destValue);
-                mappedElements.add(destValue);
             }
+        } finally {
+            collectionMergeIndex = prevMergeIndex;
         }
 
         // If remove orphans - we only want to keep the objects we've mapped
@@ -1381,7 +2052,7 @@ public class MappingProcessor implements Mapper {
 
     private List<?> addOrUpdateToList(Object srcObj,
             FieldMap fieldMap,
-            Collection<?> srcCollectionValue,
+            Iterable<?> srcCollectionValue,
             Object destObj,
             Class<?> destEntryType,
             MappingContext context) {
@@ -1397,40 +2068,59 @@ public class MappingProcessor implements Mapper {
 
         Object destValue;
         Class<?> prevDestEntryType = null;
-        for (Object srcValue : srcCollectionValue) {
-            if (destEntryType == null || (fieldMap.getDestHintContainer() != null && fieldMap.getDestHintContainer()
-                .hasMoreThanOneHint())) {
-                if (srcValue == null) {
-                    destEntryType = prevDestEntryType;
+        CollectionMergeIndex mergeIndex = createCollectionMergeIndex(fieldMap, destObj, result);
+        // items of large collections are mapped in parallel in advance
+        Object[] destValues = null;
+        if (mergeIndex == null && isParallelMapping(fieldMap, srcCollectionValue)) {
+            destValues = mapItemsInParallel(srcObj,
+                fieldMap,
+                (Collection<?>) srcCollectionValue,
+                destObj,
+                destEntryType,
+                context);
+        }
+        int itemIndex = 0;
+        CollectionMergeIndex prevMergeIndex = collectionMergeIndex;
+        if (mergeIndex != null) {
+            collectionMergeIndex = mergeIndex;
+        }
+        try {
+            for (Object srcValue : srcCollectionValue) {
+                if (destEntryType == null || (fieldMap.getDestHintContainer() != null && fieldMap.getDestHintContainer()
+                    .hasMoreThanOneHint())) {
+                    if (srcValue == null) {
+                        destEntryType = prevDestEntryType;
+                    } else {
+                        destEntryType = fieldMap.getDestHintType(srcValue.getClass());
+                    }
+                }
+                if (destValues != null) {
+                    destValue = destValues[itemIndex++];
                 } else {
-                    destEntryType = fieldMap.getDestHintType(srcValue.getClass());
+                    destValue = mapCollectionItem(srcObj, srcValue, destEntryType, destObj, fieldMap, context);
                 }
-            }
-            CopyByReferenceContainer copyByReferences = globalConfiguration.getCopyByReferences();
-            if (srcValue != null && copyByReferences.contains(srcValue.getClass())) {
-                destValue = srcValue;
-            } else {
-                destValue = mapOrRecurseObject(srcObj, srcValue, destEntryType, destObj, fieldMap, context);
-            }
-            prevDestEntryType = destEntryType;
-
-            if ((usesCollectionItemDiscriminator(fieldMap) || RelationshipType.NON_CUMULATIVE
-                .equals(fieldMap.getRelationshipType())) && result.contains(destValue)) {
-                // for case of using non-cumulative policy we should replace
-                // existing item with new one
-                int index = result.indexOf(destValue);
-                // perform an update if complex type - can't map strings
-                Object obj = result.get(index);
-                // make sure it is not a String
-                if (obj != null && !obj.getClass().isAssignableFrom(String.class)) {
-                    map(null, srcValue, obj, false, null, context);
-                    mappedElements.add(obj);
+                prevDestEntryType = destEntryType;
+
+                if (mergeIndex != null && mergeIndex.contains(destValue)) {
+                    // for case of using non-cumulative policy we should replace
+                    // existing item with new one
+                    // perform an update if complex type - can't map strings
+                    Object obj = mergeIndex.get(destValue);
+                    // make sure it is not a String
+                    if (obj != null && !obj.getClass().isAssignableFrom(String.class)) {
+                        map(null, srcValue, obj, null, context);
+                        mappedElements.add(obj);
+                    }
+                } else {
+                    result.add(destValue);
+                    mappedElements.add(destValue);
+                    if (mergeIndex != null) {
+                        mergeIndex.add(destValue);
+                    }
                 }
-            } else {
-                result.add(destValue);
-                mappedElements.add(destValue);
             }
-
+        } finally {
+            collectionMergeIndex = prevMergeIndex;
         }
 
         // If remove orphans - we only want to keep the objects we've mapped
@@ -1442,14 +2132,114 @@ public class MappingProcessor implements Mapper {
         return result;
     }
 
+    private Object mapCollectionItem(Object srcObj,
+            Object srcValue,
+            Class<?> destEntryType,
+            Object destObj,
+            FieldMap fieldMap,
+            MappingContext context) {
+        CopyByReferenceContainer copyByReferences = globalConfiguration.getCopyByReferences();
+        if (srcValue != null && copyByReferences.contains(srcValue.getClass())) {
+            return srcValue;
+        }
+        return mapOrRecurseObject(srcObj, srcValue, destEntryType, destObj, fieldMap, context);
+    }
+
+    private boolean isParallelMapping(FieldMap fieldMap, Iterable<?> srcCollectionValue) {
+        // items of iterator are mapped sequentially as they are read
+        return parallelPool != null && srcCollectionValue instanceof Collection && ((Collection<?>) srcCollectionValue)
+            .size() >= parallelThreshold && fieldMap.isParallelCollection();
+    }
+
+    /**
+     * Maps items of source collection using fork-join pool. Each task maps a
+     * contiguous range of items by its own processor, so the order of items is
+     * preserved. All tasks share one tracker of mapped objects, so an object
+     * referenced by several items is mapped once; objects mapped by tasks are
+     * registered in this processor after all tasks are completed.
+     *
+     * @return mapped items in the order of source collection
+     */
+    private Object[] mapItemsInParallel(Object srcObj,
+            FieldMap fieldMap,
+            Collection<?> srcCollectionValue,
+            Object destObj,
+            Class<?> destEntryType,
+            MappingContext context) {
+        Object[] srcValues = srcCollectionValue.toArray();
+        Class<?>[] destEntryTypes = new Class<?>[srcValues.length];
+        Class<?> prevDestEntryType = null;
+        for (int i = 0; i < srcValues.length; i++) {
+            if (destEntryType == null || (fieldMap.getDestHintContainer() != null && fieldMap.getDestHintContainer()
+                .hasMoreThanOneHint())) {
+                if (srcValues[i] == null) {
+                    destEntryType = prevDestEntryType;
+                } else {
+                    destEntryType = fieldMap.getDestHintType(srcValues[i].getClass());
+                }
+            }
+            destEntryTypes[i] = destEntryType;
+            prevDestEntryType = destEntryType;
+        }
+
+        // nested parallel mapping shares tracker of enclosing one
+        MappedFieldsTracker sharedFields = mappedFields;
+        if (!(sharedFields instanceof ConcurrentMappedFieldsTracker)) {
+            sharedFields = new ConcurrentMappedFieldsTracker(mappedFields);
+        }
+
+        Object[] destValues = new Object[srcValues.length];
+        int batchSize = Math.max(1, srcValues.length / (parallelPool.getParallelism() * 4));
+        ParallelMappingTask task = new ParallelMappingTask(this,
+            srcObj,
+            fieldMap,
+            destObj,
+            srcValues,
+            destEntryTypes,
+            destValues,
+            sharedFields,
+            context,
+            0,
+            srcValues.length,
+            batchSize);
+        if (ForkJoinTask.getPool() == parallelPool) {
+            task.invoke();
+        } else {
+            parallelPool.invoke(task);
+        }
+
+        if (sharedFields != mappedFields) {
+            mappedFields.putAll(sharedFields);
+        }
+
+        return destValues;
+    }
+
     private boolean usesCollectionItemDiscriminator(FieldMap fieldMap) {
         return !MappingUtils.isBlankOrNull(fieldMap.getCollectionItemDiscriminatorId()) || !MappingUtils
             .isBlankOrNull(fieldMap.getCollectionItemDiscriminator());
     }
 
+    /**
+     * Creates index of destination collection if mapped items have to be
+     * merged with existing ones.
+     *
+     * @return collection index or <code>null</code> if items are just added
+     *         to destination collection
+     */
+    private CollectionMergeIndex createCollectionMergeIndex(FieldMap fieldMap,
+            Object destObj,
+            Collection<?> destCollection) {
+        if (usesCollectionItemDiscriminator(fieldMap) || RelationshipType.NON_CUMULATIVE
+            .equals(fieldMap.getRelationshipType())) {
+            return new CollectionMergeIndex(fieldMap, destObj, destCollection);
+        }
+        return null;
+    }
+
     private List<?> addOrUpdateToList(Object srcObj,
             FieldMap fieldMap,
-            Collection<?> srcCollectionValue,
+            Iterable<?> srcCollectionValue,
             Object destObj,
             MappingContext context) {
         return addOrUpdateToList(srcObj, fieldMap, srcCollectionValue, destObj, null, context);
@@ -1489,6 +2279,17 @@ public class MappingProcessor implements Mapper {
             FieldMap fieldMap,
             Object srcObj,
             Object defaultDestValue) {
+        writeDestinationValue(destObj, destFieldValue, fieldMap, null, null, null, srcObj, defaultDestValue);
+    }
+
+    private void writeDestinationValue(Object destObj,
+            Object destFieldValue,
+            FieldMap fieldMap,
+            FieldMapPlan fieldMapPlan,
+            Object[] destPathValues,
+            Object[] creatorArguments,
+            Object srcObj,
+            Object defaultDestValue) {
         boolean bypass = false;
 
         if (destFieldValue == null && defaultDestValue != null) {
@@ -1529,7 +2330,19 @@ public class MappingProcessor implements Mapper {
                 destObj,
                 destFieldValue));
 
-            fieldMap.writeDestValue(destObj, destFieldValue);
+            if (creatorArguments != null) {
+                // value is passed to creator of destination object
+                creatorArguments[fieldMapPlan.getCreatorParameterIndex()] = destFieldValue;
+            } else if (fieldMapPlan != null && fieldMapPlan.getCompiledFieldMapping() != null) {
+                fieldMapPlan.getCompiledFieldMapping().writeDestValue(destObj, destFieldValue);
+            } else if (destPathValues != null && fieldMapPlan.getDestPathPrefix() != null) {
+                // parent object of deep field is shared with other fields
+                Object parentObj = fieldMapPlan.getDestPathPrefix().getValue(destObj, destPathValues);
+                ((GetterSetterPropertyDescriptor) fieldMapPlan.getDestPropertyDescriptor())
+                    .writeDeepDestinationValue(fieldMapPlan.getDestDeepFieldPath(), parentObj, destFieldValue);
+            } else {
+                fieldMap.writeDestValue(destObj, destFieldValue);
+            }
 
             eventMgr.fireEvent(new DozerEvent(DozerEventType.MAPPING_POST_WRITING_DEST_VALUE,
                 fieldMap.getClassMap(),
@@ -1575,7 +2388,6 @@ public class MappingProcessor implements Mapper {
             }
         }
 
-        setParams(converterInstance, context);
         /*
          * // if this is a top level mapping the destObj is the highest level //
          * mapping...not a recursive mapping if (topLevel) { result =
@@ -1588,7 +2400,12 @@ public class MappingProcessor implements Mapper {
         // if this is a top level mapping the destObj is the highest level
         // mapping...not a recursive mapping
         if (topLevel) {
-            result = converterInstance.convert(existingDestFieldValue, srcFieldValue, destFieldClass, srcFieldClass);
+            result = convert(converterInstance,
+                existingDestFieldValue,
+                srcFieldValue,
+                destFieldClass,
+                srcFieldClass,
+                context);
         } else {
             Object existingValue = getExistingValue(fieldMap,
                 srcFieldClass,
@@ -1596,7 +2413,7 @@ public class MappingProcessor implements Mapper {
                 existingDestFieldValue,
                 destFieldClass,
                 context);
-            result = converterInstance.convert(existingValue, srcFieldValue, destFieldClass, srcFieldClass);
+            result = convert(converterInstance, existingValue, srcFieldValue, destFieldClass, srcFieldClass, context);
         }
         // }
 
@@ -1607,28 +2424,6 @@ public class MappingProcessor implements Mapper {
         return result;
     }
 
-    private Object mapUsingCustomConverter(Class<?> customConverterClass,
-            Class<?> srcFieldClass,
-            Object srcFieldValue,
-            Class<?> destFieldClass,
-            Object existingDestFieldValue,
-            FieldMap fieldMap,
-            MappingContext context,
-            boolean topLevel) {
-
-        CustomConverter converterInstance = MappingUtils.findCustomConverterByClass(customConverterClass,
-            customConverterObjects);
-
-        return mapUsingCustomConverterInstance(converterInstance,
-            srcFieldClass,
-            srcFieldValue,
-            destFieldClass,
-            existingDestFieldValue,
-            fieldMap,
-            context,
-            topLevel);
-    }
-
     private Collection<ClassMap> checkForSuperTypeMapping(Class<?> srcClass, Class<?> destClass) {
         // Check cache first
         Object cacheKey = CacheKeyFactory.createKey(destClass, srcClass);
@@ -1676,64 +2471,6 @@ public class MappingProcessor implements Mapper {
         }
     }
 
-    /**
-     * Maps classes using mappings of super classes.
-     *
-     * @param superClasses mappings of super classes
-     * @param srcObj source
-     * @param destObj destination
-     * @param mapId map id
-     * @param context user parameters
-     * @param overriddenFieldMappings overridden field mappings
-     * @return list of mapped field keys
-     */
-    private List<String> processSuperTypeMapping(Collection<ClassMap> superClasses,
-            Object srcObj,
-            Object destObj,
-            String mapId,
-            MappingContext context,
-            List<String> overriddenFieldMappings) {
-
-        List<String> mappedFieldKeys = new ArrayList<String>();
-
-        for (ClassMap map : superClasses) {
-            // create copy of super class map which will be modified farther
-            ClassMap copy = map.copyOf();
-            // remove from field mappings list entries that overridden by child
-            // class
-            removeOverriddenFieldMappings(copy, overriddenFieldMappings, destObj);
-            // map classes using field mappings for super classes
-            map(copy, srcObj, destObj, true, mapId, context);
-            for (FieldMap fieldMapping : copy.getFieldMaps()) {
-                // remember mapped fields
-                String key = MappingUtils.getMappedParentFieldKey(destObj, fieldMapping);
-                mappedFieldKeys.add(key);
-            }
-        }
-
-        return mappedFieldKeys;
-    }
-
-    /**
-     * Removes field maps from class map what are overridden.
-     *
-     * @param copy copy of class map
-     * @param overriddenFieldMappings keys of overridden field mappings
-     * @param destObj destination object
-     */
-    private void removeOverriddenFieldMappings(ClassMap copy, List<String> overriddenFieldMappings, Object destObj) {
-        List<FieldMap> result = new ArrayList<FieldMap>();
-
-        for (FieldMap fieldMap : copy.getFieldMaps()) {
-            String key = MappingUtils.getMappedParentFieldKey(destObj, fieldMap);
-            if (!overriddenFieldMappings.contains(key)) {
-                result.add(fieldMap);
-            }
-        }
-
-        copy.setFieldMaps(result);
-    }
-
     private Object getExistingValue(FieldMap fieldMap,
             Class<?> srcFieldType,
             Object srcFieldValue,
@@ -1762,31 +2499,14 @@ public class MappingProcessor implements Mapper {
                     // this means the getXX field is a List but we are actually
                     // trying to
                     // map one of its elements
-                    if (!MappingUtils.isBlankOrNull(fieldMap.getCollectionItemDiscriminatorId())) {
-                        // check condition using condition id
-                        if (collectionItemDiscriminatorObjectsWithId != null && collectionItemDiscriminatorObjectsWithId
-                            .containsKey(
-                                fieldMap.getCollectionItemDiscriminatorId()) && collectionItemDiscriminatorObjectsWithId
-                                    .get(fieldMap.getCollectionItemDiscriminatorId()) != null) {
-                            CollectionItemDiscriminator discriminatorInstance = collectionItemDiscriminatorObjectsWithId
-                                .get(fieldMap.getCollectionItemDiscriminatorId());
-                            result = evaluateCollectionItemDiscriminatorInstance(discriminatorInstance,
-                                srcFieldType,
-                                srcFieldValue,
-                                destFieldType,
-                                result,
-                                context);
-                        } else {
-                            throw new MappingException(
-                                "Cannot find collection item discriminator instance with id:" + fieldMap
-                                    .getCollectionItemDiscriminatorId());
-                        }
-                    } else if (!MappingUtils.isBlankOrNull(fieldMap.getCollectionItemDiscriminator())) {
-                        Class<?> discriminatorClass = MappingUtils.loadClass(fieldMap.getCollectionItemDiscriminator());
-                        result = evaluateCollectionItemDiscriminator(discriminatorClass,
+                    CollectionItemDiscriminator discriminatorInstance = referenceResolver
+                        .getCollectionItemDiscriminator(fieldMap);
+                    if (discriminatorInstance != null) {
+                        result = evaluateCollectionItemDiscriminatorInstance(discriminatorInstance,
                             srcFieldType,
                             srcFieldValue,
                             destFieldType,
+                            destObj,
                             result,
                             fieldMap,
                             context);
@@ -1800,21 +2520,16 @@ public class MappingProcessor implements Mapper {
     }
 
     private ClassMap getClassMap(Class<?> srcClass, Class<?> destClass, String mapId) {
-        ClassMap mapping = null;
+        // Try to find class map using mapId parameter value.
+        ClassMap mapping = classMappings.lookup(srcClass, destClass, mapId);
 
-        try {
-            // Try to find class map using mapId parameter value.
-            mapping = classMappings.find(srcClass, destClass, mapId);
-        } catch (Exception e) {
+        if (mapping == null && !MappingUtils.isBlankOrNull(mapId)) {
             if (log.isDebugEnabled()) {
                 log.debug(String.format("Class map is not found: SRC_CLASS=%s -> DEST_CLASS=%s MapId=%s",
                     srcClass.getName(),
                     destClass.getName(),
                     mapId));
             }
-        }
-
-        if (mapping == null && !MappingUtils.isBlankOrNull(mapId)) {
             // If class map is not found and mapId value is not blank try to
             // find general class map.
             mapping = classMappings.find(srcClass, destClass);
@@ -1873,9 +2588,127 @@ public class MappingProcessor implements Mapper {
         return mapIdConverterAggregator.convert(context.getParams(), dest, source, destClass, srcClass);
     }
 
+    private static Object convert(CustomConverter converter,
+            Object existingDestFieldValue,
+            Object srcFieldValue,
+            Class<?> destFieldClass,
+            Class<?> srcFieldClass,
+            MappingContext context) {
+        if (converter instanceof ContextAwareCustomConverter) {
+            return ((ContextAwareCustomConverter) converter)
+                .convert(context, existingDestFieldValue, srcFieldValue, destFieldClass, srcFieldClass);
+        }
+
+        setParams(converter, context);
+
+        return converter.convert(existingDestFieldValue, srcFieldValue, destFieldClass, srcFieldClass);
+    }
+
     private static void setParams(Object target, MappingContext context) {
         if (target instanceof MappingParamsAware) {
             ((MappingParamsAware) target).setMappingParams(context.getParams());
         }
     }
+
+    /**
+     * Maps a range of collection items. Range is split until it is not greater
+     * than batch size; each batch is mapped by a new processor using a copy of
+     * mapping context, because neither processor nor mapping parameters can be
+     * shared between threads.
+     */
+    private static final class ParallelMappingTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final MappingProcessor parent;
+        private final Object srcObj;
+        private final FieldMap fieldMap;
+        private final Object destObj;
+        private final Object[] srcValues;
+        private final Class<?>[] destEntryTypes;
+        private final Object[] destValues;
+        private final MappingContext context;
+        private final int start;
+        private final int end;
+        private final int batchSize;
+        private final MappedFieldsTracker mappedFields;
+
+        ParallelMappingTask(MappingProcessor parent,
+                Object srcObj,
+                FieldMap fieldMap,
+                Object destObj,
+                Object[] srcValues,
+                Class<?>[] destEntryTypes,
+                Object[] destValues,
+                MappedFieldsTracker mappedFields,
+                MappingContext context,
+                int start,
+                int end,
+                int batchSize) {
+            this.parent = parent;
+            this.srcObj = srcObj;
+            this.fieldMap = fieldMap;
+            this.destObj = destObj;
+            this.srcValues = srcValues;
+            this.destEntryTypes = destEntryTypes;
+            this.destValues = destValues;
+            this.context = context;
+            this.start = start;
+            this.end = end;
+            this.batchSize = batchSize;
+            this.mappedFields = mappedFields;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > batchSize) {
+                int middle = (start + end) >>> 1;
+                invokeAll(createSubtask(start, middle), createSubtask(middle, end));
+                return;
+            }
+
+            MappingProcessor processor = new MappingProcessor(parent, mappedFields);
+            MappingContext batchContext = new MappingContext(context);
+            batchContext.setParentObjects(processor.parentObjects);
+            for (int i = start; i < end; i++) {
+                destValues[i] = processor
+                    .mapCollectionItem(srcObj, srcValues[i], destEntryTypes[i], destObj, fieldMap, batchContext);
+            }
+        }
+
+        private ParallelMappingTask createSubtask(int from, int to) {
+            return new ParallelMappingTask(parent,
+                srcObj,
+                fieldMap,
+                destObj,
+                srcValues,
+                destEntryTypes,
+                destValues,
+                mappedFields,
+                context,
+                from,
+                to,
+                batchSize);
+        }
+    }
+
+    private static Iterator<?> valuesIterator(Object value) {
+        if (value instanceof Iterator) {
+            return (Iterator<?>) value;
+        }
+        if (CollectionUtils.isArray(value.getClass())) {
+            return CollectionUtils.convertPrimitiveArrayToList(value).iterator();
+        }
+        return ((Collection<?>) value).iterator();
+    }
+
+    /**
+     * Class mapping and custom converter resolved for the last mapped object of
+     * batch.
+     */
+    static final class BatchMapping {
+        private Class<?> srcClass;
+        private ClassMap classMap;
+        private CustomConverter converter;
+    }
 }
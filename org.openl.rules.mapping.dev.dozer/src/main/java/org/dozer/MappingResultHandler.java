@@ -0,0 +1,22 @@
+package org.dozer;
+
+/**
+ * Receives results of batch mapping one by one, so results can be processed
+ * without collecting them into a list.
+ *
+ * @param <T> destination type
+ * @see Mapper#mapAll(java.util.Collection, Class, MappingContext,
+ *      MappingResultHandler)
+ */
+public interface MappingResultHandler<T> {
+
+    /**
+     * Handles mapped object. Objects are handled in the order of source
+     * collection.
+     *
+     * @param result mapped object; <code>null</code> if source object is
+     *            <code>null</code>
+     */
+    void handle(T result);
+
+}
@@ -0,0 +1,130 @@
+package org.dozer.cache;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.lang.builder.ToStringBuilder;
+import org.apache.commons.lang.builder.ToStringStyle;
+import org.dozer.stats.GlobalStatistics;
+import org.dozer.stats.StatisticType;
+import org.dozer.stats.StatisticsManager;
+
+/**
+ * Thread-safe bounded cache implementation. Entries are evicted using "second
+ * chance" (clock) policy: entry which was read since the last eviction pass is
+ * moved to the end of eviction queue instead of removing. Reading of cached
+ * value does not take locks and does not allocate objects.
+ */
+public class ConcurrentDozerCache<KeyType, ValueType> implements Cache<KeyType, ValueType> {
+
+    private final String name;
+    private final int maximumSize;
+
+    private final ConcurrentMap<KeyType, Entry<ValueType>> cacheMap;
+    private final Queue<KeyType> evictionQueue = new ConcurrentLinkedQueue<KeyType>();
+
+    StatisticsManager statMgr = GlobalStatistics.getInstance().getStatsMgr();
+
+    public ConcurrentDozerCache(final String name, final int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Dozer cache max size must be greater than 0");
+        }
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.cacheMap = new ConcurrentHashMap<KeyType, Entry<ValueType>>(Math.min(maximumSize, 1024));
+    }
+
+    public void clear() {
+        cacheMap.clear();
+        evictionQueue.clear();
+    }
+
+    public void put(KeyType key, ValueType value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Cache entry key cannot be null");
+        }
+        if (cacheMap.put(key, new Entry<ValueType>(value)) == null) {
+            evictionQueue.offer(key);
+            evictIfNecessary();
+        }
+    }
+
+    public ValueType get(KeyType key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        Entry<ValueType> result = cacheMap.get(key);
+        if (result != null) {
+            result.markAccessed();
+            statMgr.increment(StatisticType.CACHE_HIT_COUNT, name);
+            return result.value;
+        } else {
+            statMgr.increment(StatisticType.CACHE_MISS_COUNT, name);
+            return null;
+        }
+    }
+
+    private void evictIfNecessary() {
+        while (cacheMap.size() > maximumSize) {
+            KeyType key = evictionQueue.poll();
+            if (key == null) {
+                return;
+            }
+            Entry<ValueType> entry = cacheMap.get(key);
+            if (entry == null) {
+                // entry is already removed
+                continue;
+            }
+            if (entry.accessed) {
+                entry.accessed = false;
+                evictionQueue.offer(key);
+            } else {
+                cacheMap.remove(key, entry);
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getSize() {
+        return cacheMap.size();
+    }
+
+    public long getMaxSize() {
+        return maximumSize;
+    }
+
+    public boolean containsKey(KeyType key) {
+        return cacheMap.containsKey(key);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.MULTI_LINE_STYLE).append("name", name)
+            .append("size", getSize())
+            .append("maximumSize", maximumSize)
+            .toString();
+    }
+
+    private static final class Entry<ValueType> {
+
+        private final ValueType value;
+        private volatile boolean accessed;
+
+        Entry(ValueType value) {
+            this.value = value;
+        }
+
+        void markAccessed() {
+            // avoid writes to shared memory on repeated reads
+            if (!accessed) {
+                accessed = true;
+            }
+        }
+    }
+
+}
@@ -22,6 +22,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
+import org.dozer.config.GlobalSettings;
+import org.dozer.util.DozerConstants;
 import org.dozer.util.MappingUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,7 +52,14 @@ public final class DozerCacheManager implements CacheManager {
     }
 
     public void addCache(String name, int maxElementsInMemory) {
-        addCache(new DozerCache(name, maxElementsInMemory));
+        String cacheType = GlobalSettings.getInstance().getCacheType();
+        if (DozerConstants.CONCURRENT_CACHE_TYPE.equalsIgnoreCase(cacheType)) {
+            addCache(new ConcurrentDozerCache(name, maxElementsInMemory));
+        } else if (DozerConstants.LRU_CACHE_TYPE.equalsIgnoreCase(cacheType)) {
+            addCache(new DozerCache(name, maxElementsInMemory));
+        } else {
+            MappingUtils.throwMappingException("Unsupported cache type: " + cacheType);
+        }
     }
 
     public void addCache(Cache cache) {
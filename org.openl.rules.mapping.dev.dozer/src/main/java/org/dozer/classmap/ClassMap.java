@@ -17,11 +17,14 @@ package org.dozer.classmap;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.apache.commons.lang.builder.ToStringStyle;
 import org.dozer.converters.CustomConverterContainer;
+import org.dozer.factory.BeanFactoryRegistry;
 import org.dozer.fieldmap.FieldMap;
 import org.dozer.util.MappingUtils;
 
@@ -53,6 +56,9 @@ public class ClassMap {
     private CustomConverterContainer customConverters;
     private String mapId;
     private RelationshipType relationshipType;
+    private Boolean parallelCollections;
+    // For Caching Purposes
+    private final ConcurrentMap<Object, MappingPlan> mappingPlans = new ConcurrentHashMap<Object, MappingPlan>();
 
     public ClassMap(Configuration globalConfiguration) {
         this.globalConfiguration = globalConfiguration;
@@ -64,6 +70,30 @@ public class ClassMap {
 
     public void setFieldMaps(List<FieldMap> fieldMaps) {
         this.fieldMaps = fieldMaps;
+        mappingPlans.clear();
+    }
+
+    /**
+     * Gets previously built mapping plan.
+     * 
+     * @param key plan key
+     * @return mapping plan or <code>null</code> if plan is not built yet
+     */
+    public MappingPlan getMappingPlan(Object key) {
+        return mappingPlans.get(key);
+    }
+
+    /**
+     * Stores mapping plan. If plan with the same key is already stored it is
+     * returned and new one is ignored.
+     * 
+     * @param key plan key
+     * @param plan mapping plan
+     * @return stored mapping plan
+     */
+    public MappingPlan addMappingPlan(Object key, MappingPlan plan) {
+        MappingPlan existing = mappingPlans.putIfAbsent(key, plan);
+        return existing != null ? existing : plan;
     }
 
     public boolean isStopOnErrors() {
@@ -201,10 +231,12 @@ public class ClassMap {
 
     public void addFieldMapping(FieldMap fieldMap) {
         fieldMaps.add(fieldMap);
+        mappingPlans.clear();
     }
 
     public void removeFieldMapping(FieldMap fieldMap) {
         fieldMaps.remove(fieldMap);
+        mappingPlans.clear();
     }
 
     public boolean isWildcard() {
@@ -272,6 +304,10 @@ public class ClassMap {
         return !MappingUtils.isBlankOrNull(srcClass.getBeanFactory()) ? srcClass.getBeanFactory() : getBeanFactory();
     }
 
+    public BeanFactoryRegistry getBeanFactories() {
+        return globalConfiguration.getBeanFactories();
+    }
+
     public String getDestClassBeanFactoryId() {
         return destClass.getFactoryBeanId();
     }
@@ -304,6 +340,14 @@ public class ClassMap {
         destClass.setCreateMethod(createMethod);
     }
 
+    public List<String> getDestClassCreatorParameters() {
+        return destClass.getCreatorParameters();
+    }
+
+    public String getDestClassBuilderMethod() {
+        return destClass.getBuilderMethod();
+    }
+
     public String getSrcClassCreateMethod() {
         return srcClass.getCreateMethod();
     }
@@ -368,6 +412,18 @@ public class ClassMap {
         this.relationshipType = relationshipType;
     }
 
+    /**
+     * Indicates that items of large source collections can be mapped in
+     * parallel unless field mapping overrides it.
+     */
+    public boolean isParallelCollections() {
+        return parallelCollections != null && parallelCollections.booleanValue();
+    }
+
+    public void setParallelCollections(Boolean parallelCollections) {
+        this.parallelCollections = parallelCollections;
+    }
+
     public DozerClass getSrcClass() {
         return srcClass;
     }
@@ -409,6 +465,7 @@ public class ClassMap {
         copy.setCustomConverters(customConverters);
         copy.setMapId(mapId);
         copy.setRelationshipType(relationshipType);
+        copy.setParallelCollections(parallelCollections);
 
         return copy;
     }
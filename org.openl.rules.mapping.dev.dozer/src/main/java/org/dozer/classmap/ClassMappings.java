@@ -16,12 +16,15 @@
 package org.dozer.classmap;
 
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
-import org.apache.commons.lang.StringUtils;
 import org.dozer.util.MappingUtils;
 
 /**
@@ -34,10 +37,19 @@ import org.dozer.util.MappingUtils;
  */
 public class ClassMappings {
 
+    // Markers used by lookup index
+    private static final Object NOT_FOUND = new Object();
+    private static final Object NO_MAP_ID = new Object();
+    private static final Object EXACT_MATCH = new Object();
+
     // Cache key --> Mapping Structure
     private Map<String, ClassMap> classMappings = new ConcurrentHashMap<String, ClassMap>();
     private ClassMapKeyFactory keyFactory;
 
+    // Index of resolved lookups. Lookups affected by an added class mapping
+    // are removed from the index, the index is replaced by addAll only.
+    private volatile LookupIndex lookupIndex = new LookupIndex();
+
     public ClassMappings() {
         keyFactory = new ClassMapKeyFactory();
     }
@@ -49,27 +61,38 @@ public class ClassMappings {
     // Default mappings. May be ovewritten due to multiple threads generating
     // same mapping
     public void addDefault(Class<?> srcClass, Class<?> destClass, ClassMap classMap) {
-        classMappings.put(keyFactory.createKey(srcClass, destClass), classMap);
+        register(keyFactory.createKey(srcClass, destClass), classMap);
     }
 
     public void add(Class<?> srcClass, Class<?> destClass, ClassMap classMap) {
-        ClassMap result = classMappings.put(keyFactory.createKey(srcClass, destClass), classMap);
+        ClassMap result = register(keyFactory.createKey(srcClass, destClass), classMap);
         failOnDuplicate(result, classMap);
     }
 
     public void add(Class<?> srcClass, Class<?> destClass, String mapId, ClassMap classMap) {
-        ClassMap result = classMappings.put(keyFactory.createKey(srcClass, destClass, mapId), classMap);
+        ClassMap result = register(keyFactory.createKey(srcClass, destClass, mapId), classMap);
         failOnDuplicate(result, classMap);
     }
 
-    public void addAll(ClassMappings additionalClassMappings) {
+    public synchronized void addAll(ClassMappings additionalClassMappings) {
         Map<String, ClassMap> newMappings = additionalClassMappings.getAll();
-        for (Entry<String, ClassMap> entry : newMappings.entrySet()) {
-            ClassMap result = classMappings.put(entry.getKey(), entry.getValue());
-            failOnDuplicate(result, entry.getValue());
+        try {
+            for (Entry<String, ClassMap> entry : newMappings.entrySet()) {
+                ClassMap result = classMappings.put(entry.getKey(), entry.getValue());
+                failOnDuplicate(result, entry.getValue());
+            }
+        } finally {
+            // the index is built once for all added class mappings
+            lookupIndex = new LookupIndex();
         }
     }
 
+    private synchronized ClassMap register(String key, ClassMap classMap) {
+        ClassMap result = classMappings.put(key, classMap);
+        lookupIndex.invalidate(classMap);
+        return result;
+    }
+
     public void failOnDuplicate(Object result, ClassMap classMap) {
         if (result != null && !classMap.getSrcClassName().equals(classMap.getDestClassName())) {
             throw new IllegalArgumentException(
@@ -87,7 +110,14 @@ public class ClassMappings {
     }
 
     public ClassMap find(Class<?> srcClass, Class<?> destClass) {
-        return classMappings.get(keyFactory.createKey(srcClass, destClass));
+        LookupIndex index = lookupIndex;
+        Object result = index.get(srcClass, destClass, EXACT_MATCH);
+        if (result == null) {
+            int version = index.version;
+            ClassMap mapping = classMappings.get(keyFactory.createKey(srcClass, destClass));
+            result = index.put(srcClass, destClass, EXACT_MATCH, mapping, version);
+        }
+        return result == NOT_FOUND ? null : (ClassMap) result;
     }
 
     public boolean contains(Class<?> srcClass, Class<?> destClass, String mapId) {
@@ -96,50 +126,67 @@ public class ClassMappings {
     }
 
     public ClassMap find(Class<?> srcClass, Class<?> destClass, String mapId) {
-        final String key = keyFactory.createKey(srcClass, destClass, mapId);
-        ClassMap mapping = classMappings.get(key);
+        ClassMap mapping = lookup(srcClass, destClass, mapId);
+
+        // If map-id was specified and mapping was not found, then fail
+        if (!MappingUtils.isBlankOrNull(mapId) && mapping == null) {
+            MappingUtils.throwMappingException(
+                "Class mapping not found by map-id: " + keyFactory.createKey(srcClass, destClass, mapId));
+        }
+
+        return mapping;
+    }
+
+    /**
+     * Finds class mapping in the same way as {@link #find(Class, Class, String)}
+     * does, but does not fail if class mapping is not found. Results of lookups
+     * are cached, so subsequent lookups for the same classes do not search
+     * class mappings again.
+     *
+     * @return class mapping or <code>null</code> if it is not found
+     */
+    public ClassMap lookup(Class<?> srcClass, Class<?> destClass, String mapId) {
+        LookupIndex index = lookupIndex;
+        Object mapIdKey = mapId != null ? mapId : NO_MAP_ID;
+        Object result = index.get(srcClass, destClass, mapIdKey);
+        if (result == null) {
+            int version = index.version;
+            ClassMap mapping = findClassMap(index, srcClass, destClass, mapId);
+            result = index.put(srcClass, destClass, mapIdKey, mapping, version);
+        }
+        return result == NOT_FOUND ? null : (ClassMap) result;
+    }
+
+    private ClassMap findClassMap(LookupIndex index, Class<?> srcClass, Class<?> destClass, String mapId) {
+        ClassMap mapping = classMappings.get(keyFactory.createKey(srcClass, destClass, mapId));
 
         if (mapping == null) {
-            mapping = findInterfaceMapping(destClass, srcClass, mapId);
+            mapping = findInterfaceMapping(index, destClass, srcClass, mapId);
         }
 
         // one more try...
         // if the mapId is not null looking up a map is easy
         if (!MappingUtils.isBlankOrNull(mapId) && mapping == null) {
-            // probably a more efficient way to do this...
-            for (Entry<String, ClassMap> entry : classMappings.entrySet()) {
-                ClassMap classMap = entry.getValue();
-                if (StringUtils.equals(classMap.getMapId(), mapId) && classMap.getSrcClassToMap()
-                    .isAssignableFrom(srcClass) && classMap.getDestClassToMap().isAssignableFrom(destClass)) {
+            for (ClassMap classMap : index.getClassMaps(mapId)) {
+                if (classMap.getSrcClassToMap().isAssignableFrom(srcClass) && classMap.getDestClassToMap()
+                    .isAssignableFrom(destClass)) {
                     return classMap;
-                } else if (StringUtils.equals(classMap.getMapId(), mapId) && srcClass.equals(destClass)) {
+                } else if (srcClass.equals(destClass)) {
                     return classMap;
                 }
             }
-
-            // If map-id was specified and mapping was not found, then fail
-            MappingUtils.throwMappingException("Class mapping not found by map-id: " + key);
         }
 
         return mapping;
     }
 
     // Look for an interface mapping
-    private ClassMap findInterfaceMapping(Class<?> destClass, Class<?> srcClass, String mapId) {
-        // Use object array for keys to avoid any rare thread synchronization
-        // issues
-        // while iterating over the custom mappings.
-        // See bug #1550275.
-        Object[] keys = classMappings.keySet().toArray();
-        for (Object key : keys) {
-            ClassMap map = classMappings.get(key);
+    private ClassMap findInterfaceMapping(LookupIndex index, Class<?> destClass, Class<?> srcClass, String mapId) {
+        // Only class mappings with the same map id are checked
+        for (ClassMap map : index.getClassMaps(mapId)) {
             Class<?> mappingDestClass = map.getDestClassToMap();
             Class<?> mappingSrcClass = map.getSrcClassToMap();
 
-            if ((mapId == null && map.getMapId() != null) || (mapId != null && !mapId.equals(map.getMapId()))) {
-                continue;
-            }
-
             if (isInterfaceImplementation(srcClass, mappingSrcClass)) {
                 if (isInterfaceImplementation(destClass, mappingDestClass)) {
                     return map;
@@ -165,4 +212,130 @@ public class ClassMappings {
         return mappingType.isInterface() && mappingType.isAssignableFrom(type);
     }
 
+    /**
+     * Index of class mapping lookups: source class -> destination class ->
+     * lookup kind or map id -> class mapping. Also groups class mappings by map
+     * id, so lookups do not scan class mappings with different map ids.
+     * <p>
+     * Version is incremented each time a class mapping is added. A lookup
+     * which was resolved while a class mapping was being added is not kept in
+     * the index, because it could miss the added class mapping.
+     */
+    private final class LookupIndex {
+
+        private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, ConcurrentMap<Object, Object>>> resolved = new ConcurrentHashMap<Class<?>, ConcurrentMap<Class<?>, ConcurrentMap<Object, Object>>>();
+        private volatile MapIdGroups classMapsByMapId;
+        private volatile int version;
+
+        Object get(Class<?> srcClass, Class<?> destClass, Object key) {
+            ConcurrentMap<Class<?>, ConcurrentMap<Object, Object>> byDestClass = resolved.get(srcClass);
+            if (byDestClass == null) {
+                return null;
+            }
+            ConcurrentMap<Object, Object> byKey = byDestClass.get(destClass);
+            if (byKey == null) {
+                return null;
+            }
+            return byKey.get(key);
+        }
+
+        Object put(Class<?> srcClass, Class<?> destClass, Object key, ClassMap classMap, int resolvedVersion) {
+            ConcurrentMap<Class<?>, ConcurrentMap<Object, Object>> byDestClass = resolved.get(srcClass);
+            if (byDestClass == null) {
+                byDestClass = new ConcurrentHashMap<Class<?>, ConcurrentMap<Object, Object>>();
+                ConcurrentMap<Class<?>, ConcurrentMap<Object, Object>> existing = resolved.putIfAbsent(srcClass,
+                    byDestClass);
+                if (existing != null) {
+                    byDestClass = existing;
+                }
+            }
+            ConcurrentMap<Object, Object> byKey = byDestClass.get(destClass);
+            if (byKey == null) {
+                byKey = new ConcurrentHashMap<Object, Object>(4);
+                ConcurrentMap<Object, Object> existing = byDestClass.putIfAbsent(destClass, byKey);
+                if (existing != null) {
+                    byKey = existing;
+                }
+            }
+            Object value = classMap != null ? classMap : NOT_FOUND;
+            Object existing = byKey.putIfAbsent(key, value);
+            if (existing != null) {
+                return existing;
+            }
+            if (version != resolvedVersion) {
+                byKey.remove(key, value);
+            }
+            return value;
+        }
+
+        /**
+         * Removes lookups which can be resolved to the given class mapping.
+         * Lookups for other source classes and other map ids are kept.
+         */
+        void invalidate(ClassMap classMap) {
+            version++;
+
+            Class<?> mappingSrcClass = classMap.getSrcClassToMap();
+            String mapId = classMap.getMapId();
+            boolean hasMapId = !MappingUtils.isBlankOrNull(mapId);
+
+            for (Entry<Class<?>, ConcurrentMap<Class<?>, ConcurrentMap<Object, Object>>> entry : resolved.entrySet()) {
+                Class<?> srcClass = entry.getKey();
+                boolean sameSrcClass = mappingSrcClass == null || mappingSrcClass.isAssignableFrom(srcClass) || MappingUtils
+                    .getRealClass(srcClass)
+                    .getName()
+                    .equals(classMap.getSrcClassName());
+
+                for (Entry<Class<?>, ConcurrentMap<Object, Object>> byDestClass : entry.getValue().entrySet()) {
+                    // map-id lookups match any class mapping with the same map
+                    // id when source and destination classes are equal
+                    if (!sameSrcClass && !(hasMapId && srcClass.equals(byDestClass.getKey()))) {
+                        continue;
+                    }
+                    ConcurrentMap<Object, Object> byKey = byDestClass.getValue();
+                    if (hasMapId) {
+                        byKey.remove(mapId);
+                    } else {
+                        byKey.remove(EXACT_MATCH);
+                        byKey.remove(NO_MAP_ID);
+                        byKey.remove("");
+                    }
+                }
+            }
+        }
+
+        List<ClassMap> getClassMaps(String mapId) {
+            int currentVersion = version;
+            MapIdGroups result = classMapsByMapId;
+            if (result == null || result.version != currentVersion) {
+                result = new MapIdGroups(currentVersion);
+                classMapsByMapId = result;
+            }
+            List<ClassMap> classMaps = result.classMaps.get(mapId);
+            return classMaps != null ? classMaps : Collections.<ClassMap> emptyList();
+        }
+    }
+
+    /**
+     * Class mappings grouped by map id. Groups are built again when index
+     * version is changed.
+     */
+    private final class MapIdGroups {
+
+        private final int version;
+        private final Map<String, List<ClassMap>> classMaps = new HashMap<String, List<ClassMap>>();
+
+        MapIdGroups(int version) {
+            this.version = version;
+            for (ClassMap classMap : classMappings.values()) {
+                List<ClassMap> group = classMaps.get(classMap.getMapId());
+                if (group == null) {
+                    group = new ArrayList<ClassMap>();
+                    classMaps.put(classMap.getMapId(), group);
+                }
+                group.add(classMap);
+            }
+        }
+    }
+
 }
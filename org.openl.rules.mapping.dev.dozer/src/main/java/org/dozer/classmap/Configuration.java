@@ -18,6 +18,7 @@ package org.dozer.classmap;
 import org.apache.commons.lang.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang.builder.ToStringStyle;
 import org.dozer.converters.CustomConverterContainer;
+import org.dozer.factory.BeanFactoryRegistry;
 import org.dozer.util.DozerConstants;
 
 /**
@@ -43,6 +44,7 @@ public class Configuration {
     private String dateFormat;
     private String beanFactory;
     private RelationshipType relationshipType;
+    private BeanFactoryRegistry beanFactories;
 
     public AllowedExceptionContainer getAllowedExceptions() {
         return allowedExceptions;
@@ -84,6 +86,17 @@ public class Configuration {
         this.beanFactory = beanFactory;
     }
 
+    /**
+     * Gets bean factories of the mapper which uses this configuration.
+     */
+    public BeanFactoryRegistry getBeanFactories() {
+        return beanFactories;
+    }
+
+    public void setBeanFactories(BeanFactoryRegistry beanFactories) {
+        this.beanFactories = beanFactories;
+    }
+
     public CopyByReferenceContainer getCopyByReferences() {
         return copyByReferences;
     }
@@ -0,0 +1,73 @@
+package org.dozer.classmap;
+
+import org.dozer.fieldmap.FieldMap;
+import org.dozer.propertydescriptor.DeepFieldPath;
+import org.dozer.propertydescriptor.GetterSetterPropertyDescriptor;
+
+/**
+ * Common prefix of deep destination field paths of {@link MappingPlan}.
+ * Prefixes form a tree; intermediate destination object of each prefix is
+ * resolved (or instantiated) once per destination object and reused by all
+ * field mappings which start with the prefix. Only intended for internal use.
+ */
+public final class DestPathPrefix {
+
+    private final DestPathPrefix parent;
+    private final GetterSetterPropertyDescriptor propertyDescriptor;
+    private final DeepFieldPath path;
+    private final int elementIndex;
+    private final FieldMap fieldMap;
+    private final int slot;
+
+    /**
+     * Creates prefix which resolves intermediate object using path element of
+     * given field mapping.
+     * 
+     * @param parent parent prefix; <code>null</code> for the first path element
+     * @param propertyDescriptor destination property descriptor of field mapping
+     * @param path compiled destination field path
+     * @param elementIndex index of path element
+     * @param fieldMap field mapping
+     * @param slot index of prefix value
+     */
+    public DestPathPrefix(DestPathPrefix parent,
+            GetterSetterPropertyDescriptor propertyDescriptor,
+            DeepFieldPath path,
+            int elementIndex,
+            FieldMap fieldMap,
+            int slot) {
+        this.parent = parent;
+        this.propertyDescriptor = propertyDescriptor;
+        this.path = path;
+        this.elementIndex = elementIndex;
+        this.fieldMap = fieldMap;
+        this.slot = slot;
+    }
+
+    public DestPathPrefix getParent() {
+        return parent;
+    }
+
+    /**
+     * Gets intermediate object of prefix for destination object. Missing
+     * objects are created.
+     * 
+     * @param destObj destination object
+     * @param values prefix values of destination object created by
+     *            {@link MappingPlan#createDestPathValues()}
+     * @return intermediate object which is parent of the next path element
+     */
+    public Object getValue(Object destObj, Object[] values) {
+        Object value = values[slot];
+        if (value != null) {
+            return value;
+        }
+
+        Object parentValue = parent != null ? parent.getValue(destObj, values) : destObj;
+        value = propertyDescriptor.prepareDeepDestParent(path, elementIndex, parentValue, fieldMap);
+        values[slot] = value;
+
+        return value;
+    }
+
+}
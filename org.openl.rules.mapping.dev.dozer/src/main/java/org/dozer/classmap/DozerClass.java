@@ -15,6 +15,9 @@
  */
 package org.dozer.classmap;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.apache.commons.lang.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang.builder.ToStringStyle;
 import org.dozer.util.MappingUtils;
@@ -39,6 +42,8 @@ public class DozerClass {
     private Boolean mapNull;
     private Boolean mapEmptyString;
     private Boolean accessible;
+    private List<String> creatorParameters = Collections.emptyList();
+    private String builderMethod;
 
     public DozerClass() {
     }
@@ -118,6 +123,28 @@ public class DozerClass {
         this.createMethod = createMethod;
     }
 
+    /**
+     * Gets names of fields which are passed to constructor, create method or
+     * builder when object is created.
+     *
+     * @return field names; empty list if object is created without arguments
+     */
+    public List<String> getCreatorParameters() {
+        return creatorParameters;
+    }
+
+    public void setCreatorParameters(List<String> creatorParameters) {
+        this.creatorParameters = creatorParameters != null ? creatorParameters : Collections.<String> emptyList();
+    }
+
+    public String getBuilderMethod() {
+        return builderMethod;
+    }
+
+    public void setBuilderMethod(String builderMethod) {
+        this.builderMethod = builderMethod;
+    }
+
     public Boolean getMapNull() {
         return mapNull;
     }
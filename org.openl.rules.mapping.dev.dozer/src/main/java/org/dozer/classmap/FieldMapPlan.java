@@ -0,0 +1,206 @@
+package org.dozer.classmap;
+
+import org.apache.commons.beanutils.Converter;
+import org.dozer.CustomConverter;
+import org.dozer.FieldMappingCondition;
+import org.dozer.fieldmap.CompiledFieldMapping;
+import org.dozer.fieldmap.FieldMap;
+import org.dozer.propertydescriptor.DeepFieldPath;
+import org.dozer.propertydescriptor.DozerPropertyDescriptor;
+
+/**
+ * Immutable part of {@link MappingPlan} which describes a single field mapping
+ * with all values resolved for particular runtime source and destination
+ * classes. Values which cannot be resolved in advance are <code>null</code>
+ * and have to be determined by mapper during mapping. Only intended for
+ * internal use.
+ */
+public final class FieldMapPlan {
+
+    private final FieldMap fieldMap;
+    private final boolean excluded;
+    private final boolean iterate;
+    private final DozerPropertyDescriptor srcPropertyDescriptor;
+    private final Class<?> srcFieldType;
+    private final Class<?> destFieldType;
+    private final CustomConverter customConverter;
+    private final FieldMappingCondition mappingCondition;
+    private final boolean destDefaultValueResolved;
+    private final Object destDefaultValue;
+    private final CompiledFieldMapping compiledFieldMapping;
+    private final Converter compiledFieldConverter;
+    private final DeepFieldPath srcDeepFieldPath;
+    private final SourcePathPrefix srcPathPrefix;
+    private final DozerPropertyDescriptor destPropertyDescriptor;
+    private final DeepFieldPath destDeepFieldPath;
+    private final DestPathPrefix destPathPrefix;
+    private final int creatorParameterIndex;
+
+    public FieldMapPlan(FieldMap fieldMap,
+            boolean excluded,
+            boolean iterate,
+            DozerPropertyDescriptor srcPropertyDescriptor,
+            Class<?> srcFieldType,
+            Class<?> destFieldType,
+            CustomConverter customConverter,
+            FieldMappingCondition mappingCondition,
+            boolean destDefaultValueResolved,
+            Object destDefaultValue,
+            CompiledFieldMapping compiledFieldMapping,
+            Converter compiledFieldConverter,
+            DeepFieldPath srcDeepFieldPath,
+            SourcePathPrefix srcPathPrefix,
+            DozerPropertyDescriptor destPropertyDescriptor,
+            DeepFieldPath destDeepFieldPath,
+            DestPathPrefix destPathPrefix,
+            int creatorParameterIndex) {
+        this.fieldMap = fieldMap;
+        this.excluded = excluded;
+        this.iterate = iterate;
+        this.srcPropertyDescriptor = srcPropertyDescriptor;
+        this.srcFieldType = srcFieldType;
+        this.destFieldType = destFieldType;
+        this.customConverter = customConverter;
+        this.mappingCondition = mappingCondition;
+        this.destDefaultValueResolved = destDefaultValueResolved;
+        this.destDefaultValue = destDefaultValue;
+        this.compiledFieldMapping = compiledFieldMapping;
+        this.compiledFieldConverter = compiledFieldConverter;
+        this.srcDeepFieldPath = srcDeepFieldPath;
+        this.srcPathPrefix = srcPathPrefix;
+        this.destPropertyDescriptor = destPropertyDescriptor;
+        this.destDeepFieldPath = destDeepFieldPath;
+        this.destPathPrefix = destPathPrefix;
+        this.creatorParameterIndex = creatorParameterIndex;
+    }
+
+    public FieldMap getFieldMap() {
+        return fieldMap;
+    }
+
+    /**
+     * Indicates that field is explicitly excluded from mapping.
+     */
+    public boolean isExcluded() {
+        return excluded;
+    }
+
+    /**
+     * Indicates that destination field is populated using "iterate" method.
+     */
+    public boolean isIterate() {
+        return iterate;
+    }
+
+    public DozerPropertyDescriptor getSrcPropertyDescriptor() {
+        return srcPropertyDescriptor;
+    }
+
+    public Class<?> getSrcFieldType() {
+        return srcFieldType;
+    }
+
+    public Class<?> getDestFieldType() {
+        return destFieldType;
+    }
+
+    /**
+     * Gets converter instance resolved using custom converter id or class
+     * name.
+     */
+    public CustomConverter getCustomConverter() {
+        return customConverter;
+    }
+
+    /**
+     * Gets condition instance resolved using mapping condition id or class
+     * name.
+     */
+    public FieldMappingCondition getMappingCondition() {
+        return mappingCondition;
+    }
+
+    /**
+     * Indicates that default value of destination field is already converted
+     * and can be shared between mapped objects.
+     */
+    public boolean isDestDefaultValueResolved() {
+        return destDefaultValueResolved;
+    }
+
+    public Object getDestDefaultValue() {
+        return destDefaultValue;
+    }
+
+    /**
+     * Gets compiled form of field mapping.
+     * 
+     * @return compiled field mapping or <code>null</code> if field should be
+     *         mapped by mapper as usual
+     */
+    public CompiledFieldMapping getCompiledFieldMapping() {
+        return compiledFieldMapping;
+    }
+
+    /**
+     * Gets primitive converter resolved for source and destination types of
+     * compiled field mapping.
+     * 
+     * @return converter or <code>null</code> if compiled field mapping copies
+     *         value as is
+     */
+    public Converter getCompiledFieldConverter() {
+        return compiledFieldConverter;
+    }
+
+    /**
+     * Gets compiled deep path of source field.
+     * 
+     * @return deep path or <code>null</code> if source field is not a deep
+     *         field of java bean
+     */
+    public DeepFieldPath getSrcDeepFieldPath() {
+        return srcDeepFieldPath;
+    }
+
+    /**
+     * Gets prefix of deep source field path which is shared with other field
+     * mappings of the plan.
+     * 
+     * @return path prefix or <code>null</code> if source field is not a deep
+     *         field of java bean
+     */
+    public SourcePathPrefix getSrcPathPrefix() {
+        return srcPathPrefix;
+    }
+
+    public DozerPropertyDescriptor getDestPropertyDescriptor() {
+        return destPropertyDescriptor;
+    }
+
+    public DeepFieldPath getDestDeepFieldPath() {
+        return destDeepFieldPath;
+    }
+
+    /**
+     * Gets prefix of deep destination field path which is shared with other
+     * field mappings of the plan.
+     * 
+     * @return path prefix or <code>null</code> if destination field is written
+     *         by mapper as usual
+     */
+    public DestPathPrefix getDestPathPrefix() {
+        return destPathPrefix;
+    }
+
+    /**
+     * Gets index of creator argument which receives mapped value.
+     * 
+     * @return argument index or <code>-1</code> if mapped value is written to
+     *         destination object
+     */
+    public int getCreatorParameterIndex() {
+        return creatorParameterIndex;
+    }
+
+}
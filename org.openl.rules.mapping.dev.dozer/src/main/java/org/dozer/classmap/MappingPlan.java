@@ -0,0 +1,99 @@
+package org.dozer.classmap;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.dozer.factory.ArgumentsInstantiator;
+
+/**
+ * Immutable mapping plan of class map. Plan is built once per runtime source
+ * class, runtime destination class and map id and contains field mappings
+ * which should be applied in the order of processing. Field mappings of super
+ * class mappings go first; overridden ones are already excluded. Deep source
+ * field paths with common prefixes share {@link SourcePathPrefix} values; deep
+ * destination field paths share {@link DestPathPrefix} values. Only intended
+ * for internal use.
+ * <p>
+ * If destination objects are created from mapped values, field mappings which
+ * provide creator arguments are processed before the object is created; the
+ * rest are applied to the created object.
+ */
+public final class MappingPlan {
+
+    private final ClassMap classMap;
+    private final String mapId;
+    private final List<FieldMapPlan> fieldMapPlans;
+    private final int srcPathPrefixCount;
+    private final int destPathPrefixCount;
+    private final ArgumentsInstantiator creator;
+
+    public MappingPlan(ClassMap classMap,
+            String mapId,
+            List<FieldMapPlan> fieldMapPlans,
+            int srcPathPrefixCount,
+            int destPathPrefixCount,
+            ArgumentsInstantiator creator) {
+        this.classMap = classMap;
+        this.mapId = mapId;
+        this.fieldMapPlans = Collections.unmodifiableList(fieldMapPlans);
+        this.srcPathPrefixCount = srcPathPrefixCount;
+        this.destPathPrefixCount = destPathPrefixCount;
+        this.creator = creator;
+    }
+
+    public ClassMap getClassMap() {
+        return classMap;
+    }
+
+    public String getMapId() {
+        return mapId;
+    }
+
+    public List<FieldMapPlan> getFieldMapPlans() {
+        return fieldMapPlans;
+    }
+
+    /**
+     * Gets instantiator which creates destination object from mapped values.
+     * 
+     * @return instantiator or <code>null</code> if destination object is
+     *         created before mapping of fields
+     */
+    public ArgumentsInstantiator getCreator() {
+        return creator;
+    }
+
+    /**
+     * Creates holder of source path prefix values for a single source object.
+     * 
+     * @return prefix values or <code>null</code> if plan has no deep source
+     *         field paths
+     */
+    public Object[] createSrcPathValues() {
+        if (srcPathPrefixCount == 0) {
+            return null;
+        }
+
+        Object[] values = new Object[srcPathPrefixCount];
+        Arrays.fill(values, SourcePathPrefix.UNRESOLVED);
+
+        return values;
+    }
+
+    /**
+     * Creates holder of destination path prefix values for a single
+     * destination object.
+     * 
+     * @return prefix values or <code>null</code> if plan has no shared deep
+     *         destination field paths
+     */
+    public Object[] createDestPathValues() {
+        if (destPathPrefixCount == 0) {
+            return null;
+        }
+
+        return new Object[destPathPrefixCount];
+    }
+
+}
@@ -0,0 +1,58 @@
+package org.dozer.classmap;
+
+import org.dozer.propertydescriptor.DeepFieldPath;
+
+/**
+ * Common prefix of deep source field paths of {@link MappingPlan}. Prefixes
+ * form a tree; value of each prefix is read once per source object and shared
+ * between all field mappings which start with the prefix. If value of prefix
+ * is <code>null</code> values of all nested prefixes are <code>null</code> as
+ * well and getters are not invoked. Only intended for internal use.
+ */
+public final class SourcePathPrefix {
+
+    /**
+     * Marker of prefix value which is not read yet.
+     */
+    static final Object UNRESOLVED = new Object();
+
+    private final SourcePathPrefix parent;
+    private final DeepFieldPath.Element element;
+    private final int slot;
+
+    public SourcePathPrefix(SourcePathPrefix parent, DeepFieldPath.Element element, int slot) {
+        this.parent = parent;
+        this.element = element;
+        this.slot = slot;
+    }
+
+    public SourcePathPrefix getParent() {
+        return parent;
+    }
+
+    public DeepFieldPath.Element getElement() {
+        return element;
+    }
+
+    /**
+     * Gets value of prefix for source object.
+     * 
+     * @param srcObj source object
+     * @param values prefix values of source object created by
+     *            {@link MappingPlan#createSrcPathValues()}
+     * @return prefix value
+     */
+    public Object getValue(Object srcObj, Object[] values) {
+        Object value = values[slot];
+        if (value != UNRESOLVED) {
+            return value;
+        }
+
+        Object parentValue = parent != null ? parent.getValue(srcObj, values) : srcObj;
+        value = parentValue != null ? element.getValue(parentValue) : null;
+        values[slot] = value;
+
+        return value;
+    }
+
+}
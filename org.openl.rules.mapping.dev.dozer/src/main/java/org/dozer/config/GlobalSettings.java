@@ -52,6 +52,7 @@ public class GlobalSettings {
     private boolean statisticsEnabled = DozerConstants.DEFAULT_STATISTICS_ENABLED;
     private int converterByDestTypeCacheMaxSize = DozerConstants.DEFAULT_CONVERTER_BY_DEST_TYPE_CACHE_MAX_SIZE;
     private int superTypesCacheMaxSize = DozerConstants.DEFAULT_SUPER_TYPE_CHECK_CACHE_MAX_SIZE;
+    private String cacheType = DozerConstants.DEFAULT_CACHE_TYPE;
     private boolean autoregisterJMXBeans = DozerConstants.DEFAULT_AUTOREGISTER_JMX_BEANS;
     private boolean elEnabled = DozerConstants.DEFAULT_EL_ENABLED;
 
@@ -94,6 +95,14 @@ public class GlobalSettings {
         return superTypesCacheMaxSize;
     }
 
+    /**
+     * Gets type of caches used by mappers: "concurrent" for thread-safe
+     * bounded cache or "lru" for LRU cache based on linked hash map.
+     */
+    public String getCacheType() {
+        return cacheType;
+    }
+
     public String getClassLoaderName() {
         return classLoaderBeanName;
     }
@@ -163,6 +172,10 @@ public class GlobalSettings {
         if (propValue != null) {
             superTypesCacheMaxSize = Integer.parseInt(propValue);
         }
+        propValue = props.getProperty(PropertyConstants.CACHE_TYPE);
+        if (propValue != null) {
+            cacheType = propValue.trim();
+        }
         propValue = props.getProperty(PropertyConstants.AUTOREGISTER_JMX_BEANS);
         if (propValue != null) {
             autoregisterJMXBeans = Boolean.valueOf(propValue);
@@ -26,6 +26,7 @@ public final class PropertyConstants {
     public static final String STATISTICS_ENABLED = "dozer.statistics.enabled";
     public static final String CONVERTER_CACHE_MAX_SIZE = "dozer.cache.converter.by.dest.type.maxsize";
     public static final String SUPERTYPE_CACHE_MAX_SIZE = "dozer.cache.super.type.maxsize";
+    public static final String CACHE_TYPE = "dozer.cache.type";
     public static final String AUTOREGISTER_JMX_BEANS = "dozer.autoregister.jmx.beans";
     public static final String EL_ENABLED = "dozer.el.enabled";
     // Bean Implementations
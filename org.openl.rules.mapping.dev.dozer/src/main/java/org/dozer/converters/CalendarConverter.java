@@ -35,14 +35,25 @@ import org.apache.commons.beanutils.Converter;
 public class CalendarConverter implements Converter {
 
     private DateFormat dateFormat;
+    private DateFormatContainer dateFormatContainer;
 
     public CalendarConverter(DateFormat dateFormat) {
         this.dateFormat = dateFormat;
     }
 
+    /**
+     * Creates converter which takes date format from container on each
+     * conversion, so converter can be shared between threads.
+     */
+    public CalendarConverter(DateFormatContainer dateFormatContainer) {
+        this.dateFormatContainer = dateFormatContainer;
+    }
+
     public Object convert(Class destClass, Object srcObj) {
         Calendar result = new GregorianCalendar();
         Class srcFieldClass = srcObj.getClass();
+        // date format is used only to parse strings
+        DateFormat dateFormat = String.class == srcFieldClass ? getDateFormat() : null;
         // Convert from Date to Calendar
         if (java.util.Date.class.isAssignableFrom(srcFieldClass)) {
             result.setTime((java.util.Date) srcObj);
@@ -58,7 +69,7 @@ public class CalendarConverter implements Converter {
             result.setTimeZone(c.getTimeZone());
         }
         // String to Calendar
-        else if (dateFormat != null && String.class.isAssignableFrom(srcFieldClass)) {
+        else if (dateFormat != null) {
             try {
                 result.setTime(new Date(dateFormat.parse((String) srcObj).getTime()));
             } catch (ParseException e) {
@@ -76,6 +87,6 @@ public class CalendarConverter implements Converter {
     }
 
     public DateFormat getDateFormat() {
-        return dateFormat;
+        return dateFormatContainer != null ? dateFormatContainer.getDateFormat() : dateFormat;
     }
 }
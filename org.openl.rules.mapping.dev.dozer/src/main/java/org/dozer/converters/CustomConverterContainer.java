@@ -17,10 +17,14 @@ package org.dozer.converters;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang.ClassUtils;
 import org.apache.commons.lang.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang.builder.ToStringStyle;
+import org.dozer.CustomConverter;
+import org.dozer.util.MappingUtils;
 
 /**
  * Internal class for holding custom converter definitions. Only intended for
@@ -31,8 +35,14 @@ import org.apache.commons.lang.builder.ToStringStyle;
  */
 public class CustomConverterContainer {
 
+    private static final Object NO_CONVERTER = new Object();
+
     private List<CustomConverterDescription> converters = new ArrayList<CustomConverterDescription>();
 
+    // Converters resolved for runtime types: source class -> destination
+    // class -> converter instance or NO_CONVERTER
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, Object>> resolvedConverters = new ConcurrentHashMap<Class<?>, ConcurrentMap<Class<?>, Object>>();
+
     public List<CustomConverterDescription> getConverters() {
         return converters;
     }
@@ -42,10 +52,67 @@ public class CustomConverterContainer {
             throw new IllegalArgumentException("Converters can not be null!");
         }
         this.converters = converters;
+        resolvedConverters.clear();
     }
 
     public void addConverter(CustomConverterDescription converter) {
         getConverters().add(converter);
+        resolvedConverters.clear();
+    }
+
+    /**
+     * Finds converter instance for specified classes. Converter is looked up
+     * once per pair of runtime types; class based converters are instantiated
+     * once and then reused.
+     * 
+     * @param srcClass source class
+     * @param destClass destination class
+     * @param externalConverters injected converter instances
+     * @return converter instance or <code>null</code> if converter is not
+     *         defined for given classes
+     */
+    public CustomConverter findCustomConverter(Class<?> srcClass,
+            Class<?> destClass,
+            List<CustomConverter> externalConverters) {
+        if (converters.isEmpty()) {
+            return null;
+        }
+
+        ConcurrentMap<Class<?>, Object> byDestClass = resolvedConverters.get(srcClass);
+        if (byDestClass == null) {
+            byDestClass = new ConcurrentHashMap<Class<?>, Object>();
+            ConcurrentMap<Class<?>, Object> existing = resolvedConverters.putIfAbsent(srcClass, byDestClass);
+            if (existing != null) {
+                byDestClass = existing;
+            }
+        }
+
+        Object converter = byDestClass.get(destClass);
+        if (converter == null) {
+            converter = createCustomConverter(srcClass, destClass, externalConverters);
+            Object existing = byDestClass.putIfAbsent(destClass, converter);
+            if (existing != null) {
+                converter = existing;
+            }
+        }
+
+        return converter == NO_CONVERTER ? null : (CustomConverter) converter;
+    }
+
+    private Object createCustomConverter(Class<?> srcClass,
+            Class<?> destClass,
+            List<CustomConverter> externalConverters) {
+        CustomConverterDescription description = getCustomConverter(srcClass, destClass);
+        if (description instanceof InstanceCustomConverterDescription) {
+            CustomConverter instance = ((InstanceCustomConverterDescription) description).getInstance();
+            return instance != null ? instance : NO_CONVERTER;
+        }
+        if (description instanceof JavaClassCustomConverterDescription) {
+            Class<?> type = ((JavaClassCustomConverterDescription) description).getType();
+            return MappingUtils.findCustomConverterByClass(type, externalConverters);
+        }
+
+        return NO_CONVERTER;
     }
 
     public CustomConverterDescription getCustomConverter(Class<?> srcClass, Class<?> destClass) {
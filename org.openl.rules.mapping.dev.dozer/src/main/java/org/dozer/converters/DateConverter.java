@@ -16,6 +16,7 @@
 package org.dozer.converters;
 
 import java.lang.reflect.Constructor;
+import java.sql.Time;
 import java.sql.Timestamp;
 import java.text.DateFormat;
 import java.text.ParseException;
@@ -36,7 +37,8 @@ import org.apache.commons.beanutils.Converter;
  *
  * Supported return data types are all Date/Time types, which are based on a
  * timestamp constructor (e.g. new MyDate(new Long(1))). Calendar return type is
- * also supported.
+ * also supported. Standard date types are created directly; constructors of
+ * other types are looked up once per class.
  *
  * Only intended for internal use.
  * 
@@ -45,20 +47,42 @@ import org.apache.commons.beanutils.Converter;
  */
 public class DateConverter implements Converter {
 
+    private static final ClassValue<Constructor<?>> timeConstructors = new ClassValue<Constructor<?>>() {
+        @Override
+        protected Constructor<?> computeValue(Class<?> type) {
+            try {
+                return type.getConstructor(Long.TYPE);
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+    };
+
     private DateFormat dateFormat;
+    private DateFormatContainer dateFormatContainer;
 
     public DateConverter(DateFormat dateFormat) {
         this.dateFormat = dateFormat;
     }
 
+    /**
+     * Creates converter which takes date format from container on each
+     * conversion, so converter can be shared between threads.
+     */
+    public DateConverter(DateFormatContainer dateFormatContainer) {
+        this.dateFormatContainer = dateFormatContainer;
+    }
+
     public Object convert(Class destClass, Object srcObj) {
         final Class srcFieldClass = srcObj.getClass();
+        // date format is used only to parse strings
+        DateFormat dateFormat = String.class == srcFieldClass ? getDateFormat() : null;
 
         long time;
         int nanos = 0;
         if (Calendar.class.isAssignableFrom(srcFieldClass)) {
             Calendar inVal = (Calendar) srcObj;
-            time = inVal.getTime().getTime();
+            time = inVal.getTimeInMillis();
         } else if (Timestamp.class.isAssignableFrom(srcFieldClass)) {
             Timestamp timestamp = (Timestamp) srcObj;
             time = timestamp.getTime();
@@ -67,7 +91,7 @@ public class DateConverter implements Converter {
             time = ((java.util.Date) srcObj).getTime();
         } else if (XMLGregorianCalendar.class.isAssignableFrom(srcFieldClass)) {
             time = ((XMLGregorianCalendar) srcObj).toGregorianCalendar().getTimeInMillis();
-        } else if (dateFormat != null && String.class.isAssignableFrom(srcObj.getClass())) {
+        } else if (dateFormat != null) {
             try {
                 if ("".equals(srcObj)) {
                     return null;
@@ -85,15 +109,30 @@ public class DateConverter implements Converter {
             }
         }
 
+        if (destClass == java.util.Date.class) {
+            return new java.util.Date(time);
+        } else if (destClass == java.sql.Date.class) {
+            return new java.sql.Date(time);
+        } else if (destClass == Time.class) {
+            return new Time(time);
+        }
+
         try {
+            Object result;
             if (Calendar.class.isAssignableFrom(destClass)) {
                 Constructor constructor = destClass.getConstructor();
-                Calendar result = (Calendar) constructor.newInstance();
-                result.setTimeInMillis(time);
-                return result;
+                Calendar calendar = (Calendar) constructor.newInstance();
+                calendar.setTimeInMillis(time);
+                return calendar;
+            } else if (destClass == Timestamp.class) {
+                result = new Timestamp(time);
+            } else {
+                Constructor<?> constructor = timeConstructors.get(destClass);
+                if (constructor == null) {
+                    throw new NoSuchMethodException(destClass.getName() + ".<init>(long)");
+                }
+                result = constructor.newInstance(time);
             }
-            Constructor constructor = destClass.getConstructor(Long.TYPE);
-            Object result = constructor.newInstance(time);
             if (nanos != 0 && (Timestamp.class.isAssignableFrom(destClass))) {
                 ((Timestamp) result).setNanos(nanos);
             }
@@ -103,4 +142,8 @@ public class DateConverter implements Converter {
         }
     }
 
+    private DateFormat getDateFormat() {
+        return dateFormatContainer != null ? dateFormatContainer.getDateFormat() : dateFormat;
+    }
+
 }
@@ -0,0 +1,56 @@
+package org.dozer.converters;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache of date formats by pattern and locale. Date formats are not thread
+ * safe, so each thread gets its own copy of format which is created once from
+ * validated prototype. Only intended for internal use.
+ */
+public final class DateFormatCache {
+
+    private static final ConcurrentMap<List<Object>, ThreadLocal<DateFormat>> FORMATS = new ConcurrentHashMap<List<Object>, ThreadLocal<DateFormat>>();
+
+    private DateFormatCache() {
+    }
+
+    /**
+     * Gets date format for given pattern and default locale. Returned instance
+     * is confined to the current thread and must not be modified.
+     *
+     * @param pattern date format pattern
+     * @return date format or <code>null</code> if pattern is not defined
+     * @throws IllegalArgumentException if pattern is invalid
+     */
+    public static DateFormat getDateFormat(String pattern) {
+        if (pattern == null) {
+            return null;
+        }
+
+        Locale locale = Locale.getDefault();
+        List<Object> key = Arrays.<Object> asList(pattern, locale);
+        ThreadLocal<DateFormat> formats = FORMATS.get(key);
+        if (formats == null) {
+            final DateFormat prototype = new SimpleDateFormat(pattern, locale);
+            formats = new ThreadLocal<DateFormat>() {
+                @Override
+                protected DateFormat initialValue() {
+                    return (DateFormat) prototype.clone();
+                }
+            };
+            ThreadLocal<DateFormat> existing = FORMATS.putIfAbsent(key, formats);
+            if (existing != null) {
+                formats = existing;
+            }
+        }
+
+        return formats.get();
+    }
+
+}
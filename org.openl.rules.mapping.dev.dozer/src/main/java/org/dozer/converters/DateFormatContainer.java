@@ -16,12 +16,11 @@
 package org.dozer.converters;
 
 import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.Locale;
 
 /**
  * Internal class used as a container to determine the date format to use for a
- * particular field mapping. Only intended for internal use.
+ * particular field mapping. Date formats are taken from {@link DateFormatCache}
+ * and are not created for each container. Only intended for internal use.
  * 
  * @author tierney.matt
  */
@@ -33,18 +32,19 @@ public class DateFormatContainer {
         this.dfStr = dfStr;
     }
 
+    /**
+     * Gets date format which is explicitly set or cached date format for
+     * pattern. Cached format is confined to the current thread, so it is
+     * resolved on each call.
+     */
     public DateFormat getDateFormat() {
-        if (dateFormat == null) {
-            dateFormat = determineDateFormat();
+        if (dateFormat != null) {
+            return dateFormat;
         }
-        return dateFormat;
+        return DateFormatCache.getDateFormat(dfStr);
     }
 
     public void setDateFormat(DateFormat dateFormat) {
         this.dateFormat = dateFormat;
     }
-
-    private DateFormat determineDateFormat() {
-        return dfStr == null ? null : new SimpleDateFormat(dfStr, Locale.getDefault());
-    }
 }
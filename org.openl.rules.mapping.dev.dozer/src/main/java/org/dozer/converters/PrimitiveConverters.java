@@ -0,0 +1,220 @@
+package org.dozer.converters;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.beanutils.Converter;
+
+/**
+ * Converters specialized for pairs of source and destination value types.
+ * Values are converted directly without generic converter dispatch; results
+ * and errors are the same as of generic converters. Exceptions are thrown
+ * only if value cannot be converted. Only intended for internal use.
+ */
+final class PrimitiveConverters {
+
+    private static final Integer ONE = 1;
+    private static final Integer ZERO = 0;
+
+    private static final Set<String> TRUE_STRINGS = new HashSet<String>(
+        Arrays.asList("true", "yes", "y", "on", "1"));
+    private static final Set<String> FALSE_STRINGS = new HashSet<String>(
+        Arrays.asList("false", "no", "n", "off", "0"));
+
+    private static final Converter TO_STRING = new ToStringConverter();
+    private static final Converter TO_BOOLEAN = new ToBooleanConverter();
+    private static final Converter TO_CHARACTER = new ToCharacterConverter();
+
+    private static final Map<Class<?>, Converter> TO_NUMBER = new HashMap<Class<?>, Converter>();
+
+    static {
+        for (Class<?> type : Arrays.<Class<?>> asList(Byte.class,
+            Short.class,
+            Integer.class,
+            Long.class,
+            Float.class,
+            Double.class,
+            BigDecimal.class,
+            BigInteger.class)) {
+            TO_NUMBER.put(type, new ToNumberConverter(type));
+        }
+    }
+
+    private PrimitiveConverters() {
+    }
+
+    /**
+     * Finds specialized converter for given types.
+     *
+     * @param srcClass class of source values
+     * @param destClass destination class; primitive types are not expected
+     * @return converter or <code>null</code> if values should be converted by
+     *         generic converter
+     */
+    static Converter find(Class<?> srcClass, Class<?> destClass) {
+        if (destClass == String.class) {
+            // date values are formatted by generic converter
+            return Date.class.isAssignableFrom(srcClass) || Calendar.class.isAssignableFrom(srcClass) ? null
+                                                                                                       : TO_STRING;
+        }
+
+        if (!(srcClass == String.class || srcClass == Character.class || srcClass == Boolean.class || Number.class
+            .isAssignableFrom(srcClass))) {
+            return null;
+        }
+
+        if (destClass == Boolean.class) {
+            return TO_BOOLEAN;
+        } else if (destClass == Character.class) {
+            return TO_CHARACTER;
+        }
+        return TO_NUMBER.get(destClass);
+    }
+
+    private static final class ToStringConverter implements Converter {
+
+        public Object convert(Class destClass, Object value) {
+            return value.toString();
+        }
+
+    }
+
+    private static final class ToBooleanConverter implements Converter {
+
+        public Object convert(Class destClass, Object value) {
+            if (value instanceof Boolean) {
+                return value;
+            }
+
+            String stringValue = value.toString().toLowerCase();
+            if (TRUE_STRINGS.contains(stringValue)) {
+                return Boolean.TRUE;
+            } else if (FALSE_STRINGS.contains(stringValue)) {
+                return Boolean.FALSE;
+            }
+            throw new ConversionException("Can't convert value '" + value + "' to a Boolean", null);
+        }
+
+    }
+
+    private static final class ToCharacterConverter implements Converter {
+
+        public Object convert(Class destClass, Object value) {
+            if (value instanceof Character) {
+                return value;
+            }
+            return value.toString().charAt(0);
+        }
+
+    }
+
+    private static final class ToNumberConverter implements Converter {
+
+        private final Class<?> type;
+
+        ToNumberConverter(Class<?> type) {
+            this.type = type;
+        }
+
+        public Object convert(Class destClass, Object value) {
+            if (value instanceof Number) {
+                return toNumber((Number) value);
+            } else if (value instanceof Boolean) {
+                return toNumber((Boolean) value ? ONE : ZERO);
+            }
+
+            String stringValue = value.toString().trim();
+            if (stringValue.length() == 0) {
+                throw new ConversionException("No value specified for '" + type.getSimpleName() + "'", null);
+            }
+            try {
+                return parse(stringValue);
+            } catch (NumberFormatException e) {
+                throw new ConversionException(
+                    "Error converting from 'String' to '" + type.getSimpleName() + "' " + e.getMessage(),
+                    e);
+            }
+        }
+
+        private Object parse(String value) {
+            if (type == Integer.class) {
+                return Integer.valueOf(value);
+            } else if (type == Long.class) {
+                return Long.valueOf(value);
+            } else if (type == Double.class) {
+                return Double.valueOf(value);
+            } else if (type == BigDecimal.class) {
+                return new BigDecimal(value);
+            } else if (type == Short.class) {
+                return Short.valueOf(value);
+            } else if (type == Byte.class) {
+                return Byte.valueOf(value);
+            } else if (type == Float.class) {
+                return Float.valueOf(value);
+            } else {
+                return new BigInteger(value);
+            }
+        }
+
+        private Object toNumber(Number value) {
+            if (value.getClass() == type) {
+                return value;
+            }
+
+            if (type == Integer.class) {
+                return (int) toLong(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            } else if (type == Long.class) {
+                return value.longValue();
+            } else if (type == Double.class) {
+                return value.doubleValue();
+            } else if (type == BigDecimal.class) {
+                if (value instanceof Float || value instanceof Double || value instanceof BigDecimal) {
+                    return new BigDecimal(value.toString());
+                } else if (value instanceof BigInteger) {
+                    return new BigDecimal((BigInteger) value);
+                }
+                return BigDecimal.valueOf(value.longValue());
+            } else if (type == Short.class) {
+                return (short) toLong(value, Short.MIN_VALUE, Short.MAX_VALUE);
+            } else if (type == Byte.class) {
+                return (byte) toLong(value, Byte.MIN_VALUE, Byte.MAX_VALUE);
+            } else if (type == Float.class) {
+                if (value.doubleValue() > Float.MAX_VALUE) {
+                    throw tooLarge(value);
+                }
+                return value.floatValue();
+            } else {
+                if (value instanceof BigDecimal) {
+                    return ((BigDecimal) value).toBigInteger();
+                }
+                return BigInteger.valueOf(value.longValue());
+            }
+        }
+
+        private long toLong(Number value, long min, long max) {
+            long longValue = value.longValue();
+            if (longValue > max) {
+                throw tooLarge(value);
+            } else if (longValue < min) {
+                throw new ConversionException(value.getClass()
+                    .getSimpleName() + " value '" + value + "' is too small for " + type.getSimpleName(), null);
+            }
+            return longValue;
+        }
+
+        private ConversionException tooLarge(Number value) {
+            return new ConversionException(
+                value.getClass().getSimpleName() + " value '" + value + "' is too large for " + type.getSimpleName(),
+                null);
+        }
+
+    }
+
+}
@@ -17,9 +17,12 @@ package org.dozer.converters;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.text.DateFormat;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.datatype.XMLGregorianCalendar;
 
@@ -37,7 +40,9 @@ import org.apache.commons.lang.ClassUtils;
 
 /**
  * Internal class for converting between wrapper types(including primitives).
- * Only intended for internal use.
+ * Converters specialized for pairs of source and destination types are
+ * resolved once per pair; other values are converted by generic converters of
+ * destination type. Only intended for internal use.
  * 
  * @author tierney.matt
  * @author garsombke.franz
@@ -62,12 +67,75 @@ public class PrimitiveOrWrapperConverter {
         CONVERTER_MAP.put(Class.class, new ClassConverter());
     }
 
+    // Date converters without date format are stateless and can be shared
+    private static final Converter DATE_CONVERTER = new DateConverter((DateFormat) null);
+    private static final Converter CALENDAR_CONVERTER = new CalendarConverter((DateFormat) null);
+    private static final Converter XML_GREGORIAN_CALENDAR_CONVERTER = new XMLGregorianCalendarConverter(
+        (DateFormat) null);
+
+    /**
+     * Marks pairs of types which don't have specialized converter.
+     */
+    private static final Converter NO_CONVERTER = new Converter() {
+        public Object convert(Class destClass, Object srcObj) {
+            throw new UnsupportedOperationException();
+        }
+    };
+
+    /**
+     * Specialized converters by source class and destination wrapper class.
+     */
+    private static final ClassValue<ConcurrentMap<Class<?>, Converter>> specializedConverters = new ClassValue<ConcurrentMap<Class<?>, Converter>>() {
+        @Override
+        protected ConcurrentMap<Class<?>, Converter> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<Class<?>, Converter>();
+        }
+    };
+
     public Object convert(Object srcFieldValue, Class destFieldClass, DateFormatContainer dateFormatContainer) {
         if (srcFieldValue == null || destFieldClass == null || (srcFieldValue
             .equals("") && !destFieldClass.equals(String.class))) {
             return null;
         }
-        Converter converter = getPrimitiveOrWrapperConverter(destFieldClass, dateFormatContainer);
+        Converter converter = getSpecializedConverter(srcFieldValue.getClass(), destFieldClass);
+        if (converter == null) {
+            converter = getPrimitiveOrWrapperConverter(destFieldClass, dateFormatContainer);
+        }
+        return convert(converter, srcFieldValue, destFieldClass);
+    }
+
+    /**
+     * Converts value using converter resolved by
+     * {@link #getConverter(Class, Class, String)}.
+     */
+    public Object convert(Object srcFieldValue, Class<?> destFieldClass, Converter converter) {
+        if (srcFieldValue == null || destFieldClass == null || (srcFieldValue
+            .equals("") && !destFieldClass.equals(String.class))) {
+            return null;
+        }
+        return convert(converter, srcFieldValue, destFieldClass);
+    }
+
+    /**
+     * Resolves converter of values of source type to destination type.
+     * Resolved converter doesn't depend on converted values and can be shared
+     * between threads.
+     *
+     * @param srcClass source type; values of converted type should be
+     *            instances of this type
+     * @param destClass destination type
+     * @param dateFormat date format pattern; may be <code>null</code>
+     * @return converter
+     */
+    public Converter getConverter(Class<?> srcClass, Class<?> destClass, String dateFormat) {
+        Converter converter = getSpecializedConverter(ClassUtils.primitiveToWrapper(srcClass), destClass);
+        if (converter == null) {
+            converter = getPrimitiveOrWrapperConverter(destClass, new DateFormatContainer(dateFormat));
+        }
+        return converter;
+    }
+
+    private static Object convert(Converter converter, Object srcFieldValue, Class<?> destFieldClass) {
         try {
             return converter.convert(destFieldClass, srcFieldValue);
         } catch (org.apache.commons.beanutils.ConversionException e) {
@@ -75,6 +143,17 @@ public class PrimitiveOrWrapperConverter {
         }
     }
 
+    private static Converter getSpecializedConverter(Class<?> srcClass, Class<?> destClass) {
+        Class<?> destWrapperClass = ClassUtils.primitiveToWrapper(destClass);
+        ConcurrentMap<Class<?>, Converter> converters = specializedConverters.get(srcClass);
+        Converter converter = converters.get(destWrapperClass);
+        if (converter == null) {
+            converter = PrimitiveConverters.find(srcClass, destWrapperClass);
+            converters.putIfAbsent(destWrapperClass, converter != null ? converter : NO_CONVERTER);
+        }
+        return converter != NO_CONVERTER ? converter : null;
+    }
+
     private Converter getPrimitiveOrWrapperConverter(Class destClass, DateFormatContainer dateFormatContainer) {
         if (String.class.equals(destClass)) {
             return new StringConverter(dateFormatContainer);
@@ -83,12 +162,17 @@ public class PrimitiveOrWrapperConverter {
         Converter result = CONVERTER_MAP.get(ClassUtils.primitiveToWrapper(destClass));
 
         if (result == null) {
+            // date format is taken from container on each conversion
             if (java.util.Date.class.isAssignableFrom(destClass)) {
-                result = new DateConverter(dateFormatContainer.getDateFormat());
+                DateFormat dateFormat = dateFormatContainer.getDateFormat();
+                result = dateFormat == null ? DATE_CONVERTER : new DateConverter(dateFormatContainer);
             } else if (Calendar.class.isAssignableFrom(destClass)) {
-                result = new CalendarConverter(dateFormatContainer.getDateFormat());
+                DateFormat dateFormat = dateFormatContainer.getDateFormat();
+                result = dateFormat == null ? CALENDAR_CONVERTER : new CalendarConverter(dateFormatContainer);
             } else if (XMLGregorianCalendar.class.isAssignableFrom(destClass)) {
-                result = new XMLGregorianCalendarConverter(dateFormatContainer.getDateFormat());
+                DateFormat dateFormat = dateFormatContainer.getDateFormat();
+                result = dateFormat == null ? XML_GREGORIAN_CALENDAR_CONVERTER
+                                            : new XMLGregorianCalendarConverter(dateFormatContainer);
             }
         }
         return result == null ? new StringConstructorConverter(dateFormatContainer) : result;
@@ -21,12 +21,24 @@ import org.apache.commons.beanutils.Converter;
 
 /**
  * Internal class for converting String --> Complex Data Types with a String
- * constructor. Only intended for internal use.
+ * constructor. Constructors are looked up once per class. Only intended for
+ * internal use.
  * 
  * @author tierney.matt
  */
 public class StringConstructorConverter implements Converter {
 
+    private static final ClassValue<Constructor<?>> stringConstructors = new ClassValue<Constructor<?>>() {
+        @Override
+        protected Constructor<?> computeValue(Class<?> type) {
+            try {
+                return type.getConstructor(String.class);
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+    };
+
     private StringConverter stringConverter;
 
     public StringConstructorConverter(DateFormatContainer dateFormatContainer) {
@@ -35,16 +47,13 @@ public class StringConstructorConverter implements Converter {
 
     public Object convert(Class destClass, Object srcObj) {
         String result = (String) stringConverter.convert(destClass, srcObj);
-        try {
-            Constructor constructor = destClass.getConstructor(String.class); // TODO
-                                                                              // Check,
-                                                                              // but
-                                                                              // not
-                                                                              // catch
-            return constructor.newInstance(result);
-        } catch (NoSuchMethodException e) {
+        Constructor<?> constructor = stringConstructors.get(destClass);
+        if (constructor == null) {
             // just return the string
             return result;
+        }
+        try {
+            return constructor.newInstance(result);
         } catch (Exception e) {
             throw new ConversionException(e);
         }
@@ -15,6 +15,8 @@
  */
 package org.dozer.converters;
 
+import java.text.DateFormat;
+
 import org.apache.commons.beanutils.Converter;
 
 /**
@@ -34,12 +36,16 @@ public class StringConverter implements Converter {
     public Object convert(Class destClass, Object srcObj) {
         String result;
         Class srcClass = srcObj.getClass();
-        if (dateFormatContainer != null && java.util.Date.class.isAssignableFrom(srcClass) && dateFormatContainer
-            .getDateFormat() != null) {
-            result = dateFormatContainer.getDateFormat().format((java.util.Date) srcObj);
-        } else if (dateFormatContainer != null && java.util.Calendar.class
-            .isAssignableFrom(srcClass) && dateFormatContainer.getDateFormat() != null) {
-            result = dateFormatContainer.getDateFormat().format(((java.util.Calendar) srcObj).getTime());
+        // date format is resolved only for date values
+        DateFormat dateFormat = null;
+        if (dateFormatContainer != null && (java.util.Date.class
+            .isAssignableFrom(srcClass) || java.util.Calendar.class.isAssignableFrom(srcClass))) {
+            dateFormat = dateFormatContainer.getDateFormat();
+        }
+        if (dateFormat != null && java.util.Date.class.isAssignableFrom(srcClass)) {
+            result = dateFormat.format((java.util.Date) srcObj);
+        } else if (dateFormat != null) {
+            result = dateFormat.format(((java.util.Calendar) srcObj).getTime());
         } else {
             result = srcObj.toString();
         }
@@ -55,28 +55,39 @@ public class XMLGregorianCalendarConverter implements Converter {
     /**
      * Cache the DatatypeFactory because newInstance is very expensive.
      */
-    private static DatatypeFactory dataTypeFactory;
+    private static volatile DatatypeFactory dataTypeFactory;
     private DateFormat dateFormat;
+    private DateFormatContainer dateFormatContainer;
 
     public XMLGregorianCalendarConverter(DateFormat dateFormat) {
         this.dateFormat = dateFormat;
     }
 
+    /**
+     * Creates converter which takes date format from container on each
+     * conversion, so converter can be shared between threads.
+     */
+    public XMLGregorianCalendarConverter(DateFormatContainer dateFormatContainer) {
+        this.dateFormatContainer = dateFormatContainer;
+    }
+
     /**
      * Returns a new instance of DatatypeFactory, or the cached one if
-     * previously created.
+     * previously created. Factory is published safely to other threads.
      *
      * @return instance of DatatypeFactory
      */
     private static DatatypeFactory dataTypeFactory() {
-        if (dataTypeFactory == null) {
+        DatatypeFactory factory = dataTypeFactory;
+        if (factory == null) {
             try {
-                dataTypeFactory = DatatypeFactory.newInstance();
+                factory = DatatypeFactory.newInstance();
             } catch (DatatypeConfigurationException e) {
                 throw new MappingException(e);
             }
+            dataTypeFactory = factory;
         }
-        return dataTypeFactory;
+        return factory;
     }
 
     /**
@@ -84,7 +95,16 @@ public class XMLGregorianCalendarConverter implements Converter {
      */
     public Object convert(Class destClass, Object srcObj) {
         Class sourceClass = srcObj.getClass();
+
+        // GregorianCalendar --> XMLGregorianCalendar doesn't require
+        // intermediate copy of calendar
+        if (GregorianCalendar.class.isAssignableFrom(sourceClass)) {
+            return dataTypeFactory().newXMLGregorianCalendar((GregorianCalendar) srcObj);
+        }
+
         Calendar result = new GregorianCalendar();
+        // date format is used only to parse strings
+        DateFormat dateFormat = String.class == sourceClass ? getDateFormat() : null;
 
         if (java.util.Date.class.isAssignableFrom(sourceClass)) {
             // Date --> XMLGregorianCalendar
@@ -96,7 +116,7 @@ public class XMLGregorianCalendarConverter implements Converter {
             result.setTimeZone(c.getTimeZone());
         } else if (XMLGregorianCalendar.class.isAssignableFrom(sourceClass)) {
             result = ((XMLGregorianCalendar) srcObj).toGregorianCalendar();
-        } else if (dateFormat != null && String.class.isAssignableFrom(sourceClass)) {
+        } else if (dateFormat != null) {
             if ("".equals(srcObj)) {
                 return null;
             }
@@ -117,4 +137,8 @@ public class XMLGregorianCalendarConverter implements Converter {
 
         return dataTypeFactory().newXMLGregorianCalendar((GregorianCalendar) result);
     }
+
+    private DateFormat getDateFormat() {
+        return dateFormatContainer != null ? dateFormatContainer.getDateFormat() : dateFormat;
+    }
 }
@@ -0,0 +1,348 @@
+package org.dozer.factory;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.dozer.util.MappingUtils;
+import org.dozer.util.MethodInvoker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates destination objects from mapped values in one call using a
+ * constructor, a static factory method or a builder. Values are collected by
+ * destination field name; each name is a parameter of the constructor or the
+ * factory method in the same order, or a property of the builder. Only
+ * intended for internal use.
+ */
+public abstract class ArgumentsInstantiator {
+
+    /**
+     * Marks argument which is not assigned by any field mapping.
+     */
+    public static final Object UNASSIGNED = new Object();
+
+    private static final Logger log = LoggerFactory.getLogger(ArgumentsInstantiator.class);
+
+    private final List<String> parameters;
+    private final Class<?>[] parameterTypes;
+
+    ArgumentsInstantiator(List<String> parameters, Class<?>[] parameterTypes) {
+        this.parameters = Collections.unmodifiableList(new ArrayList<String>(parameters));
+        this.parameterTypes = parameterTypes;
+    }
+
+    /**
+     * Resolves the way destination objects are created.
+     *
+     * @param destClass destination class
+     * @param parameters destination field names which are passed to creator
+     * @param createMethod static factory method; constructor is used if it is
+     *            not defined
+     * @param builderMethod static method which returns builder of destination
+     *            object; takes precedence over create method
+     * @return bound instantiator
+     * @throws org.dozer.MappingException if constructor, factory method or
+     *             builder cannot be found
+     */
+    public static ArgumentsInstantiator bind(Class<?> destClass,
+            List<String> parameters,
+            String createMethod,
+            String builderMethod) {
+        if (!MappingUtils.isBlankOrNull(builderMethod)) {
+            return BuilderInstantiator.bind(destClass, parameters, builderMethod);
+        } else if (!MappingUtils.isBlankOrNull(createMethod)) {
+            return bindFactoryMethod(destClass, parameters, createMethod);
+        } else {
+            return bindConstructor(destClass, parameters);
+        }
+    }
+
+    public List<String> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Gets index of argument which receives value of destination field.
+     *
+     * @return index or <code>-1</code> if field is not passed to creator
+     */
+    public int indexOf(String destFieldName) {
+        return parameters.indexOf(destFieldName);
+    }
+
+    public Class<?> getParameterType(int index) {
+        return parameterTypes[index];
+    }
+
+    /**
+     * Creates holder of argument values for a single destination object.
+     */
+    public Object[] newArguments() {
+        Object[] args = new Object[parameters.size()];
+        Arrays.fill(args, UNASSIGNED);
+        return args;
+    }
+
+    /**
+     * Creates destination object.
+     *
+     * @param args argument values; unassigned values are replaced with
+     *            <code>null</code> or default value of primitive type
+     */
+    public abstract Object create(Object[] args);
+
+    Object[] replaceUnassigned(Object[] args) {
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] == UNASSIGNED || args[i] == null) {
+                args[i] = defaultValue(parameterTypes[i]);
+            }
+        }
+        return args;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        return type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+    }
+
+    private static ArgumentsInstantiator bindConstructor(Class<?> destClass, List<String> parameters) {
+        Constructor<?> found = null;
+        for (Constructor<?> constructor : destClass.getDeclaredConstructors()) {
+            if (constructor.getParameterTypes().length == parameters.size()) {
+                if (found != null) {
+                    MappingUtils.throwMappingException(
+                        "Ambiguous constructors of " + destClass + " with " + parameters.size() + " parameters");
+                }
+                found = constructor;
+            }
+        }
+        if (found == null) {
+            MappingUtils.throwMappingException(
+                "Could not find constructor of " + destClass + " with parameters " + parameters);
+        }
+        makeAccessible(found);
+
+        MethodHandle handle = null;
+        if (MethodInvoker.isMethodHandlesAllowed()) {
+            try {
+                handle = MethodHandles.lookup().unreflectConstructor(found);
+            } catch (IllegalAccessException e) {
+                log.debug("Method handle cannot be created for constructor {}", found, e);
+            }
+        }
+
+        return new ReflectiveInstantiator(parameters, found.getParameterTypes(), found, handle);
+    }
+
+    private static ArgumentsInstantiator bindFactoryMethod(Class<?> destClass,
+            List<String> parameters,
+            String createMethod) {
+        Class<?> type = destClass;
+        String methodName = createMethod;
+        if (createMethod.contains(".")) {
+            methodName = createMethod.substring(createMethod.lastIndexOf(".") + 1);
+            type = MappingUtils.loadClass(createMethod.substring(0, createMethod.lastIndexOf(".")));
+        }
+
+        Method found = null;
+        for (Method method : type.getDeclaredMethods()) {
+            if (method.getName().equals(methodName) && Modifier.isStatic(method.getModifiers()) && method
+                .getParameterTypes().length == parameters.size()) {
+                if (found != null) {
+                    MappingUtils.throwMappingException(
+                        "Ambiguous create methods " + createMethod + " with " + parameters.size() + " parameters");
+                }
+                found = method;
+            }
+        }
+        if (found == null) {
+            MappingUtils.throwMappingException(
+                "Could not find static create method " + createMethod + " with parameters " + parameters);
+        }
+        if (!destClass.isAssignableFrom(found.getReturnType())) {
+            MappingUtils.throwMappingException("Create method " + createMethod + " does not return " + destClass);
+        }
+        makeAccessible(found);
+
+        MethodHandle handle = null;
+        if (MethodInvoker.isMethodHandlesAllowed()) {
+            try {
+                handle = MethodHandles.lookup().unreflect(found);
+            } catch (IllegalAccessException e) {
+                log.debug("Method handle cannot be created for method {}", found, e);
+            }
+        }
+
+        return new ReflectiveInstantiator(parameters, found.getParameterTypes(), found, handle);
+    }
+
+    private static void makeAccessible(AccessibleObject object) {
+        if (!object.isAccessible()) {
+            object.setAccessible(true);
+        }
+    }
+
+    /**
+     * Creates objects using constructor or static factory method. Arguments
+     * are spread to method handle if it is available.
+     */
+    private static final class ReflectiveInstantiator extends ArgumentsInstantiator {
+
+        private final AccessibleObject creator;
+        private final MethodHandle handle;
+
+        ReflectiveInstantiator(List<String> parameters,
+                Class<?>[] parameterTypes,
+                AccessibleObject creator,
+                MethodHandle handle) {
+            super(parameters, parameterTypes);
+            this.creator = creator;
+            if (handle != null) {
+                this.handle = handle.asSpreader(Object[].class, parameterTypes.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+            } else {
+                this.handle = null;
+            }
+        }
+
+        @Override
+        public Object create(Object[] args) {
+            Object[] values = replaceUnassigned(args);
+            if (handle != null) {
+                try {
+                    return (Object) handle.invokeExact(values);
+                } catch (Throwable e) {
+                    // wrap exception in the same way as reflective call does
+                    MappingUtils.throwMappingException(new InvocationTargetException(e));
+                }
+            }
+
+            Object result = null;
+            try {
+                if (creator instanceof Constructor) {
+                    result = ((Constructor<?>) creator).newInstance(values);
+                } else {
+                    result = ((Method) creator).invoke(null, values);
+                }
+            } catch (IllegalArgumentException e) {
+                MappingUtils.throwMappingException(e);
+            } catch (InstantiationException e) {
+                MappingUtils.throwMappingException(e);
+            } catch (IllegalAccessException e) {
+                MappingUtils.throwMappingException(e);
+            } catch (InvocationTargetException e) {
+                MappingUtils.throwMappingException(e);
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * Creates objects using builder. Builder is created by static method of
+     * destination class; each assigned argument is passed to builder method
+     * which has the same name as destination field, optionally prefixed with
+     * "set" or "with"; object is created by "build" method.
+     */
+    private static final class BuilderInstantiator extends ArgumentsInstantiator {
+
+        private final MethodInvoker builderMethod;
+        private final MethodInvoker[] propertyMethods;
+        private final MethodInvoker buildMethod;
+
+        private BuilderInstantiator(List<String> parameters,
+                Class<?>[] parameterTypes,
+                MethodInvoker builderMethod,
+                MethodInvoker[] propertyMethods,
+                MethodInvoker buildMethod) {
+            super(parameters, parameterTypes);
+            this.builderMethod = builderMethod;
+            this.propertyMethods = propertyMethods;
+            this.buildMethod = buildMethod;
+        }
+
+        static ArgumentsInstantiator bind(Class<?> destClass, List<String> parameters, String builderMethodName) {
+            Method builderMethod = null;
+            try {
+                builderMethod = destClass.getMethod(builderMethodName);
+            } catch (NoSuchMethodException e) {
+                MappingUtils.throwMappingException(e);
+            }
+            if (!Modifier.isStatic(builderMethod.getModifiers())) {
+                MappingUtils.throwMappingException("Builder method " + builderMethod + " must be static");
+            }
+            Class<?> builderClass = builderMethod.getReturnType();
+
+            Method buildMethod = null;
+            try {
+                buildMethod = builderClass.getMethod("build");
+            } catch (NoSuchMethodException e) {
+                MappingUtils.throwMappingException(e);
+            }
+            if (!destClass.isAssignableFrom(buildMethod.getReturnType())) {
+                MappingUtils.throwMappingException("Builder " + builderClass + " does not build " + destClass);
+            }
+
+            Class<?>[] parameterTypes = new Class<?>[parameters.size()];
+            MethodInvoker[] propertyMethods = new MethodInvoker[parameters.size()];
+            for (int i = 0; i < parameters.size(); i++) {
+                Method method = findPropertyMethod(builderClass, parameters.get(i));
+                parameterTypes[i] = method.getParameterTypes()[0];
+                propertyMethods[i] = MethodInvoker.create(method);
+            }
+
+            return new BuilderInstantiator(parameters,
+                parameterTypes,
+                MethodInvoker.create(builderMethod),
+                propertyMethods,
+                MethodInvoker.create(buildMethod));
+        }
+
+        private static Method findPropertyMethod(Class<?> builderClass, String property) {
+            String capitalized = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+            List<String> names = Arrays.asList(property, "set" + capitalized, "with" + capitalized);
+
+            Method found = null;
+            for (Method method : builderClass.getMethods()) {
+                if (names.contains(method.getName()) && method.getParameterTypes().length == 1 && !Modifier
+                    .isStatic(method.getModifiers())) {
+                    if (found != null) {
+                        MappingUtils.throwMappingException(
+                            "Ambiguous methods of " + builderClass + " for property " + property);
+                    }
+                    found = method;
+                }
+            }
+            if (found == null) {
+                MappingUtils.throwMappingException(
+                    "Could not find method of " + builderClass + " for property " + property);
+            }
+            return found;
+        }
+
+        @Override
+        public Object create(Object[] args) {
+            Object builder = builderMethod.invoke(null);
+            for (int i = 0; i < args.length; i++) {
+                if (args[i] != UNASSIGNED) {
+                    Object value = args[i] != null ? args[i] : defaultValue(getParameterType(i));
+                    propertyMethods[i].invoke(builder, value);
+                }
+            }
+            return buildMethod.invoke(builder);
+        }
+
+    }
+
+}
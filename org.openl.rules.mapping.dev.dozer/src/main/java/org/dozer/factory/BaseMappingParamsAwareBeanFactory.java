@@ -7,7 +7,9 @@ import org.dozer.MappingParamsAware;
 public abstract class BaseMappingParamsAwareBeanFactory implements MappingParamsAware, BeanFactory {
 
     /**
-     * Thread local variable which holds user defined mapping parameters.
+     * Thread local variable which holds user defined mapping parameters. Used
+     * only if bean is created without mapping parameters; mapper passes them
+     * explicitly.
      */
     private ThreadLocal<MappingParameters> parameters = new ThreadLocal<MappingParameters>();
 
@@ -9,6 +9,7 @@ public class BeanCreationDirective {
     private String factoryName;
     private String factoryId;
     private String createMethod;
+    private BeanFactoryRegistry beanFactories;
 
     public BeanCreationDirective() {
     }
@@ -85,6 +86,14 @@ public class BeanCreationDirective {
         this.createMethod = createMethod;
     }
 
+    public BeanFactoryRegistry getBeanFactories() {
+        return beanFactories;
+    }
+
+    public void setBeanFactories(BeanFactoryRegistry beanFactories) {
+        this.beanFactories = beanFactories;
+    }
+
     public Class<?> getActualClass() {
         if (targetClass != null) {
             return targetClass;
@@ -1,7 +1,5 @@
 package org.dozer.factory;
 
-import org.openl.rules.mapping.MappingParameters;
-
 /**
  * @author Dmitry Buzdin
  */
@@ -9,5 +7,10 @@ public interface BeanCreationStrategy {
 
     boolean isApplicable(BeanCreationDirective directive);
 
-    Object create(MappingParameters params, BeanCreationDirective directive);
+    /**
+     * Resolves everything required to create instances described by
+     * directive. Source object of directive is not used; it is passed to
+     * instantiator for each created instance.
+     */
+    BeanInstantiator bind(BeanCreationDirective directive);
 }
@@ -0,0 +1,69 @@
+package org.dozer.factory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.dozer.BeanFactory;
+import org.dozer.util.MappingUtils;
+import org.dozer.util.ReflectionUtils;
+
+/**
+ * Bean factories of a single mapper instance. Factories are registered by
+ * name or created from factory class name on first use. Instantiators which
+ * create beans using factories of the registry are bound once and kept here,
+ * so different mappers never share factory instances. Only intended for
+ * internal use.
+ */
+public final class BeanFactoryRegistry {
+
+    private final ConcurrentMap<String, BeanFactory> factories = new ConcurrentHashMap<String, BeanFactory>();
+    private final ConcurrentMap<List<Object>, BeanInstantiator> instantiators = new ConcurrentHashMap<List<Object>, BeanInstantiator>();
+
+    /**
+     * Replaces registered factories.
+     *
+     * @param factories factories by name
+     */
+    public void setFactories(Map<String, BeanFactory> factories) {
+        this.factories.clear();
+        this.factories.putAll(factories);
+        this.instantiators.clear();
+    }
+
+    /**
+     * Gets factory by name. If factory is not registered, name is treated as
+     * a factory class name and new factory instance is created and
+     * registered.
+     *
+     * @param factoryName factory name
+     * @return factory instance
+     */
+    public BeanFactory getFactory(String factoryName) {
+        BeanFactory factory = factories.get(factoryName);
+        if (factory == null) {
+            Class<?> factoryClass = MappingUtils.loadClass(factoryName);
+            if (!BeanFactory.class.isAssignableFrom(factoryClass)) {
+                MappingUtils.throwMappingException("Custom bean factory must implement " + BeanFactory.class
+                    .getName() + " interface : " + factoryClass);
+            }
+            factory = (BeanFactory) ReflectionUtils.newInstance(factoryClass);
+            BeanFactory existing = factories.putIfAbsent(factoryName, factory);
+            if (existing != null) {
+                factory = existing;
+            }
+        }
+        return factory;
+    }
+
+    BeanInstantiator getInstantiator(List<Object> key) {
+        return instantiators.get(key);
+    }
+
+    BeanInstantiator addInstantiator(List<Object> key, BeanInstantiator instantiator) {
+        BeanInstantiator existing = instantiators.putIfAbsent(key, instantiator);
+        return existing != null ? existing : instantiator;
+    }
+
+}
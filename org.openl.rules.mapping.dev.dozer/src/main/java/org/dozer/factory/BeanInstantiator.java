@@ -0,0 +1,15 @@
+package org.dozer.factory;
+
+import org.openl.rules.mapping.MappingParameters;
+
+/**
+ * Creates instances of destination class using construction strategy, create
+ * method, constructor or bean factory resolved in advance. Instantiators are
+ * bound once by {@link BeanCreationStrategy#bind(BeanCreationDirective)} and
+ * reused for all instances of the same destination class.
+ */
+public interface BeanInstantiator {
+
+    Object create(MappingParameters params, Object srcObject, Class<?> srcClass);
+
+}
@@ -1,5 +1,8 @@
 package org.dozer.factory;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -11,8 +14,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeFactory;
@@ -25,6 +26,7 @@ import org.dozer.MappingParamsAware;
 import org.dozer.config.BeanContainer;
 import org.dozer.util.DozerClassLoader;
 import org.dozer.util.MappingUtils;
+import org.dozer.util.MethodInvoker;
 import org.dozer.util.ReflectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,7 +41,7 @@ public final class ConstructionStrategies {
     private static final BeanCreationStrategy byInterface = new ConstructionStrategies.ByInterface();
     private static final BeanCreationStrategy xmlBeansBased = new ConstructionStrategies.XMLBeansBased();
     private static final BeanCreationStrategy constructorBased = new ConstructionStrategies.ByConstructor();
-    private static final ConstructionStrategies.ByFactory byFactory = new ConstructionStrategies.ByFactory();
+    private static final BeanCreationStrategy byFactory = new ConstructionStrategies.ByFactory();
     private static final BeanCreationStrategy xmlGregorianCalendar = new ConstructionStrategies.XmlGregorian();
 
     public static BeanCreationStrategy byCreateMethod() {
@@ -62,7 +64,7 @@ public final class ConstructionStrategies {
         return constructorBased;
     }
 
-    public static ByFactory byFactory() {
+    public static BeanCreationStrategy byFactory() {
         return byFactory;
     }
 
@@ -77,21 +79,21 @@ public final class ConstructionStrategies {
             return !MappingUtils.isBlankOrNull(createMethod);
         }
 
-        public Object create(MappingParameters params, BeanCreationDirective directive) {
-            Class<?> actualClass = directive.getActualClass();
-            String createMethod = directive.getCreateMethod();
+        public BeanInstantiator bind(BeanCreationDirective directive) {
+            return new CreateMethodInstantiator(
+                findCreateMethod(directive.getActualClass(), directive.getCreateMethod()));
+        }
 
-            Method method;
+        Method findCreateMethod(Class<?> actualClass, String createMethod) {
             if (createMethod.contains(".")) {
                 String methodName = createMethod.substring(createMethod.lastIndexOf(".") + 1, createMethod.length());
                 String typeName = createMethod.substring(0, createMethod.lastIndexOf("."));
                 DozerClassLoader loader = BeanContainer.getInstance().getClassLoader();
                 Class<?> type = loader.loadClass(typeName);
-                method = findMethod(type, methodName);
+                return findMethod(type, methodName);
             } else {
-                method = findMethod(actualClass, createMethod);
+                return findMethod(actualClass, createMethod);
             }
-            return ReflectionUtils.invoke(method, null, null);
         }
 
         private Method findMethod(Class<?> actualClass, String createMethod) {
@@ -116,24 +118,34 @@ public final class ConstructionStrategies {
             return Calendar.class.isAssignableFrom(actualClass) || DateFormat.class.isAssignableFrom(actualClass);
         }
 
-        public Object create(MappingParameters params, BeanCreationDirective directive) {
-            directive.setCreateMethod("getInstance");
-            return super.create(params, directive);
+        @Override
+        public BeanInstantiator bind(BeanCreationDirective directive) {
+            return new CreateMethodInstantiator(findCreateMethod(directive.getActualClass(), "getInstance"));
         }
     }
 
-    static class ByFactory implements BeanCreationStrategy {
+    static class CreateMethodInstantiator implements BeanInstantiator {
 
-        private static final Logger log = LoggerFactory.getLogger(ByFactory.class);
+        private final MethodInvoker createMethod;
 
-        private final ConcurrentMap<String, BeanFactory> factoryCache = new ConcurrentHashMap<String, BeanFactory>();
+        CreateMethodInstantiator(Method createMethod) {
+            this.createMethod = MethodInvoker.create(createMethod);
+        }
+
+        public Object create(MappingParameters params, Object srcObject, Class<?> srcClass) {
+            return createMethod.invoke(null);
+        }
+
+    }
+
+    static class ByFactory implements BeanCreationStrategy {
 
         public boolean isApplicable(BeanCreationDirective directive) {
             String factoryName = directive.getFactoryName();
             return !MappingUtils.isBlankOrNull(factoryName);
         }
 
-        public Object create(MappingParameters params, BeanCreationDirective directive) {
+        public BeanInstantiator bind(BeanCreationDirective directive) {
             Class<?> classToCreate = directive.getActualClass();
             String factoryName = directive.getFactoryName();
             String factoryBeanId = directive.getFactoryId();
@@ -141,23 +153,51 @@ public final class ConstructionStrategies {
             // By default, use dest object class name for factory bean id
             String beanId = !MappingUtils.isBlankOrNull(factoryBeanId) ? factoryBeanId : classToCreate.getName();
 
-            BeanFactory factory = factoryCache.get(factoryName);
-            if (factory == null) {
-                Class<?> factoryClass = MappingUtils.loadClass(factoryName);
-                if (!BeanFactory.class.isAssignableFrom(factoryClass)) {
-                    MappingUtils.throwMappingException("Custom bean factory must implement " + BeanFactory.class
-                        .getName() + " interface : " + factoryClass);
-                }
-                factory = (BeanFactory) ReflectionUtils.newInstance(factoryClass);
-                // put the created factory in our factory map
-                factoryCache.put(factoryName, factory);
+            BeanFactoryRegistry beanFactories = directive.getBeanFactories();
+            if (beanFactories == null) {
+                MappingUtils.throwMappingException("Bean factories are not available to create " + classToCreate);
             }
+            BeanFactory factory = beanFactories.getFactory(factoryName);
 
-            if (factory instanceof MappingParamsAware) {
-                ((MappingParamsAware) factory).setMappingParams(params);
+            return new FactoryInstantiator(factory, factoryName, classToCreate, beanId);
+        }
+
+    }
+
+    static class FactoryInstantiator implements BeanInstantiator {
+
+        private static final Logger log = LoggerFactory.getLogger(FactoryInstantiator.class);
+
+        private final BeanFactory factory;
+        // factory which accepts mapping parameters explicitly
+        private final BaseMappingParamsAwareBeanFactory paramsFactory;
+        private final String factoryName;
+        private final Class<?> classToCreate;
+        private final String beanId;
+
+        FactoryInstantiator(BeanFactory factory, String factoryName, Class<?> classToCreate, String beanId) {
+            this.factory = factory;
+            if (factory instanceof BaseMappingParamsAwareBeanFactory) {
+                this.paramsFactory = (BaseMappingParamsAwareBeanFactory) factory;
+            } else {
+                this.paramsFactory = null;
             }
+            this.factoryName = factoryName;
+            this.classToCreate = classToCreate;
+            this.beanId = beanId;
+        }
 
-            Object result = factory.createBean(directive.getSrcObject(), directive.getSrcClass(), beanId);
+        public Object create(MappingParameters params, Object srcObject, Class<?> srcClass) {
+            Object result;
+            if (paramsFactory != null) {
+                // parameters are passed explicitly
+                result = paramsFactory.createBean(params, srcObject, srcClass, beanId);
+            } else {
+                if (factory instanceof MappingParamsAware) {
+                    ((MappingParamsAware) factory).setMappingParams(params);
+                }
+                result = factory.createBean(srcObject, srcClass, beanId);
+            }
 
             log.debug("Bean instance created with custom factory -->\n  Bean Type: {}\n  Factory Name: {}",
                 result.getClass().getName(),
@@ -171,10 +211,6 @@ public final class ConstructionStrategies {
             return result;
         }
 
-        public void setStoredFactories(Map<String, BeanFactory> factories) {
-            this.factoryCache.putAll(factories);
-        }
-
     }
 
     static class ByInterface implements BeanCreationStrategy {
@@ -184,14 +220,32 @@ public final class ConstructionStrategies {
             return Map.class.equals(actualClass) || List.class.equals(actualClass) || Set.class.equals(actualClass);
         }
 
-        public Object create(MappingParameters params, BeanCreationDirective directive) {
+        private static final BeanInstantiator mapInstantiator = new BeanInstantiator() {
+            public Object create(MappingParameters params, Object srcObject, Class<?> srcClass) {
+                return new HashMap<Object, Object>();
+            }
+        };
+
+        private static final BeanInstantiator listInstantiator = new BeanInstantiator() {
+            public Object create(MappingParameters params, Object srcObject, Class<?> srcClass) {
+                return new ArrayList<Object>();
+            }
+        };
+
+        private static final BeanInstantiator setInstantiator = new BeanInstantiator() {
+            public Object create(MappingParameters params, Object srcObject, Class<?> srcClass) {
+                return new HashSet<Object>();
+            }
+        };
+
+        public BeanInstantiator bind(BeanCreationDirective directive) {
             Class<?> actualClass = directive.getActualClass();
             if (Map.class.equals(actualClass)) {
-                return new HashMap<Object, Object>();
+                return mapInstantiator;
             } else if (List.class.equals(actualClass)) {
-                return new ArrayList<Object>();
+                return listInstantiator;
             } else if (Set.class.equals(actualClass)) {
-                return new HashSet<Object>();
+                return setInstantiator;
             }
             throw new IllegalStateException("Type not expected : " + actualClass);
         }
@@ -226,18 +280,22 @@ public final class ConstructionStrategies {
             return xmlObjectType.isAssignableFrom(actualClass);
         }
 
-        public Object create(MappingParameters params, BeanCreationDirective directive) {
+        public BeanInstantiator bind(BeanCreationDirective directive) {
             Class<?> classToCreate = directive.getActualClass();
             String factoryBeanId = directive.getFactoryId();
-            String beanId = !MappingUtils.isBlankOrNull(factoryBeanId) ? factoryBeanId : classToCreate.getName();
-            return xmlBeanFactory.createBean(directive.getSrcObject(), directive.getSrcClass(), beanId);
+            final String beanId = !MappingUtils.isBlankOrNull(factoryBeanId) ? factoryBeanId : classToCreate.getName();
+            return new BeanInstantiator() {
+                public Object create(MappingParameters params, Object srcObject, Class<?> srcClass) {
+                    return xmlBeanFactory.createBean(srcObject, srcClass, beanId);
+                }
+            };
         }
 
     }
 
     static class ByConstructor implements BeanCreationStrategy {
 
-        private static <T> T newInstance(Class<T> clazz) {
+        private static <T> Constructor<T> findConstructor(Class<T> clazz) {
             // Create using public or private no-arg constructor
             Constructor<T> constructor = null;
             try {
@@ -258,33 +316,73 @@ public final class ConstructionStrategies {
                 constructor.setAccessible(true);
             }
 
-            T result = null;
-            try {
-                result = constructor.newInstance(null);
-            } catch (IllegalArgumentException e) {
-                MappingUtils.throwMappingException(e);
-            } catch (InstantiationException e) {
-                MappingUtils.throwMappingException(e);
-            } catch (IllegalAccessException e) {
-                MappingUtils.throwMappingException(e);
-            } catch (InvocationTargetException e) {
-                MappingUtils.throwMappingException(e);
-            }
-            return result;
+            return constructor;
         }
 
         public boolean isApplicable(BeanCreationDirective directive) {
             return true;
         }
 
-        public Object create(MappingParameters params, BeanCreationDirective directive) {
+        public BeanInstantiator bind(BeanCreationDirective directive) {
             Class<?> classToCreate = directive.getActualClass();
+            Class<?> alternateClass = directive.getAlternateClass();
+
+            ConstructorInstantiator instantiator = null;
+            try {
+                instantiator = new ConstructorInstantiator(findConstructor(classToCreate), null);
+            } catch (Exception e) {
+                if (alternateClass != null) {
+                    return new ConstructorInstantiator(findConstructor(alternateClass), null);
+                } else {
+                    MappingUtils.throwMappingException(e);
+                }
+            }
+
+            if (alternateClass != null && alternateClass != classToCreate) {
+                return new ConstructorInstantiator(instantiator.constructor, alternateClass);
+            }
+            return instantiator;
+        }
+
+    }
+
+    static class ConstructorInstantiator implements BeanInstantiator {
+
+        private static final Logger log = LoggerFactory.getLogger(ConstructorInstantiator.class);
+
+        private final Constructor<?> constructor;
+        private final MethodHandle handle;
+        // Class which is instantiated if constructor fails
+        private final Class<?> alternateClass;
+        private volatile ConstructorInstantiator alternate;
+
+        ConstructorInstantiator(Constructor<?> constructor, Class<?> alternateClass) {
+            this.constructor = constructor;
+            this.handle = createHandle(constructor);
+            this.alternateClass = alternateClass;
+        }
+
+        private static MethodHandle createHandle(Constructor<?> constructor) {
+            if (!MethodInvoker.isMethodHandlesAllowed()) {
+                return null;
+            }
+            try {
+                return MethodHandles.lookup().unreflectConstructor(constructor).asType(MethodType
+                    .methodType(Object.class));
+            } catch (IllegalAccessException e) {
+                log.debug("Method handle cannot be created for constructor {}", constructor, e);
+            } catch (RuntimeException e) {
+                log.debug("Method handle cannot be created for constructor {}", constructor, e);
+            }
+            return null;
+        }
 
+        public Object create(MappingParameters params, Object srcObject, Class<?> srcClass) {
             try {
-                return newInstance(classToCreate);
+                return newInstance();
             } catch (Exception e) {
-                if (directive.getAlternateClass() != null) {
-                    return newInstance(directive.getAlternateClass());
+                if (alternateClass != null) {
+                    return getAlternate().newInstance();
                 } else {
                     MappingUtils.throwMappingException(e);
                 }
@@ -292,6 +390,40 @@ public final class ConstructionStrategies {
             return null;
         }
 
+        private ConstructorInstantiator getAlternate() {
+            ConstructorInstantiator instantiator = alternate;
+            if (instantiator == null) {
+                instantiator = new ConstructorInstantiator(ByConstructor.findConstructor(alternateClass), null);
+                alternate = instantiator;
+            }
+            return instantiator;
+        }
+
+        private Object newInstance() {
+            if (handle != null) {
+                try {
+                    return (Object) handle.invokeExact();
+                } catch (Throwable e) {
+                    // wrap exception in the same way as reflective call does
+                    MappingUtils.throwMappingException(new InvocationTargetException(e));
+                }
+            }
+
+            Object result = null;
+            try {
+                result = constructor.newInstance(null);
+            } catch (IllegalArgumentException e) {
+                MappingUtils.throwMappingException(e);
+            } catch (InstantiationException e) {
+                MappingUtils.throwMappingException(e);
+            } catch (IllegalAccessException e) {
+                MappingUtils.throwMappingException(e);
+            } catch (InvocationTargetException e) {
+                MappingUtils.throwMappingException(e);
+            }
+            return result;
+        }
+
     }
 
     private static class XmlGregorian implements BeanCreationStrategy {
@@ -301,14 +433,20 @@ public final class ConstructionStrategies {
             return XMLGregorianCalendar.class.isAssignableFrom(actualClass);
         }
 
-        public Object create(MappingParameters params, BeanCreationDirective directive) {
-            DatatypeFactory dataTypeFactory;
-            try {
-                dataTypeFactory = DatatypeFactory.newInstance();
-            } catch (DatatypeConfigurationException e) {
-                throw new MappingException(e);
+        private static final BeanInstantiator instantiator = new BeanInstantiator() {
+            public Object create(MappingParameters params, Object srcObject, Class<?> srcClass) {
+                DatatypeFactory dataTypeFactory;
+                try {
+                    dataTypeFactory = DatatypeFactory.newInstance();
+                } catch (DatatypeConfigurationException e) {
+                    throw new MappingException(e);
+                }
+                return dataTypeFactory.newXMLGregorianCalendar();
             }
-            return dataTypeFactory.newXMLGregorianCalendar();
+        };
+
+        public BeanInstantiator bind(BeanCreationDirective directive) {
+            return instantiator;
         }
     }
 
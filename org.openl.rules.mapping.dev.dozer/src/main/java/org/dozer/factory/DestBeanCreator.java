@@ -15,9 +15,11 @@
  */
 package org.dozer.factory;
 
-import java.util.Map;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
-import org.dozer.BeanFactory;
 import org.openl.rules.mapping.MappingParameters;
 import org.dozer.util.MappingUtils;
 
@@ -42,6 +44,14 @@ public final class DestBeanCreator {
             ConstructionStrategies.byFactory(),
             ConstructionStrategies.byConstructor() };
 
+    // instantiators bound for destination class
+    private static final ClassValue<Instantiators> instantiators = new ClassValue<Instantiators>() {
+        @Override
+        protected Instantiators computeValue(Class<?> type) {
+            return new Instantiators();
+        }
+    };
+
     private DestBeanCreator() {
     }
 
@@ -58,25 +68,111 @@ public final class DestBeanCreator {
     }
 
     public static Object create(MappingParameters params, BeanCreationDirective directive) {
+        return create(params,
+            directive.getBeanFactories(),
+            directive.getSrcObject(),
+            directive.getSrcClass(),
+            directive.getTargetClass(),
+            directive.getAlternateClass(),
+            directive.getFactoryName(),
+            directive.getFactoryId(),
+            directive.getCreateMethod());
+    }
+
+    /**
+     * Creates destination object. Construction strategy is resolved once for
+     * the same destination class, alternate class, factory and create method;
+     * the bound instantiator is reused for subsequent calls. Instantiators
+     * which use bean factories are kept by the bean factory registry of the
+     * mapper.
+     */
+    public static Object create(MappingParameters params,
+            BeanFactoryRegistry beanFactories,
+            Object srcObject,
+            Class<?> srcClass,
+            Class<?> targetClass,
+            Class<?> alternateClass,
+            String factoryName,
+            String factoryId,
+            String createMethod) {
 
         // TODO create method lookup by annotation/convention
-        // TODO Cache ConstructionStrategy (reuse caching infrastructure)
         // TODO Resolve JAXB by XmlType Annotation
         // TODO Check resulting type in each method
         // TODO Directive toString()
         // TODO review and document
 
+        Class<?> actualClass = targetClass != null ? targetClass : alternateClass;
+        if (actualClass == null) {
+            return null;
+        }
+
+        Instantiators bound = instantiators.get(actualClass);
+        BeanInstantiator instantiator;
+        if ((alternateClass == null || alternateClass == actualClass) && MappingUtils
+            .isBlankOrNull(factoryName) && MappingUtils.isBlankOrNull(factoryId) && MappingUtils
+                .isBlankOrNull(createMethod)) {
+            instantiator = bound.plain;
+            if (instantiator == null) {
+                instantiator = bind(
+                    new BeanCreationDirective(null, null, targetClass, alternateClass, null, null, null));
+                bound.plain = instantiator;
+            }
+        } else if (MappingUtils.isBlankOrNull(factoryName)) {
+            List<Object> key = Arrays.<Object> asList(alternateClass, factoryId, createMethod);
+            instantiator = bound.byDirective.get(key);
+            if (instantiator == null) {
+                instantiator = bind(new BeanCreationDirective(null,
+                    null,
+                    targetClass,
+                    alternateClass,
+                    null,
+                    factoryId,
+                    createMethod));
+                BeanInstantiator existing = bound.byDirective.putIfAbsent(key, instantiator);
+                if (existing != null) {
+                    instantiator = existing;
+                }
+            }
+        } else {
+            if (beanFactories == null) {
+                MappingUtils.throwMappingException("Bean factories are not available to create " + actualClass);
+            }
+            List<Object> key = Arrays
+                .<Object> asList(actualClass, alternateClass, factoryName, factoryId, createMethod);
+            instantiator = beanFactories.getInstantiator(key);
+            if (instantiator == null) {
+                BeanCreationDirective directive = new BeanCreationDirective(null,
+                    null,
+                    targetClass,
+                    alternateClass,
+                    factoryName,
+                    factoryId,
+                    createMethod);
+                directive.setBeanFactories(beanFactories);
+                instantiator = beanFactories.addInstantiator(key, bind(directive));
+            }
+        }
+
+        return instantiator.create(params, srcObject, srcClass);
+    }
+
+    private static BeanInstantiator bind(BeanCreationDirective directive) {
         for (BeanCreationStrategy strategy : availableStrategies) {
             if (strategy.isApplicable(directive)) {
-                return strategy.create(params, directive);
+                return strategy.bind(directive);
             }
         }
-
-        return null;
+        // unreachable: construction by constructor is always applicable
+        throw new IllegalStateException("Construction strategy is not found for " + directive.getActualClass());
     }
 
-    public static void setStoredFactories(Map<String, BeanFactory> factories) {
-        ConstructionStrategies.byFactory().setStoredFactories(factories);
+    private static final class Instantiators {
+
+        // instantiator without alternate class, factory and create method
+        volatile BeanInstantiator plain;
+        final ConcurrentMap<List<Object>, BeanInstantiator> byDirective = new ConcurrentHashMap<List<Object>, BeanInstantiator>();
+
     }
 
 }
\ No newline at end of file
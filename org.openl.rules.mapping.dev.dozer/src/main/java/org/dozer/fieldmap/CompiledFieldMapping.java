@@ -0,0 +1,50 @@
+package org.dozer.fieldmap;
+
+import java.lang.reflect.Method;
+
+import org.dozer.util.MethodInvoker;
+
+/**
+ * Field mapping compiled by {@link FieldMapCompiler}. Reads source value and
+ * writes destination value using bound accessor methods without generic
+ * property descriptor dispatch. Only intended for internal use.
+ */
+public final class CompiledFieldMapping {
+
+    private final MethodInvoker readMethod;
+    private final MethodInvoker writeMethod;
+    private final Class<?> destFieldType;
+    private final boolean conversionRequired;
+
+    CompiledFieldMapping(Method readMethod, Method writeMethod, boolean conversionRequired) {
+        this.readMethod = MethodInvoker.create(readMethod);
+        this.writeMethod = MethodInvoker.create(writeMethod);
+        this.destFieldType = writeMethod.getParameterTypes()[0];
+        this.conversionRequired = conversionRequired;
+    }
+
+    public Object getSrcFieldValue(Object srcObj) {
+        return readMethod.invoke(srcObj);
+    }
+
+    public void writeDestValue(Object destObj, Object destFieldValue) {
+        // null value cannot be assigned to primitive property
+        if (destFieldValue == null && destFieldType.isPrimitive()) {
+            return;
+        }
+        writeMethod.invoke(destObj, destFieldValue);
+    }
+
+    public Class<?> getDestFieldType() {
+        return destFieldType;
+    }
+
+    /**
+     * Indicates that source value should be converted using primitive
+     * converter; otherwise value is copied as is.
+     */
+    public boolean isConversionRequired() {
+        return conversionRequired;
+    }
+
+}
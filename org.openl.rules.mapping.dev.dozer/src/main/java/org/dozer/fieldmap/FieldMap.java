@@ -17,16 +17,21 @@ package org.dozer.fieldmap;
 
 import java.lang.reflect.Method;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.apache.commons.lang.builder.ToStringStyle;
+import org.dozer.CollectionItemDiscriminator;
+import org.dozer.CustomConverter;
+import org.dozer.FieldMappingCondition;
 import org.dozer.MappingException;
 import org.dozer.classmap.ClassMap;
 import org.dozer.classmap.DozerClass;
 import org.dozer.classmap.MappingDirection;
 import org.dozer.classmap.RelationshipType;
+import org.dozer.converters.CustomConverterContainer;
 import org.dozer.propertydescriptor.DozerPropertyDescriptor;
 import org.dozer.propertydescriptor.GetterSetterPropertyDescriptor;
 import org.dozer.propertydescriptor.PropertyDescriptorFactory;
@@ -71,6 +76,15 @@ public abstract class FieldMap implements Cloneable {
     private Boolean mapNull;
     private Boolean mapEmptyString;
     private Boolean trimString;
+    private Boolean parallelCollection;
+
+    // Instances bound to references above when mapper is initialized
+    private volatile CustomConverter customConverterInstance;
+    private volatile FieldMappingCondition mappingConditionInstance;
+    private volatile CollectionItemDiscriminator collectionItemDiscriminatorInstance;
+
+    // Custom converter selected for the last mapped pair of runtime types
+    private volatile ConverterSelection converterSelection;
 
     public FieldMap(ClassMap classMap) {
         this.classMap = classMap;
@@ -380,6 +394,7 @@ public abstract class FieldMap implements Cloneable {
 
     public void setCustomConverter(String customConverter) {
         this.customConverter = customConverter;
+        this.customConverterInstance = null;
     }
 
     public RelationshipType getRelationshipType() {
@@ -486,6 +501,7 @@ public abstract class FieldMap implements Cloneable {
 
     public void setCustomConverterId(String customConverterId) {
         this.customConverterId = customConverterId;
+        this.customConverterInstance = null;
     }
 
     public boolean isRemoveOrphans() {
@@ -528,6 +544,18 @@ public abstract class FieldMap implements Cloneable {
         this.trimString = trimString;
     }
 
+    /**
+     * Indicates that items of large source collection can be mapped in
+     * parallel.
+     */
+    public boolean isParallelCollection() {
+        return parallelCollection != null ? parallelCollection : classMap.isParallelCollections();
+    }
+
+    public void setParallelCollection(boolean parallelCollection) {
+        this.parallelCollection = parallelCollection;
+    }
+
     public String getCustomConverterParam() {
         return customConverterParam;
     }
@@ -542,6 +570,7 @@ public abstract class FieldMap implements Cloneable {
 
     public void setMappingCondition(String mapCondition) {
         this.mappingCondition = mapCondition;
+        this.mappingConditionInstance = null;
     }
 
     public String getMappingConditionId() {
@@ -550,6 +579,7 @@ public abstract class FieldMap implements Cloneable {
 
     public void setMappingConditionId(String mapConditionId) {
         this.mappingConditionId = mapConditionId;
+        this.mappingConditionInstance = null;
     }
 
     public String getCollectionItemDiscriminator() {
@@ -558,6 +588,7 @@ public abstract class FieldMap implements Cloneable {
 
     public void setCollectionItemDiscriminator(String collectionItemDiscriminator) {
         this.collectionItemDiscriminator = collectionItemDiscriminator;
+        this.collectionItemDiscriminatorInstance = null;
     }
 
     public String getCollectionItemDiscriminatorId() {
@@ -566,6 +597,76 @@ public abstract class FieldMap implements Cloneable {
 
     public void setCollectionItemDiscriminatorId(String collectionItemDiscriminatorId) {
         this.collectionItemDiscriminatorId = collectionItemDiscriminatorId;
+        this.collectionItemDiscriminatorInstance = null;
+    }
+
+    /**
+     * Gets custom converter instance bound to this field mapping by mapper.
+     * 
+     * @return converter instance or <code>null</code> if it is not bound yet
+     */
+    public CustomConverter getCustomConverterInstance() {
+        return customConverterInstance;
+    }
+
+    public void setCustomConverterInstance(CustomConverter customConverterInstance) {
+        this.customConverterInstance = customConverterInstance;
+    }
+
+    /**
+     * Gets mapping condition instance bound to this field mapping by mapper.
+     * 
+     * @return condition instance or <code>null</code> if it is not bound yet
+     */
+    public FieldMappingCondition getMappingConditionInstance() {
+        return mappingConditionInstance;
+    }
+
+    public void setMappingConditionInstance(FieldMappingCondition mappingConditionInstance) {
+        this.mappingConditionInstance = mappingConditionInstance;
+    }
+
+    /**
+     * Gets collection item discriminator instance bound to this field mapping
+     * by mapper.
+     * 
+     * @return discriminator instance or <code>null</code> if it is not bound
+     *         yet
+     */
+    public CollectionItemDiscriminator getCollectionItemDiscriminatorInstance() {
+        return collectionItemDiscriminatorInstance;
+    }
+
+    public void setCollectionItemDiscriminatorInstance(CollectionItemDiscriminator discriminatorInstance) {
+        this.collectionItemDiscriminatorInstance = discriminatorInstance;
+    }
+
+    /**
+     * Finds custom converter defined by class map for given runtime types.
+     * Converter selected for the last pair of types is kept by field mapping,
+     * so field mappings which always map values of the same types do not look
+     * up converters of class map.
+     * 
+     * @param srcClass source class
+     * @param destClass destination class
+     * @param externalConverters injected converter instances
+     * @return converter instance or <code>null</code> if converter is not
+     *         defined for given classes
+     */
+    public CustomConverter findCustomConverter(Class<?> srcClass,
+            Class<?> destClass,
+            List<CustomConverter> externalConverters) {
+        ConverterSelection selection = converterSelection;
+        if (selection != null && selection.srcClass == srcClass && selection.destClass == destClass) {
+            return selection.converter;
+        }
+
+        CustomConverterContainer converters = classMap.getCustomConverters();
+        CustomConverter converter = converters != null ? converters
+            .findCustomConverter(srcClass, destClass, externalConverters) : null;
+        converterSelection = new ConverterSelection(srcClass, destClass, converter);
+
+        return converter;
     }
 
     protected ConcurrentMap<Class<?>, DozerPropertyDescriptor> getSrcPropertyDescriptorMap() {
@@ -589,6 +690,7 @@ public abstract class FieldMap implements Cloneable {
             .append("mapNull", mapNull)
             .append("mapEmptyString", mapEmptyString)
             .append("trimString", trimString)
+            .append("parallelCollection", parallelCollection)
             .append("copyByReferenceOveridden", copyByReferenceOveridden)
             .append("srcTypeHint", getSrcHintContainer())
             .append("destTypeHint", getDestHintContainer())
@@ -599,4 +701,16 @@ public abstract class FieldMap implements Cloneable {
             .toString();
     }
 
+    private static final class ConverterSelection {
+        private final Class<?> srcClass;
+        private final Class<?> destClass;
+        private final CustomConverter converter;
+
+        ConverterSelection(Class<?> srcClass, Class<?> destClass, CustomConverter converter) {
+            this.srcClass = srcClass;
+            this.destClass = destClass;
+            this.converter = converter;
+        }
+    }
+
 }
@@ -0,0 +1,122 @@
+package org.dozer.fieldmap;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.apache.commons.lang.ClassUtils;
+import org.dozer.propertydescriptor.JavaBeanPropertyDescriptor;
+import org.dozer.util.DozerConstants;
+import org.dozer.util.MappingUtils;
+import org.dozer.util.ReflectionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compiles simple field mappings into {@link CompiledFieldMapping} instances.
+ * Field mapping can be compiled if source and destination fields are plain
+ * java bean properties of primitive, wrapper, string or big number types and
+ * field mapping does not use converters, conditions, hints, indexes, deep
+ * field paths or map backed properties. All other field mappings are processed
+ * by mapper as usual. Only intended for internal use.
+ */
+public final class FieldMapCompiler {
+
+    private static final Logger log = LoggerFactory.getLogger(FieldMapCompiler.class);
+
+    private FieldMapCompiler() {
+    }
+
+    /**
+     * Compiles field mapping for given runtime classes.
+     *
+     * @param fieldMap field mapping
+     * @param srcClass runtime source class
+     * @param destClass runtime destination class
+     * @return compiled field mapping or <code>null</code> if field mapping
+     *         cannot be compiled
+     */
+    public static CompiledFieldMapping compile(FieldMap fieldMap, Class<?> srcClass, Class<?> destClass) {
+        if (!isCompilable(fieldMap) || MappingUtils.isSupportedMap(srcClass) || MappingUtils
+            .isSupportedMap(destClass)) {
+            return null;
+        }
+
+        try {
+            if (fieldMap.getSrcPropertyDescriptor(srcClass).getClass() != JavaBeanPropertyDescriptor.class || fieldMap
+                .getDestPropertyDescriptor(destClass).getClass() != JavaBeanPropertyDescriptor.class) {
+                return null;
+            }
+
+            PropertyDescriptor srcDescriptor = ReflectionUtils
+                .findPropertyDescriptor(srcClass, fieldMap.getSrcFieldName(), null);
+            PropertyDescriptor destDescriptor = ReflectionUtils
+                .findPropertyDescriptor(destClass, fieldMap.getDestFieldName(), null);
+            if (srcDescriptor == null || destDescriptor == null) {
+                return null;
+            }
+
+            Method readMethod = srcDescriptor.getReadMethod();
+            Method writeMethod = destDescriptor.getWriteMethod();
+            if (readMethod == null || writeMethod == null) {
+                return null;
+            }
+
+            Class<?> srcType = readMethod.getReturnType();
+            Class<?> destType = writeMethod.getParameterTypes()[0];
+            if (!isValueType(srcType) || !isValueType(destType)) {
+                return null;
+            }
+
+            boolean conversionRequired = !ClassUtils.primitiveToWrapper(srcType)
+                .equals(ClassUtils.primitiveToWrapper(destType));
+
+            return new CompiledFieldMapping(readMethod, writeMethod, conversionRequired);
+        } catch (Exception e) {
+            log.debug("Field mapping cannot be compiled", e);
+            return null;
+        }
+    }
+
+    private static boolean isCompilable(FieldMap fieldMap) {
+        if (fieldMap.getClass() != GenericFieldMap.class) {
+            return false;
+        }
+        if (!isSimpleField(fieldMap.getSrcFieldName()) || !isSimpleField(fieldMap.getDestFieldName())) {
+            return false;
+        }
+        if (fieldMap.isSrcFieldIndexed() || fieldMap.isDestFieldIndexed() || fieldMap
+            .isSrcFieldAccessible() || fieldMap.isDestFieldAccessible()) {
+            return false;
+        }
+        if (fieldMap.getSrcFieldTheGetMethod() != null || fieldMap.getDestFieldTheSetMethod() != null || fieldMap
+            .getSrcFieldMapGetMethod() != null || fieldMap.getDestFieldMapSetMethod() != null) {
+            return false;
+        }
+        if (fieldMap.getSrcFieldKey() != null || fieldMap.getDestFieldKey() != null || fieldMap
+            .getSrcHintContainer() != null || fieldMap.getDestHintContainer() != null) {
+            return false;
+        }
+
+        return MappingUtils.isBlankOrNull(fieldMap.getCustomConverter()) && MappingUtils
+            .isBlankOrNull(fieldMap.getCustomConverterId()) && MappingUtils
+                .isBlankOrNull(fieldMap.getMappingCondition()) && MappingUtils
+                    .isBlankOrNull(fieldMap.getMappingConditionId()) && MappingUtils
+                        .isBlankOrNull(fieldMap.getCollectionItemDiscriminator()) && MappingUtils
+                            .isBlankOrNull(fieldMap.getCollectionItemDiscriminatorId());
+    }
+
+    private static boolean isSimpleField(String fieldName) {
+        return !MappingUtils.isBlankOrNull(fieldName) && !DozerConstants.SELF_KEYWORD
+            .equals(fieldName) && !MappingUtils.isDeepMapping(fieldName);
+    }
+
+    private static boolean isValueType(Class<?> type) {
+        Class<?> wrapper = ClassUtils.primitiveToWrapper(type);
+        return wrapper == String.class || wrapper == Boolean.class || wrapper == Character.class || wrapper == Byte.class
+                || wrapper == Short.class || wrapper == Integer.class || wrapper == Long.class || wrapper == Float.class
+                || wrapper == Double.class || wrapper == BigDecimal.class || wrapper == BigInteger.class;
+    }
+
+}
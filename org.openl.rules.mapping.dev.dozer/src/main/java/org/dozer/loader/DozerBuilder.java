@@ -161,6 +161,11 @@ public class DozerBuilder {
             return this;
         }
 
+        public MappingBuilder parallelCollections(Boolean value) {
+            classMap.setParallelCollections(value);
+            return this;
+        }
+
         public MappingBuilder wildcard(Boolean value) {
             classMap.setWildcard(value);
             return this;
@@ -290,6 +295,8 @@ public class DozerBuilder {
         private boolean mapEmptyStringSet;
         private boolean trimString;
         private boolean trimStringSet;
+        private boolean parallelCollection;
+        private boolean parallelCollectionSet;
 
         public FieldMappingBuilder(ClassMap classMap) {
             this.classMap = classMap;
@@ -383,6 +390,11 @@ public class DozerBuilder {
             this.trimString = value;
         }
 
+        public void parallelCollection(boolean value) {
+            this.parallelCollectionSet = true;
+            this.parallelCollection = value;
+        }
+
         public void build() {
             // TODO Check Map to Map mapping
             FieldMap result;
@@ -438,6 +450,10 @@ public class DozerBuilder {
                 result.setTrimString(trimString);
             }
 
+            if (parallelCollectionSet) {
+                result.setParallelCollection(parallelCollection);
+            }
+
             classMap.addFieldMapping(result);
         }
     }
@@ -546,6 +562,14 @@ public class DozerBuilder {
             definition.setCreateMethod(name);
         }
 
+        public void creatorParameters(List<String> fieldNames) {
+            definition.setCreatorParameters(fieldNames);
+        }
+
+        public void builderMethod(String name) {
+            definition.setBuilderMethod(name);
+        }
+
         public void mapNull(Boolean value) {
             definition.setMapNull(value);
         }
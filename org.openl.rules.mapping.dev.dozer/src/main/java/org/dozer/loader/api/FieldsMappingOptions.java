@@ -136,6 +136,18 @@ public final class FieldsMappingOptions {
         };
     }
 
+    public static FieldsMappingOption parallelCollection() {
+        return parallelCollection(true);
+    }
+
+    public static FieldsMappingOption parallelCollection(final boolean value) {
+        return new FieldsMappingOption() {
+            public void apply(DozerBuilder.FieldMappingBuilder fieldMappingBuilder) {
+                fieldMappingBuilder.parallelCollection(value);
+            }
+        };
+    }
+
     public static FieldsMappingOption removeOrphans() {
         return removeOrphans(true);
     }
@@ -16,6 +16,9 @@
 
 package org.dozer.loader.api;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.dozer.BeanFactory;
 import org.dozer.loader.DozerBuilder;
 
@@ -33,6 +36,8 @@ public class TypeDefinition {
     private String mapSetMethod;
     private boolean mapNull;
     private Boolean isAccessible;
+    private List<String> creatorParameters;
+    private String builderMethod;
 
     public TypeDefinition(Class<?> type) {
         this.name = type.getName();
@@ -54,6 +59,9 @@ public class TypeDefinition {
         typeBuilder.mapSetMethod(this.mapSetMethod);
 
         typeBuilder.isAccessible(this.isAccessible);
+
+        typeBuilder.creatorParameters(this.creatorParameters);
+        typeBuilder.builderMethod(this.builderMethod);
     }
 
     public TypeDefinition mapMethods(String getMethod, String setMethod) {
@@ -77,6 +85,26 @@ public class TypeDefinition {
         return this;
     }
 
+    /**
+     * Creates destination object in one call from mapped values of given
+     * fields. Values are passed to constructor or to create method in the same
+     * order, or to builder if builder method is defined.
+     */
+    public TypeDefinition creatorParameters(String... fieldNames) {
+        this.creatorParameters = Arrays.asList(fieldNames);
+        return this;
+    }
+
+    /**
+     * Creates destination object using builder returned by given static
+     * method of destination class. Fields are passed to builder using
+     * {@link #creatorParameters(String...)}.
+     */
+    public TypeDefinition builderMethod(String method) {
+        this.builderMethod = method;
+        return this;
+    }
+
     public TypeDefinition mapMethods(String factoryBeanId) {
         this.factoryBeanId = factoryBeanId;
         return this;
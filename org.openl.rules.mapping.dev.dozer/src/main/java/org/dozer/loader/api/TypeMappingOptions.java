@@ -109,6 +109,18 @@ public final class TypeMappingOptions {
         };
     }
 
+    public static TypeMappingOption parallelCollections() {
+        return parallelCollections(true);
+    }
+
+    public static TypeMappingOption parallelCollections(final boolean value) {
+        return new TypeMappingOption() {
+            public void apply(DozerBuilder.MappingBuilder fieldMappingBuilder) {
+                fieldMappingBuilder.parallelCollections(value);
+            }
+        };
+    }
+
     public static TypeMappingOption oneWay() {
         return new TypeMappingOption() {
             public void apply(DozerBuilder.MappingBuilder fieldMappingBuilder) {
@@ -0,0 +1,170 @@
+package org.dozer.propertydescriptor;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+
+import org.dozer.fieldmap.HintContainer;
+import org.dozer.util.IndexExpression;
+import org.dozer.util.MappingUtils;
+import org.dozer.util.MethodInvoker;
+import org.dozer.util.ReflectionUtils;
+
+/**
+ * Immutable accessor chain of deep field path (e.g. "a.b[1].c") compiled for
+ * particular runtime root class. Path is tokenized, property descriptors are
+ * resolved and index expressions are parsed only once; accessor methods are
+ * bound using {@link MethodInvoker}. Only intended for internal use.
+ */
+public final class DeepFieldPath {
+
+    private final Class<?> rootClass;
+    private final HintContainer hintContainer;
+    private final Element[] elements;
+
+    private DeepFieldPath(Class<?> rootClass, HintContainer hintContainer, Element[] elements) {
+        this.rootClass = rootClass;
+        this.hintContainer = hintContainer;
+        this.elements = elements;
+    }
+
+    /**
+     * Compiles deep field path.
+     * 
+     * @param rootClass runtime class of root object
+     * @param fieldName deep field path
+     * @param hintContainer deep index hints; can be <code>null</code>
+     * @return compiled path
+     */
+    public static DeepFieldPath compile(Class<?> rootClass, String fieldName, HintContainer hintContainer) {
+        DeepHierarchyElement[] hierarchy = ReflectionUtils.getDeepFieldHierarchy(rootClass,
+            fieldName,
+            hintContainer);
+        Element[] elements = new Element[hierarchy.length];
+
+        for (int i = 0; i < hierarchy.length; i++) {
+            elements[i] = new Element(hierarchy[i].getPropDescriptor(), hierarchy[i].getIndex());
+        }
+
+        return new DeepFieldPath(rootClass, hintContainer, elements);
+    }
+
+    public Class<?> getRootClass() {
+        return rootClass;
+    }
+
+    public HintContainer getHintContainer() {
+        return hintContainer;
+    }
+
+    public int size() {
+        return elements.length;
+    }
+
+    public Element getElement(int i) {
+        return elements[i];
+    }
+
+    public Element getLastElement() {
+        return elements[elements.length - 1];
+    }
+
+    /**
+     * Single step of deep field path.
+     */
+    public static final class Element {
+
+        private final PropertyDescriptor propDescriptor;
+        private final MethodInvoker readMethod;
+        private final MethodInvoker writeMethod;
+        private final IndexExpression indexExpression;
+
+        private Element(PropertyDescriptor propDescriptor, String index) {
+            this.propDescriptor = propDescriptor;
+            this.readMethod = createInvoker(propDescriptor.getReadMethod());
+            this.writeMethod = createInvoker(propDescriptor.getWriteMethod());
+            this.indexExpression = MappingUtils.isBlankOrNull(index) ? null
+                                                                     : IndexExpression
+                                                                         .compile(propDescriptor.getName(), index);
+        }
+
+        private static MethodInvoker createInvoker(Method method) {
+            return method != null ? MethodInvoker.create(method) : null;
+        }
+
+        public PropertyDescriptor getPropDescriptor() {
+            return propDescriptor;
+        }
+
+        public String getIndex() {
+            return indexExpression != null ? indexExpression.getIndex() : null;
+        }
+
+        /**
+         * Indicates that path element has index expression.
+         */
+        public boolean isIndexed() {
+            return indexExpression != null;
+        }
+
+        /**
+         * Indicates that index expression is a plain collection index.
+         */
+        public boolean isSimpleIndex() {
+            return indexExpression != null && indexExpression.isCollectionIndex();
+        }
+
+        /**
+         * Gets parsed collection index. Value is valid only for simple index
+         * expressions.
+         */
+        public int getCollectionIndex() {
+            return indexExpression != null ? indexExpression.getCollectionIndex() : -1;
+        }
+
+        public Object readValue(Object parent) {
+            if (readMethod == null) {
+                MappingUtils.throwMappingException(String.format("No read method found for field '%s' in class '%s'",
+                    propDescriptor.getName(),
+                    parent.getClass().getName()));
+            }
+            return readMethod.invoke(parent);
+        }
+
+        public void writeValue(Object parent, Object value) {
+            if (writeMethod == null) {
+                MappingUtils.throwMappingException(String.format("No write method found for field '%s' in class '%s'",
+                    propDescriptor.getName(),
+                    parent.getClass().getName()));
+            }
+            writeMethod.invoke(parent, value);
+        }
+
+        /**
+         * Gets value of current path element. If element is indexed appropriate
+         * element of collection is returned.
+         * 
+         * @param parent object which owns the value
+         * @return value of path element
+         */
+        public Object getValue(Object parent) {
+            if (indexExpression == null) {
+                return readValue(parent);
+            }
+            return getIndexedValue(parent, indexExpression.isPropertyValueRequired() ? readValue(parent) : null);
+        }
+
+        /**
+         * Gets indexed element of value using index expression of current path
+         * element.
+         * 
+         * @param parent object which owns the value; used as context of xpath
+         *            expression
+         * @param value value of current path element
+         * @return indexed element
+         */
+        public Object getIndexedValue(Object parent, Object value) {
+            return indexExpression.getValue(parent, value);
+        }
+    }
+
+}
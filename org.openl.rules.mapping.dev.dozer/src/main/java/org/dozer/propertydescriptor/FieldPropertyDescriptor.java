@@ -22,6 +22,8 @@ import org.dozer.factory.DestBeanCreator;
 import org.dozer.fieldmap.FieldMap;
 import org.dozer.fieldmap.HintContainer;
 import org.dozer.util.DozerConstants;
+import org.dozer.util.FieldAccessor;
+import org.dozer.util.IndexExpression;
 import org.dozer.util.MappingUtils;
 import org.dozer.util.ReflectionUtils;
 
@@ -98,13 +100,17 @@ public class FieldPropertyDescriptor extends AbstractPropertyDescriptor {
     static class ChainedPropertyDescriptor implements DozerPropertyDescriptor {
 
         private Field field;
+        private FieldAccessor accessor;
         private boolean indexed;
-        private String index;
+        private IndexExpression indexExpression;
 
         ChainedPropertyDescriptor(Class<?> clazz, String fieldName, boolean indexed, String index) {
             this.indexed = indexed;
-            this.index = index;
             field = ReflectionUtils.getFieldFromBean(clazz, fieldName);
+            accessor = FieldAccessor.create(field);
+            if (indexed) {
+                indexExpression = IndexExpression.compile(field.getName(), index);
+            }
         }
 
         public Class<?> getPropertyType() {
@@ -114,20 +120,14 @@ public class FieldPropertyDescriptor extends AbstractPropertyDescriptor {
         public Object getPropertyValue(Object bean) {
             Object result = null;
             try {
-                result = field.get(bean);
+                result = accessor.get(bean);
             } catch (IllegalArgumentException e) {
                 MappingUtils.throwMappingException(e);
             } catch (IllegalAccessException e) {
                 MappingUtils.throwMappingException(e);
             }
             if (indexed) {
-                if (MappingUtils.isSimpleCollectionIndex(index)) {
-                    int collectionIndex = MappingUtils.getCollectionIndex(index);
-                    result = MappingUtils.getCollectionIndexedValue(result, collectionIndex);
-                } else {
-                    String expression = String.format("%s[%s]", field.getName(), index);
-                    result = MappingUtils.getXPathIndexedValue(bean, expression);
-                }
+                result = indexExpression.getValue(bean, result);
             }
 
             return result;
@@ -146,9 +146,9 @@ public class FieldPropertyDescriptor extends AbstractPropertyDescriptor {
 
             try {
                 if (indexed) {
-                    Object existingValue = field.get(bean);
+                    Object existingValue = accessor.get(bean);
 
-                    if (!MappingUtils.isSimpleCollectionIndex(index)) {
+                    if (!indexExpression.isCollectionIndex()) {
                         MappingUtils
                             .throwMappingException("Destinaiton field path should not contain filter expressions");
                     }
@@ -156,10 +156,10 @@ public class FieldPropertyDescriptor extends AbstractPropertyDescriptor {
                     Object collection = MappingUtils.prepareIndexedCollection(getPropertyType(),
                         existingValue,
                         value,
-                        MappingUtils.getCollectionIndex(index));
-                    field.set(bean, collection);
+                        indexExpression.getCollectionIndex());
+                    accessor.set(bean, collection);
                 } else {
-                    field.set(bean, value);
+                    accessor.set(bean, value);
                 }
             } catch (IllegalAccessException e) {
                 MappingUtils.throwMappingException(e);
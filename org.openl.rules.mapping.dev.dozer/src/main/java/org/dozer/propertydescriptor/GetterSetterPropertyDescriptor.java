@@ -18,15 +18,18 @@ package org.dozer.propertydescriptor;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Method;
 import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.dozer.MappingException;
-import org.dozer.factory.BeanCreationDirective;
 import org.dozer.factory.DestBeanCreator;
 import org.dozer.fieldmap.FieldMap;
 import org.dozer.fieldmap.HintContainer;
 import org.dozer.util.BridgedMethodFinder;
 import org.dozer.util.CollectionUtils;
+import org.dozer.util.IndexExpression;
 import org.dozer.util.MappingUtils;
+import org.dozer.util.MethodInvoker;
 import org.dozer.util.ReflectionUtils;
 import org.dozer.util.TypeResolver;
 import org.slf4j.Logger;
@@ -50,12 +53,23 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
 
     private Class<?> propertyType;
 
+    // For Caching Purposes
+    private volatile MethodInvoker readMethodInvoker;
+    private volatile MethodInvoker writeMethodInvoker;
+
+    private final boolean deepMapping;
+    private final ConcurrentMap<Class<?>, DeepFieldPath> deepFieldPaths;
+    private final IndexExpression indexExpression;
+
     public GetterSetterPropertyDescriptor(Class<?> clazz,
             String fieldName,
             boolean isIndexed,
             String index,
             HintContainer deepIndexHintContainer) {
         super(clazz, fieldName, isIndexed, index, deepIndexHintContainer);
+        this.deepMapping = MappingUtils.isDeepMapping(fieldName);
+        this.deepFieldPaths = deepMapping ? new ConcurrentHashMap<Class<?>, DeepFieldPath>() : null;
+        this.indexExpression = isIndexed ? IndexExpression.compile(getLastFieldName(fieldName), index) : null;
     }
 
     public abstract Method getWriteMethod() throws NoSuchMethodException;
@@ -75,25 +89,21 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
 
     public Object getPropertyValue(Object bean) {
         Object result;
-        if (MappingUtils.isDeepMapping(fieldName)) {
+        if (deepMapping) {
             result = getDeepSrcFieldValue(bean);
         } else {
-            result = invokeReadMethod(bean);
             if (isIndexed) {
-                if (MappingUtils.isSimpleCollectionIndex(index)) {
-                    int collectionIndex = MappingUtils.getCollectionIndex(index);
-                    result = MappingUtils.getCollectionIndexedValue(result, collectionIndex);
-                } else {
-                    String expression = String.format("%s[%s]", fieldName, index);
-                    result = MappingUtils.getXPathIndexedValue(bean, expression);
-                }
+                result = indexExpression.getValue(bean,
+                    indexExpression.isPropertyValueRequired() ? invokeReadMethod(bean) : null);
+            } else {
+                result = invokeReadMethod(bean);
             }
         }
         return result;
     }
 
     public void setPropertyValue(Object bean, Object value, FieldMap fieldMap) {
-        if (MappingUtils.isDeepMapping(fieldName)) {
+        if (deepMapping) {
             writeDeepDestinationValue(bean, value, fieldMap);
         } else {
             if (!getPropertyType().isPrimitive() || value != null) {
@@ -125,42 +135,18 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
         // follow deep field hierarchy. If any values are null along the way,
         // then return null
         Object parentObj = srcObj;
-        Object hierarchyValue = parentObj;
-        // get deep hierarchy for current source object
+        // get compiled deep path for current source object
         //
-        DeepHierarchyElement[] hierarchy = getDeepFieldHierarchy(srcObj, deepIndexHintContainer);
-        int hierarchyLength = hierarchy.length;
+        DeepFieldPath path = getDeepFieldPath(srcObj, deepIndexHintContainer);
+        int hierarchyLength = path.size();
 
-        // Iterate thru each deep element in the hierarchy to obtain field value
+        // Iterate thru each deep element in the hierarchy except the last one
+        // to obtain parent object of field. If any fields in the deep
+        // hierarchy are indexed, actual value within the collection at the
+        // specified index is used.
         //
-        for (int i = 0; i < hierarchyLength; i++) {
-            DeepHierarchyElement hierarchyElement = hierarchy[i];
-            PropertyDescriptor pd = hierarchyElement.getPropDescriptor();
-
-            // If any fields in the deep hierarchy are indexed, get actual value
-            // within the collection at the specified index
-            //
-            if (!MappingUtils.isBlankOrNull(hierarchyElement.getIndex())) {
-                Object bean = ReflectionUtils.invoke(pd.getReadMethod(), hierarchyValue, null);
-                // Obtain field value with appropriate method
-                //
-                if (MappingUtils.isSimpleCollectionIndex(hierarchyElement.getIndex())) {
-                    int collectionIndex = MappingUtils.getCollectionIndex(hierarchyElement.getIndex());
-                    hierarchyValue = MappingUtils.getCollectionIndexedValue(bean, collectionIndex);
-                } else {
-                    // We should provide right xpath's context and expression to
-                    // obtain field
-                    // value. In current state the right context is parent
-                    // object of hierarchy element
-                    // and the expression is concatenation of current field name
-                    // and hierarchy element index value.
-                    //
-                    String expression = String.format("%s[%s]", pd.getName(), hierarchyElement.getIndex());
-                    hierarchyValue = MappingUtils.getXPathIndexedValue(parentObj, expression);
-                }
-            } else {
-                hierarchyValue = ReflectionUtils.invoke(pd.getReadMethod(), parentObj, null);
-            }
+        for (int i = 0; i < hierarchyLength - 1; i++) {
+            Object hierarchyValue = path.getElement(i).getValue(parentObj);
 
             // if one of hierarchy element value is null we stop further
             // field path processing.
@@ -169,13 +155,30 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
                 return null;
             }
 
-            // For the last element in hierarchy we skip this step to obtain
-            // right
-            // parent object for further processing.
-            //
-            if (i != hierarchyLength - 1) {
-                parentObj = hierarchyValue;
-            }
+            parentObj = hierarchyValue;
+        }
+
+        return getDeepPropertyValue(path, parentObj);
+    }
+
+    /**
+     * Gets value of deep field using already obtained parent object of the
+     * last element of deep field path.
+     * 
+     * @param path deep field path compiled by
+     *            {@link #getDeepFieldPath(Class)}
+     * @param parentObj parent object of the last path element
+     * @return field value
+     */
+    public Object getDeepPropertyValue(DeepFieldPath path, Object parentObj) {
+        // We should provide right xpath's context to obtain field value. In
+        // current state the right context is parent object of hierarchy
+        // element.
+        //
+        Object hierarchyValue = path.getLastElement().getValue(parentObj);
+
+        if (hierarchyValue == null) {
+            return null;
         }
 
         // At current state we processed field path and have the last field
@@ -185,14 +188,7 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
         // field value.
         //
         if (isIndexed) {
-            if (MappingUtils.isSimpleCollectionIndex(index)) {
-                int collectionIndex = MappingUtils.getCollectionIndex(index);
-                hierarchyValue = MappingUtils.getCollectionIndexedValue(hierarchyValue, collectionIndex);
-            } else {
-                String lastFieldName = hierarchy[hierarchyLength - 1].getPropDescriptor().getName();
-                String expression = String.format("%s[%s]", lastFieldName, index);
-                hierarchyValue = MappingUtils.getXPathIndexedValue(parentObj, expression);
-            }
+            hierarchyValue = indexExpression.getValue(parentObj, hierarchyValue);
         }
 
         return hierarchyValue;
@@ -201,148 +197,176 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
     protected void writeDeepDestinationValue(Object destObj, Object destFieldValue, FieldMap fieldMap) {
         // follow deep field hierarchy. If any values are null along the way,
         // then create a new instance
-        DeepHierarchyElement[] hierarchy = getDeepFieldHierarchy(destObj, fieldMap.getDestDeepIndexHintContainer());
+        DeepFieldPath path = getDeepFieldPath(destObj, fieldMap.getDestDeepIndexHintContainer());
         // first, iteratate through hierarchy and instantiate any objects that
         // are null
         Object parentObj = destObj;
-        int hierarchyLength = hierarchy.length - 1;
+        int hierarchyLength = path.size() - 1;
 
         for (int i = 0; i < hierarchyLength; i++) {
-            DeepHierarchyElement hierarchyElement = hierarchy[i];
-            PropertyDescriptor pd = hierarchyElement.getPropDescriptor();
-            Object value = ReflectionUtils.invoke(pd.getReadMethod(), parentObj, null);
-            Class<?> clazz;
-            Class<?> collectionEntryType;
-
-            if (value == null) {
-                clazz = pd.getPropertyType();
-                if (clazz.isInterface() && (i + 1) == hierarchyLength && fieldMap.getDestHintContainer() != null) {
-                    // before setting the property on the destination object we
-                    // should check for a destination hint. need to know
-                    // that we are at the end of the line determine the property
-                    // type
-                    clazz = fieldMap.getDestHintContainer().getHint();
-                }
+            parentObj = prepareDeepDestParent(path, i, parentObj, fieldMap);
+        }
 
-                Object o = null;
+        // second, set the very last field in the deep hierarchy
+        writeDeepDestinationValue(path, parentObj, destFieldValue);
+    }
 
-                if (clazz.isArray() || Collection.class.isAssignableFrom(clazz)) {
-                    // index value must be not null because hierarchy element is
-                    // not at the end.
-                    String index = hierarchyElement.getIndex();
-                    if (!MappingUtils.isSimpleCollectionIndex(index)) {
-                        MappingUtils.throwMappingException(String.format(
-                            "Destination field '%s' should be indexed or should not contain filter expressions",
-                            hierarchyElement.getPropDescriptor().getName()));
-                    }
+    /**
+     * Resolves value of intermediate element of deep destination field path.
+     * If value is <code>null</code> new instance is created and written to
+     * parent object; indexed collections are resized if required.
+     * 
+     * @param path deep field path compiled by
+     *            {@link #getDeepFieldPath(Class, HintContainer)}
+     * @param i index of path element
+     * @param parentObj parent object of path element
+     * @param fieldMap field map
+     * @return object which is parent of the next path element
+     */
+    public Object prepareDeepDestParent(DeepFieldPath path, int i, Object parentObj, FieldMap fieldMap) {
+        int hierarchyLength = path.size() - 1;
+        DeepFieldPath.Element hierarchyElement = path.getElement(i);
+        PropertyDescriptor pd = hierarchyElement.getPropDescriptor();
+        Object value = hierarchyElement.readValue(parentObj);
+        Class<?> clazz;
+        Class<?> collectionEntryType;
+
+        if (value == null) {
+            clazz = pd.getPropertyType();
+            if (clazz.isInterface() && (i + 1) == hierarchyLength && fieldMap.getDestHintContainer() != null) {
+                // before setting the property on the destination object we
+                // should check for a destination hint. need to know
+                // that we are at the end of the line determine the property
+                // type
+                clazz = fieldMap.getDestHintContainer().getHint();
+            }
 
-                    int collectionIndex = MappingUtils.getCollectionIndex(index);
+            Object o = null;
 
-                    if (clazz.isArray()) {
-                        o = MappingUtils.prepareIndexedCollection(clazz,
-                            null,
-                            DestBeanCreator.create(null, clazz.getComponentType()),
-                            collectionIndex);
-                    }
+            if (clazz.isArray() || Collection.class.isAssignableFrom(clazz)) {
+                // index value must be not null because hierarchy element is
+                // not at the end.
+                if (!hierarchyElement.isSimpleIndex()) {
+                    MappingUtils.throwMappingException(String.format(
+                        "Destination field '%s' should be indexed or should not contain filter expressions",
+                        hierarchyElement.getPropDescriptor().getName()));
+                }
 
-                    if (Collection.class.isAssignableFrom(clazz)) {
-                        Class<?> hintType = null;
+                int collectionIndex = hierarchyElement.getCollectionIndex();
 
-                        if (fieldMap.getDestDeepIndexHintContainer() != null) {
-                            hintType = fieldMap.getDestDeepIndexHintContainer().getHint(i);
-                        }
+                if (clazz.isArray()) {
+                    o = MappingUtils.prepareIndexedCollection(clazz,
+                        null,
+                        DestBeanCreator.create(null, clazz.getComponentType()),
+                        collectionIndex);
+                }
 
-                        collectionEntryType = ReflectionUtils.getComponentType(clazz, pd, hintType);
+                if (Collection.class.isAssignableFrom(clazz)) {
+                    Class<?> hintType = null;
 
-                        o = MappingUtils.prepareIndexedCollection(clazz,
-                            null,
-                            DestBeanCreator.create(null, collectionEntryType),
-                            collectionIndex);
-                    }
-                } else {
-                    // if user defined another type of property we should use it
-                    if (fieldMap.getDestDeepIndexHintContainer() != null && fieldMap.getDestDeepIndexHintContainer()
-                        .hasHintType(i)) {
-                        clazz = fieldMap.getDestDeepIndexHintContainer().getHint(i);
+                    if (fieldMap.getDestDeepIndexHintContainer() != null) {
+                        hintType = fieldMap.getDestDeepIndexHintContainer().getHint(i);
                     }
 
-                    try {
-                        o = DestBeanCreator.create(null, clazz);
-                    } catch (Exception e) {
-                        // lets see if they have a factory we can try as a last
-                        // ditch. If not...throw the exception:
-                        if (fieldMap.getClassMap().getDestClassBeanFactory() != null) {
-                            o = DestBeanCreator.create(null,
-                                new BeanCreationDirective(null,
-                                    fieldMap.getClassMap().getSrcClassToMap(),
-                                    clazz,
-                                    clazz,
-                                    fieldMap.getClassMap().getDestClassBeanFactory(),
-                                    fieldMap.getClassMap().getDestClassBeanFactoryId(),
-                                    null));
-                        } else {
-                            MappingUtils.throwMappingException(e);
-                        }
-                    }
+                    collectionEntryType = ReflectionUtils.getComponentType(clazz, pd, hintType);
+
+                    o = MappingUtils.prepareIndexedCollection(clazz,
+                        null,
+                        DestBeanCreator.create(null, collectionEntryType),
+                        collectionIndex);
+                }
+            } else {
+                // if user defined another type of property we should use it
+                if (fieldMap.getDestDeepIndexHintContainer() != null && fieldMap.getDestDeepIndexHintContainer()
+                    .hasHintType(i)) {
+                    clazz = fieldMap.getDestDeepIndexHintContainer().getHint(i);
                 }
 
-                ReflectionUtils.invoke(pd.getWriteMethod(), parentObj, new Object[] { o });
-                value = ReflectionUtils.invoke(pd.getReadMethod(), parentObj, null);
+                try {
+                    o = DestBeanCreator.create(null, clazz);
+                } catch (Exception e) {
+                    // lets see if they have a factory we can try as a last
+                    // ditch. If not...throw the exception:
+                    if (fieldMap.getClassMap().getDestClassBeanFactory() != null) {
+                        o = DestBeanCreator.create(null,
+                            fieldMap.getClassMap().getBeanFactories(),
+                            null,
+                            fieldMap.getClassMap().getSrcClassToMap(),
+                            clazz,
+                            clazz,
+                            fieldMap.getClassMap().getDestClassBeanFactory(),
+                            fieldMap.getClassMap().getDestClassBeanFactoryId(),
+                            null);
+                    } else {
+                        MappingUtils.throwMappingException(e);
+                    }
+                }
             }
 
-            // Check to see if collection needs to be resized
-            if (MappingUtils.isSupportedCollection(value.getClass())) {
-                int currentSize = CollectionUtils.getLengthOfCollection(value);
-                String index = hierarchyElement.getIndex();
-
-                // We cannot use another type of collection index for
-                // destination field path except simple one because, for
-                // example, xpath filtered index can return different elements
-                // during mapping process.
-                if (!MappingUtils.isSimpleCollectionIndex(index)) {
-                    MappingUtils.throwMappingException("Destination field path should not contain filter expressions");
-                }
+            // created instance is used as is without reading it back
+            hierarchyElement.writeValue(parentObj, o);
+            value = o;
+        }
 
-                int collectionIndex = MappingUtils.getCollectionIndex(index);
+        // Check to see if collection needs to be resized
+        if (MappingUtils.isSupportedCollection(value.getClass())) {
+            int currentSize = CollectionUtils.getLengthOfCollection(value);
 
-                // Check that collection should be resized if it has
-                // inappropriate length or element at the collectionIndex is
-                // null.
-                if (currentSize < collectionIndex + 1 || MappingUtils.getCollectionIndexedValue(value,
-                    collectionIndex) == null) {
-                    Class<?> hintType = null;
+            // We cannot use another type of collection index for
+            // destination field path except simple one because, for
+            // example, xpath filtered index can return different elements
+            // during mapping process.
+            if (!hierarchyElement.isSimpleIndex()) {
+                MappingUtils.throwMappingException("Destination field path should not contain filter expressions");
+            }
 
-                    if (fieldMap.getDestDeepIndexHintContainer() != null) {
-                        hintType = fieldMap.getDestDeepIndexHintContainer().getHint(i);
-                    }
+            int collectionIndex = hierarchyElement.getCollectionIndex();
 
-                    Class<?> componentType = ReflectionUtils.getComponentType(pd.getPropertyType(), pd, hintType);
-                    // Update collection with new one element.
-                    value = MappingUtils.prepareIndexedCollection(pd.getPropertyType(),
-                        value,
-                        DestBeanCreator.create(null, componentType),
-                        collectionIndex);
-                    // At previous step collection instance was changed so we
-                    // have to update appropriate property of parent object.
-                    ReflectionUtils.invoke(pd.getWriteMethod(), parentObj, new Object[] { value });
-                    // Re-read value object from parent object to avoid using
-                    // invalid instance of property value.
-                    value = ReflectionUtils.invoke(pd.getReadMethod(), parentObj, null);
+            // Check that collection should be resized if it has
+            // inappropriate length or element at the collectionIndex is
+            // null.
+            if (currentSize < collectionIndex + 1 || MappingUtils.getCollectionIndexedValue(value,
+                collectionIndex) == null) {
+                Class<?> hintType = null;
+
+                if (fieldMap.getDestDeepIndexHintContainer() != null) {
+                    hintType = fieldMap.getDestDeepIndexHintContainer().getHint(i);
                 }
+
+                Class<?> componentType = ReflectionUtils.getComponentType(pd.getPropertyType(), pd, hintType);
+                // Update collection with new one element.
+                value = MappingUtils.prepareIndexedCollection(pd.getPropertyType(),
+                    value,
+                    DestBeanCreator.create(null, componentType),
+                    collectionIndex);
+                // At previous step collection instance was changed so we
+                // have to update appropriate property of parent object.
+                hierarchyElement.writeValue(parentObj, value);
             }
+        }
 
-            if (value != null && (value.getClass().isArray() || Collection.class.isAssignableFrom(value.getClass()))) {
-                String index = hierarchyElement.getIndex();
-                if (!MappingUtils.isSimpleCollectionIndex(index)) {
-                    MappingUtils.throwMappingException("Destination field path should not contain filter expressions");
-                }
-                parentObj = MappingUtils.getCollectionIndexedValue(value, MappingUtils.getCollectionIndex(index));
-            } else {
-                parentObj = value;
+        if (value != null && (value.getClass().isArray() || Collection.class.isAssignableFrom(value.getClass()))) {
+            if (!hierarchyElement.isSimpleIndex()) {
+                MappingUtils.throwMappingException("Destination field path should not contain filter expressions");
             }
+            return MappingUtils.getCollectionIndexedValue(value, hierarchyElement.getCollectionIndex());
         }
-        // second, set the very last field in the deep hierarchy
-        PropertyDescriptor pd = hierarchy[hierarchy.length - 1].getPropDescriptor();
+
+        return value;
+    }
+
+    /**
+     * Writes value of deep destination field into already resolved parent
+     * object of the last element of deep field path.
+     * 
+     * @param path deep field path compiled by
+     *            {@link #getDeepFieldPath(Class, HintContainer)}
+     * @param parentObj parent object of the last path element
+     * @param destFieldValue value to write
+     */
+    public void writeDeepDestinationValue(DeepFieldPath path, Object parentObj, Object destFieldValue) {
+        DeepFieldPath.Element lastElement = path.getLastElement();
+        PropertyDescriptor pd = lastElement.getPropDescriptor();
 
         Class<?> type;
         // For one-way mappings there could be no read method
@@ -354,18 +378,17 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
 
         if (!type.isPrimitive() || destFieldValue != null) {
             if (!isIndexed) {
-                Method method = null;
                 if (!isCustomSetMethod()) {
-                    method = pd.getWriteMethod();
+                    lastElement.writeValue(parentObj, destFieldValue);
                 } else {
+                    Method method = null;
                     try {
                         method = ReflectionUtils.findAMethod(parentObj.getClass(), getSetMethodName());
                     } catch (NoSuchMethodException e) {
                         MappingUtils.throwMappingException(e);
                     }
+                    ReflectionUtils.invoke(method, parentObj, new Object[] { destFieldValue });
                 }
-
-                ReflectionUtils.invoke(method, parentObj, new Object[] { destFieldValue });
             } else {
                 writeIndexedValue(parentObj, destFieldValue);
             }
@@ -375,7 +398,7 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
     protected Object invokeReadMethod(Object target) {
         Object result = null;
         try {
-            result = ReflectionUtils.invoke(getReadMethod(), target, null);
+            result = getReadMethodInvoker().invoke(target);
         } catch (NoSuchMethodException e) {
             MappingUtils.throwMappingException(e);
         }
@@ -384,24 +407,77 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
 
     protected void invokeWriteMethod(Object target, Object value) {
         try {
-            ReflectionUtils.invoke(getWriteMethod(), target, new Object[] { value });
+            getWriteMethodInvoker().invoke(target, value);
         } catch (NoSuchMethodException e) {
             MappingUtils.throwMappingException(e);
         }
     }
 
-    private DeepHierarchyElement[] getDeepFieldHierarchy(Object obj, HintContainer deepIndexHintContainer) {
-        return ReflectionUtils.getDeepFieldHierarchy(obj.getClass(), fieldName, deepIndexHintContainer);
+    protected MethodInvoker getReadMethodInvoker() throws NoSuchMethodException {
+        Method method = getReadMethod();
+        MethodInvoker invoker = readMethodInvoker;
+        if (invoker == null || !invoker.getMethod().equals(method)) {
+            invoker = MethodInvoker.create(method);
+            readMethodInvoker = invoker;
+        }
+        return invoker;
+    }
+
+    protected MethodInvoker getWriteMethodInvoker() throws NoSuchMethodException {
+        Method method = getWriteMethod();
+        MethodInvoker invoker = writeMethodInvoker;
+        if (invoker == null || !invoker.getMethod().equals(method)) {
+            invoker = MethodInvoker.create(method);
+            writeMethodInvoker = invoker;
+        }
+        return invoker;
+    }
+
+    /**
+     * Gets deep field path compiled for runtime class of given object. Paths
+     * are cached per runtime class; cached path is reused only if it was
+     * compiled with the same hints.
+     */
+    private DeepFieldPath getDeepFieldPath(Object obj, HintContainer deepIndexHintContainer) {
+        return getDeepFieldPath(obj.getClass(), deepIndexHintContainer);
+    }
+
+    /**
+     * Gets deep field path of property compiled for given runtime class.
+     * 
+     * @param objClass runtime class of object which owns the property
+     * @return compiled path or <code>null</code> if property is not a deep
+     *         field
+     */
+    public DeepFieldPath getDeepFieldPath(Class<?> objClass) {
+        return deepMapping ? getDeepFieldPath(objClass, deepIndexHintContainer) : null;
+    }
+
+    /**
+     * Gets deep field path of property compiled for given runtime class and
+     * deep index hints.
+     * 
+     * @param objClass runtime class of object which owns the property
+     * @param deepIndexHintContainer deep index hints
+     * @return compiled path
+     */
+    public DeepFieldPath getDeepFieldPath(Class<?> objClass, HintContainer deepIndexHintContainer) {
+        DeepFieldPath path = deepFieldPaths.get(objClass);
+        if (path == null || path.getHintContainer() != deepIndexHintContainer) {
+            path = DeepFieldPath.compile(objClass, fieldName, deepIndexHintContainer);
+            deepFieldPaths.put(objClass, path);
+        }
+        return path;
     }
 
     private void writeIndexedValue(Object destObj, Object destFieldValue) {
-        if (!MappingUtils.isSimpleCollectionIndex(index)) {
+        if (!indexExpression.isCollectionIndex()) {
             MappingUtils.throwMappingException("Destinaiton field path should not contain filter expressions");
         }
 
-        if (MappingUtils.isSimpleCollectionIndex(index)) {
+        if (indexExpression.isCollectionIndex()) {
 
-            int collectionIndex = MappingUtils.getCollectionIndex(index);
+            int collectionIndex = indexExpression.getCollectionIndex();
             Object existingValue = invokeReadMethod(destObj);
 
             if (collectionIndex == -1) {
@@ -425,6 +501,10 @@ public abstract class GetterSetterPropertyDescriptor extends AbstractPropertyDes
         invokeWriteMethod(destObj, indexedValue);
     }
 
+    private static String getLastFieldName(String fieldName) {
+        return fieldName.substring(fieldName.lastIndexOf('.') + 1);
+    }
+
     private Class determinePropertyType() {
         Method readMethod = getBridgedReadMethod();
         Method writeMethod = getBridgedWriteMethod();
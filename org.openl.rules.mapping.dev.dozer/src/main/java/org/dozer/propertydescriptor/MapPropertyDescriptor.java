@@ -22,7 +22,6 @@ import org.dozer.MappingException;
 import org.dozer.fieldmap.FieldMap;
 import org.dozer.fieldmap.HintContainer;
 import org.dozer.util.MappingUtils;
-import org.dozer.util.ReflectionUtils;
 
 /**
  * Internal class used to read and write values for Map backed objects that use
@@ -138,7 +137,7 @@ public class MapPropertyDescriptor extends GetterSetterPropertyDescriptor {
             throw new MappingException("key must be specified");
         }
         try {
-            ReflectionUtils.invoke(getWriteMethod(), target, new Object[] { key, value });
+            getWriteMethodInvoker().invoke(target, key, value);
         } catch (NoSuchMethodException e) {
             MappingUtils.throwMappingException(e);
         }
@@ -151,7 +150,7 @@ public class MapPropertyDescriptor extends GetterSetterPropertyDescriptor {
         }
         Object result = null;
         try {
-            result = ReflectionUtils.invoke(getReadMethod(), target, new Object[] { key });
+            result = getReadMethodInvoker().invoke(target, key);
         } catch (NoSuchMethodException e) {
             MappingUtils.throwMappingException(e);
         }
@@ -26,7 +26,11 @@ import org.dozer.util.MappingUtils;
  * for internal use.
  * 
  * @author tierney.matt
+ * @deprecated mapping statistics are collected by {@link org.dozer.MapperSession};
+ *             this class is not used anymore and will be removed in the next
+ *             release.
  */
+@Deprecated
 public class StatisticsInterceptor implements InvocationHandler {
     private final Object delegate;
     private final StatisticsManager statsMgr;
@@ -39,7 +39,12 @@ public final class DozerConstants {
     public static final boolean DEFAULT_REQUIRED_FIELDS_POLICY = false;
     public static final int DEFAULT_CONVERTER_BY_DEST_TYPE_CACHE_MAX_SIZE = 10000;
     public static final int DEFAULT_SUPER_TYPE_CHECK_CACHE_MAX_SIZE = 10000;
+    public static final String CONCURRENT_CACHE_TYPE = "concurrent";
+    public static final String LRU_CACHE_TYPE = "lru";
+    public static final String DEFAULT_CACHE_TYPE = CONCURRENT_CACHE_TYPE;
     public static final RelationshipType DEFAULT_RELATIONSHIP_TYPE_POLICY = RelationshipType.CUMULATIVE;
+    public static final int DEFAULT_PARALLEL_COLLECTION_THRESHOLD = 1000;
+    public static final int DEFAULT_ASYNC_BATCH_SIZE = 100;
     public static final String DEFAULT_CONFIG_FILE = "dozer.properties";
     public static final String DEFAULT_MAPPING_FILE = "dozerBeanMapping.xml";
     public static final boolean DEFAULT_AUTOREGISTER_JMX_BEANS = true;
@@ -0,0 +1,83 @@
+package org.dozer.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads and writes field value using method handles bound to the field. Field
+ * is accessed via reflection if method handles cannot be created (e.g. if
+ * security manager is installed or field is final) or if value does not match
+ * to field type. Only intended for internal use.
+ */
+public final class FieldAccessor {
+
+    private static final Logger log = LoggerFactory.getLogger(FieldAccessor.class);
+
+    private final Field field;
+    private final Class<?> declaringClass;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    private FieldAccessor(Field field, MethodHandle getter, MethodHandle setter) {
+        this.field = field;
+        this.declaringClass = field.getDeclaringClass();
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    public static FieldAccessor create(Field field) {
+        MethodHandle getter = null;
+        MethodHandle setter = null;
+        if (MethodInvoker.isMethodHandlesAllowed() && !Modifier.isStatic(field.getModifiers())) {
+            try {
+                getter = MethodHandles.lookup().unreflectGetter(field).asType(MethodType.genericMethodType(1));
+                if (!Modifier.isFinal(field.getModifiers())) {
+                    setter = MethodHandles.lookup()
+                        .unreflectSetter(field)
+                        .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                }
+            } catch (IllegalAccessException e) {
+                log.debug("Method handles cannot be created for field {}", field, e);
+            } catch (RuntimeException e) {
+                log.debug("Method handles cannot be created for field {}", field, e);
+            }
+        }
+        return new FieldAccessor(field, getter, setter);
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public Object get(Object target) throws IllegalAccessException {
+        if (getter == null || !declaringClass.isInstance(target)) {
+            return field.get(target);
+        }
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (Throwable e) {
+            MappingUtils.throwMappingException(e);
+            return null;
+        }
+    }
+
+    public void set(Object target, Object value) throws IllegalAccessException {
+        if (setter == null || !declaringClass.isInstance(target) || !MethodInvoker
+            .isAssignable(field.getType(), value)) {
+            field.set(target, value);
+            return;
+        }
+        try {
+            setter.invokeExact(target, value);
+        } catch (Throwable e) {
+            MappingUtils.throwMappingException(e);
+        }
+    }
+
+}
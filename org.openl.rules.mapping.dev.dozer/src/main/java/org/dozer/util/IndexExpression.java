@@ -0,0 +1,266 @@
+package org.dozer.util;
+
+import java.beans.PropertyDescriptor;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.jxpath.CompiledExpression;
+import org.apache.commons.jxpath.JXPathContext;
+
+/**
+ * Index expression of field (e.g. "field[2]" or "field[@code='BI']") parsed
+ * once. The following kinds of index expressions are supported:
+ * <ul>
+ * <li>collection index - element of collection is obtained directly</li>
+ * <li>simple attribute filter (@attr = 'value', @attr &gt; 10, etc.) - first
+ * matching element of collection is found using native predicate</li>
+ * <li>any other xpath expression - value is evaluated using compiled JXPath
+ * expression</li>
+ * </ul>
+ * Native predicate falls back to JXPath if it cannot evaluate the filter with
+ * the same result (e.g. attribute value is <code>null</code> or has another
+ * type). Only intended for internal use.
+ */
+public final class IndexExpression {
+
+    private static final Pattern PREDICATE_PATTERN = Pattern
+        .compile("\\s*@?([A-Za-z_][A-Za-z0-9_]*)\\s*(=|!=|<=|>=|<|>)\\s*(?:'([^']*)'|\"([^\"]*)\"|(-?\\d+(?:\\.\\d+)?))\\s*");
+
+    private final String index;
+    private final boolean collectionIndex;
+    private final int collectionIndexValue;
+    private final CompiledExpression xpath;
+    private final Predicate predicate;
+
+    private IndexExpression(String index,
+            boolean collectionIndex,
+            int collectionIndexValue,
+            CompiledExpression xpath,
+            Predicate predicate) {
+        this.index = index;
+        this.collectionIndex = collectionIndex;
+        this.collectionIndexValue = collectionIndexValue;
+        this.xpath = xpath;
+        this.predicate = predicate;
+    }
+
+    /**
+     * Parses index expression of property.
+     * 
+     * @param propertyName name of indexed property
+     * @param index index expression (without brackets)
+     * @return parsed index expression
+     */
+    public static IndexExpression compile(String propertyName, String index) {
+        if (MappingUtils.isSimpleCollectionIndex(index)) {
+            return new IndexExpression(index, true, MappingUtils.getCollectionIndex(index), null, null);
+        }
+
+        CompiledExpression xpath = JXPathContext.compile(String.format("%s[%s]", propertyName, index));
+        return new IndexExpression(index, false, -1, xpath, index != null ? Predicate.parse(index) : null);
+    }
+
+    public String getIndex() {
+        return index;
+    }
+
+    /**
+     * Indicates that index expression is a plain collection index.
+     */
+    public boolean isCollectionIndex() {
+        return collectionIndex;
+    }
+
+    /**
+     * Gets parsed collection index. Value is valid only for plain collection
+     * indexes.
+     */
+    public int getCollectionIndex() {
+        return collectionIndexValue;
+    }
+
+    /**
+     * Indicates that {@link #getValue(Object, Object)} uses value of indexed
+     * property; otherwise property value is not used and can be omitted.
+     */
+    public boolean isPropertyValueRequired() {
+        return collectionIndex || predicate != null;
+    }
+
+    /**
+     * Evaluates index expression.
+     * 
+     * @param parent object which owns indexed property
+     * @param propertyValue value of indexed property; can be omitted if
+     *            {@link #isPropertyValueRequired()} returns <code>false</code>
+     * @return indexed value or <code>null</code> if value is not found
+     */
+    public Object getValue(Object parent, Object propertyValue) {
+        if (collectionIndex) {
+            return MappingUtils.getCollectionIndexedValue(propertyValue, collectionIndexValue);
+        }
+
+        if (predicate != null) {
+            if (propertyValue == null) {
+                return null;
+            }
+
+            if (propertyValue instanceof Object[]) {
+                for (Object element : (Object[]) propertyValue) {
+                    Boolean result = predicate.test(element);
+                    if (result == null) {
+                        return getXPathValue(parent);
+                    }
+                    if (result) {
+                        return element;
+                    }
+                }
+                return null;
+            }
+
+            if (propertyValue instanceof Collection) {
+                for (Object element : (Collection<?>) propertyValue) {
+                    Boolean result = predicate.test(element);
+                    if (result == null) {
+                        return getXPathValue(parent);
+                    }
+                    if (result) {
+                        return element;
+                    }
+                }
+                return null;
+            }
+
+            if (!(propertyValue instanceof Map) && !propertyValue.getClass().isArray()) {
+                Boolean result = predicate.test(propertyValue);
+                if (result != null) {
+                    return result ? propertyValue : null;
+                }
+            }
+        }
+
+        return getXPathValue(parent);
+    }
+
+    private Object getXPathValue(Object parent) {
+        JXPathContext context = JXPathContext.newContext(parent);
+        context.setLenient(true);
+        return xpath.getValue(context);
+    }
+
+    /**
+     * Native implementation of simple attribute filter.
+     */
+    private static final class Predicate {
+
+        private static final Object NO_ACCESSOR = new Object();
+
+        private final String attribute;
+        private final String operator;
+        private final String stringValue;
+        private final double numberValue;
+        private final ConcurrentMap<Class<?>, Object> accessors = new ConcurrentHashMap<Class<?>, Object>();
+
+        private Predicate(String attribute, String operator, String stringValue, double numberValue) {
+            this.attribute = attribute;
+            this.operator = operator;
+            this.stringValue = stringValue;
+            this.numberValue = numberValue;
+        }
+
+        static Predicate parse(String index) {
+            Matcher matcher = PREDICATE_PATTERN.matcher(index);
+            if (!matcher.matches()) {
+                return null;
+            }
+
+            // JXPath resolves "@name" as name of node instead of bean property
+            if ("name".equals(matcher.group(1)) && index.trim().startsWith("@")) {
+                return null;
+            }
+
+            String operator = matcher.group(2);
+            String number = matcher.group(5);
+            if (number != null) {
+                return new Predicate(matcher.group(1), operator, null, Double.parseDouble(number));
+            }
+
+            // string values are compared natively only for equality
+            if (!"=".equals(operator) && !"!=".equals(operator)) {
+                return null;
+            }
+
+            String value = matcher.group(3) != null ? matcher.group(3) : matcher.group(4);
+            return new Predicate(matcher.group(1), operator, value, Double.NaN);
+        }
+
+        /**
+         * Tests element.
+         * 
+         * @return result of test or <code>null</code> if element cannot be
+         *         tested natively
+         */
+        Boolean test(Object element) {
+            if (element == null) {
+                return null;
+            }
+
+            Object accessor = getAccessor(element.getClass());
+            if (accessor == NO_ACCESSOR) {
+                return null;
+            }
+
+            Object value = ((MethodInvoker) accessor).invoke(element);
+            if (stringValue != null) {
+                if (!(value instanceof String)) {
+                    return null;
+                }
+                boolean equal = stringValue.equals(value);
+                return "=".equals(operator) ? equal : !equal;
+            }
+
+            if (!(value instanceof Number)) {
+                return null;
+            }
+
+            return compare(((Number) value).doubleValue());
+        }
+
+        private boolean compare(double value) {
+            if ("=".equals(operator)) {
+                return value == numberValue;
+            } else if ("!=".equals(operator)) {
+                return value != numberValue;
+            } else if ("<".equals(operator)) {
+                return value < numberValue;
+            } else if ("<=".equals(operator)) {
+                return value <= numberValue;
+            } else if (">".equals(operator)) {
+                return value > numberValue;
+            }
+            return value >= numberValue;
+        }
+
+        private Object getAccessor(Class<?> elementClass) {
+            Object accessor = accessors.get(elementClass);
+            if (accessor == null) {
+                accessor = NO_ACCESSOR;
+                if (!MappingUtils.isSupportedMap(elementClass)) {
+                    PropertyDescriptor descriptor = ReflectionUtils.findPropertyDescriptor(elementClass,
+                        attribute,
+                        null);
+                    if (descriptor != null && descriptor.getReadMethod() != null) {
+                        accessor = MethodInvoker.create(descriptor.getReadMethod());
+                    }
+                }
+                accessors.putIfAbsent(elementClass, accessor);
+            }
+            return accessor;
+        }
+    }
+
+}
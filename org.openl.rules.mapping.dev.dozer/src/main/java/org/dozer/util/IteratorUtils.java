@@ -17,4 +17,22 @@ public final class IteratorUtils {
         return list;
     }
 
+    /**
+     * Wraps iterator into iterable which can be iterated only once. Values
+     * are read from iterator as they are requested.
+     */
+    public static <T> Iterable<T> asIterable(final Iterator<T> iterator) {
+        return new Iterable<T>() {
+            private boolean iterated;
+
+            public Iterator<T> iterator() {
+                if (iterated) {
+                    throw new IllegalStateException("Iterator can be traversed only once");
+                }
+                iterated = true;
+                return iterator;
+            }
+        };
+    }
+
 }
@@ -27,23 +27,19 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 import java.util.Set;
 
 import org.apache.commons.jxpath.JXPathContext;
 import org.apache.commons.lang.StringUtils;
 import org.dozer.CustomConverter;
 import org.dozer.MappingException;
-import org.dozer.cache.Cache;
-import org.dozer.cache.CacheKeyFactory;
 import org.dozer.classmap.ClassMap;
 import org.dozer.classmap.Configuration;
 import org.dozer.classmap.CopyByReferenceContainer;
 import org.dozer.classmap.DozerClass;
 import org.dozer.config.BeanContainer;
 import org.dozer.converters.CustomConverterContainer;
-import org.dozer.converters.CustomConverterDescription;
-import org.dozer.converters.InstanceCustomConverterDescription;
-import org.dozer.converters.JavaClassCustomConverterDescription;
 import org.dozer.fieldmap.DozerField;
 import org.dozer.fieldmap.FieldMap;
 import org.dozer.fieldmap.FieldMapUtils;
@@ -170,9 +166,7 @@ public final class MappingUtils {
             }
         }
         // if converter object instances were not injected, then create new
-        // instance
-        // of the converter for each conversion
-        // TODO : Should we really create it each time?
+        // instance of the converter; callers keep it for further conversions
         if (converterInstance == null) {
             converterInstance = (CustomConverter) ReflectionUtils.newInstance(customConverterClass);
         }
@@ -184,22 +178,20 @@ public final class MappingUtils {
      * Finds custom converter for specified classes. The implementation of this
      * method finds converters in the following order:<br/>
      * <ol>
-     * <li>looks up converter in cache;</li>
-     * <li>looks up converter in defined converters container</li>
+     * <li>looks up converter resolved by converters container for the same
+     * classes;</li>
      * <li>looks up converter in defined converters container</li>
      * <li>looks up converter among external converters</li>
      * 
      * If appropriate converter not found <code>null</code> will be returned.
      * 
-     * @param cache
      * @param externalConverters
      * @param customConverterContainer
      * @param srcClass
      * @param destClass
      * @return
      */
-    public static CustomConverter findCustomConverter(Cache cache,
-            List<CustomConverter> externalConverters,
+    public static CustomConverter findCustomConverter(List<CustomConverter> externalConverters,
             CustomConverterContainer customConverterContainer,
             Class<?> srcClass,
             Class<?> destClass) {
@@ -209,42 +201,17 @@ public final class MappingUtils {
             return null;
         }
 
-        // Check cache first
-        Object cacheKey = CacheKeyFactory.createKey(destClass, srcClass);
-        if (cache.containsKey(cacheKey)) {
-            return (CustomConverter) cache.get(cacheKey);
-        }
-
-        // check converters container
-        CustomConverter converterInstance = null;
-        CustomConverterDescription description = customConverterContainer.getCustomConverter(srcClass, destClass);
-        if (description != null) {
-            if (description instanceof InstanceCustomConverterDescription) {
-                converterInstance = ((InstanceCustomConverterDescription) description).getInstance();
-            } else {
-                Class<?> customConverterClass = ((JavaClassCustomConverterDescription) description).getType();
-                converterInstance = findCustomConverterByClass(customConverterClass, externalConverters);
-            }
-        }
-
-        // put appropriate info into cache
-        cache.put(cacheKey, converterInstance);
-
-        return converterInstance;
+        return customConverterContainer.findCustomConverter(srcClass, destClass, externalConverters);
     }
 
+    /**
+     * Finds custom converter defined by class map of field mapping.
+     */
     public static CustomConverter determineCustomConverter(FieldMap fieldMap,
-            Cache converterByDestTypeCache,
             List<CustomConverter> customConverterObjects,
-            CustomConverterContainer customConverterContainer,
             Class<?> srcClass,
             Class<?> destClass) {
 
-        // check that converters container is defined
-        if (customConverterContainer == null) {
-            return null;
-        }
-
         Class<?> destType = destClass;
 
         // This method is messy. Just trying to isolate the junk into this one
@@ -263,11 +230,7 @@ public final class MappingUtils {
             }
         }
 
-        return findCustomConverter(converterByDestTypeCache,
-            customConverterObjects,
-            customConverterContainer,
-            srcClass,
-            destType);
+        return fieldMap.findCustomConverter(srcClass, destType, customConverterObjects);
     }
 
     public static void reverseFields(FieldMap source, FieldMap reversed) {
@@ -345,6 +308,10 @@ public final class MappingUtils {
         destination.setAllowedExceptions(source.getAllowedExceptions());
         destination.setSrcClassCreateMethod(source.getDestClassCreateMethod());
         destination.setDestClassCreateMethod(source.getSrcClassCreateMethod());
+        destination.getSrcClass().setCreatorParameters(source.getDestClass().getCreatorParameters());
+        destination.getSrcClass().setBuilderMethod(source.getDestClass().getBuilderMethod());
+        destination.getDestClass().setCreatorParameters(source.getSrcClass().getCreatorParameters());
+        destination.getDestClass().setBuilderMethod(source.getSrcClass().getBuilderMethod());
         if (StringUtils.isNotEmpty(source.getMapId())) {
             destination.setMapId(source.getMapId());
         }
@@ -430,6 +397,11 @@ public final class MappingUtils {
             if (collectionIndex < x.length) {
                 return x[collectionIndex];
             }
+        } else if (collection instanceof RandomAccess && collection instanceof List) {
+            List<?> x = (List<?>) collection;
+            if (collectionIndex < x.size()) {
+                return x.get(collectionIndex);
+            }
         } else if (collection instanceof Collection) {
             Collection<?> x = (Collection<?>) collection;
             if (collectionIndex < x.size()) {
@@ -451,6 +423,11 @@ public final class MappingUtils {
      *         <code>false</code> - otherwise
      */
     public static boolean isSimpleCollectionIndex(String index) {
+        // fast check to avoid exceptions for xpath expressions
+        if (index == null || index.length() == 0 || !Character.isDigit(index.charAt(index.length() - 1))) {
+            return false;
+        }
+
         try {
             Integer.parseInt(index);
             return true;
@@ -0,0 +1,143 @@
+package org.dozer.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.apache.commons.lang.ClassUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Invokes accessor method using method handle bound to the method. Method is
+ * invoked via reflection if method handle cannot be created (e.g. if security
+ * manager is installed) or if arguments do not match to method signature, so
+ * errors are reported in the same way as {@link ReflectionUtils#invoke}. Only
+ * intended for internal use.
+ */
+public final class MethodInvoker {
+
+    private static final Logger log = LoggerFactory.getLogger(MethodInvoker.class);
+
+    private final Method method;
+    private final MethodHandle handle;
+    private final Class<?> declaringClass;
+    private final Class<?>[] parameterTypes;
+    private final boolean staticMethod;
+
+    private MethodInvoker(Method method, MethodHandle handle) {
+        this.method = method;
+        this.handle = handle;
+        this.declaringClass = method.getDeclaringClass();
+        this.parameterTypes = method.getParameterTypes();
+        this.staticMethod = Modifier.isStatic(method.getModifiers());
+    }
+
+    public static MethodInvoker create(Method method) {
+        return new MethodInvoker(method, createHandle(method));
+    }
+
+    private static MethodHandle createHandle(Method method) {
+        int parameterCount = method.getParameterTypes().length;
+        if (!isMethodHandlesAllowed() || parameterCount > 3) {
+            return null;
+        }
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                // target object is ignored by static methods
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(MethodType.genericMethodType(parameterCount + 1));
+        } catch (IllegalAccessException e) {
+            log.debug("Method handle cannot be created for method {}", method, e);
+        } catch (RuntimeException e) {
+            log.debug("Method handle cannot be created for method {}", method, e);
+        }
+        return null;
+    }
+
+    /**
+     * Indicates that accessors and constructors can be bound to method
+     * handles. Reflection is used if security manager is installed, because
+     * lookup of method handles is subject of additional security checks. This
+     * is the only place which checks security manager; field accessors and
+     * instantiators use this method too.
+     */
+    @SuppressWarnings("removal")
+    public static boolean isMethodHandlesAllowed() {
+        return System.getSecurityManager() == null;
+    }
+
+    static boolean isAssignable(Class<?> type, Object value) {
+        if (value == null) {
+            return !type.isPrimitive();
+        }
+        return ClassUtils.primitiveToWrapper(type).isInstance(value);
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public Object invoke(Object target) {
+        if (handle == null || parameterTypes.length != 0 || !isApplicable(target)) {
+            return ReflectionUtils.invoke(method, target, null);
+        }
+        try {
+            return (Object) handle.invokeExact(target);
+        } catch (Throwable e) {
+            return throwInvocationException(e);
+        }
+    }
+
+    public Object invoke(Object target, Object arg) {
+        if (handle == null || parameterTypes.length != 1 || !isApplicable(target) || !isAssignable(parameterTypes[0],
+            arg)) {
+            return ReflectionUtils.invoke(method, target, new Object[] { arg });
+        }
+        try {
+            return (Object) handle.invokeExact(target, arg);
+        } catch (Throwable e) {
+            return throwInvocationException(e);
+        }
+    }
+
+    public Object invoke(Object target, Object arg1, Object arg2) {
+        if (handle == null || parameterTypes.length != 2 || !isApplicable(target) || !isAssignable(parameterTypes[0],
+            arg1) || !isAssignable(parameterTypes[1], arg2)) {
+            return ReflectionUtils.invoke(method, target, new Object[] { arg1, arg2 });
+        }
+        try {
+            return (Object) handle.invokeExact(target, arg1, arg2);
+        } catch (Throwable e) {
+            return throwInvocationException(e);
+        }
+    }
+
+    public Object invoke(Object target, Object arg1, Object arg2, Object arg3) {
+        if (handle == null || parameterTypes.length != 3 || !isApplicable(target) || !isAssignable(parameterTypes[0],
+            arg1) || !isAssignable(parameterTypes[1], arg2) || !isAssignable(parameterTypes[2], arg3)) {
+            return ReflectionUtils.invoke(method, target, new Object[] { arg1, arg2, arg3 });
+        }
+        try {
+            return (Object) handle.invokeExact(target, arg1, arg2, arg3);
+        } catch (Throwable e) {
+            return throwInvocationException(e);
+        }
+    }
+
+    private boolean isApplicable(Object target) {
+        return staticMethod || declaringClass.isInstance(target);
+    }
+
+    private Object throwInvocationException(Throwable e) {
+        // wrap exception in the same way as reflective call does
+        MappingUtils.throwMappingException(new InvocationTargetException(e));
+        return null;
+    }
+
+}
@@ -11,7 +11,20 @@ import java.util.Map;
  */
 public class MappingParameters {
 
-    private Map<Object, Object> map = new HashMap<Object, Object>();
+    private Map<Object, Object> map;
+
+    public MappingParameters() {
+        map = new HashMap<Object, Object>();
+    }
+
+    /**
+     * Creates copy of parameters. Values are not copied.
+     * 
+     * @param params parameters to copy
+     */
+    public MappingParameters(MappingParameters params) {
+        map = new HashMap<Object, Object>(params.map);
+    }
 
     public void put(Object key, Object value) {
         map.put(key, value);
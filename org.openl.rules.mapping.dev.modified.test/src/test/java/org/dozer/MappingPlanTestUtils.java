@@ -0,0 +1,43 @@
+package org.dozer;
+
+import org.dozer.cache.CacheKeyFactory;
+import org.dozer.classmap.ClassMap;
+import org.dozer.classmap.FieldMapPlan;
+import org.dozer.classmap.MappingPlan;
+
+/**
+ * Gives tests access to mapping plans built by mapper.
+ */
+public final class MappingPlanTestUtils {
+
+    private MappingPlanTestUtils() {
+    }
+
+    /**
+     * Gets plan of field mapping which has been used to map objects of given
+     * classes without map id.
+     *
+     * @return field mapping plan or <code>null</code> if objects of given
+     *         classes have not been mapped yet
+     */
+    public static FieldMapPlan getFieldMapPlan(DozerBeanMapper mapper,
+            Class<?> srcClass,
+            Class<?> destClass,
+            String destFieldName) {
+        ClassMap classMap = mapper.getClassMappings().lookup(srcClass, destClass, null);
+        if (classMap == null) {
+            return null;
+        }
+        MappingPlan mappingPlan = classMap.getMappingPlan(CacheKeyFactory.createKey(destClass, srcClass, null));
+        if (mappingPlan == null) {
+            return null;
+        }
+        for (FieldMapPlan fieldMapPlan : mappingPlan.getFieldMapPlans()) {
+            if (destFieldName.equals(fieldMapPlan.getFieldMap().getDestFieldName())) {
+                return fieldMapPlan;
+            }
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,103 @@
+package org.openl.rules.mapping;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.dozer.DozerBeanMapper;
+import org.dozer.MappingContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openl.rules.mapping.data.Dest;
+import org.openl.rules.mapping.data.Source;
+
+public class AsyncMappingTest {
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testMapAsync() throws Exception {
+        DozerBeanMapper mapper = new DozerBeanMapper();
+
+        Dest dest = mapper.mapAsync(new Source("a", 1), Dest.class, null, executor).get();
+
+        assertEquals("a", dest.getStringField());
+        assertEquals(1, dest.getIntField());
+    }
+
+    @Test
+    public void testMapAsyncDoesNotModifyContext() throws Exception {
+        DozerBeanMapper mapper = new DozerBeanMapper();
+        final AtomicInteger modifications = new AtomicInteger();
+        MappingParameters params = new MappingParameters() {
+            @Override
+            public void put(Object key, Object value) {
+                modifications.incrementAndGet();
+                super.put(key, value);
+            }
+
+            @Override
+            public void remove(Object key) {
+                modifications.incrementAndGet();
+                super.remove(key);
+            }
+        };
+        params.put("key", "value");
+        modifications.set(0);
+        MappingContext context = new MappingContext();
+        context.setParams(params);
+
+        List<Future<Dest>> results = new ArrayList<Future<Dest>>();
+        for (int i = 0; i < 20; i++) {
+            results.add(mapper.mapAsync(new Source("value" + i, i), Dest.class, context, executor));
+        }
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals("value" + i, results.get(i).get().getStringField());
+        }
+        assertEquals(0, modifications.get());
+        assertTrue(params.contains("key"));
+    }
+
+    @Test
+    public void testMapAllAsync() throws Exception {
+        DozerBeanMapper mapper = new DozerBeanMapper();
+        mapper.setAsyncBatchSize(10);
+
+        List<Source> sources = new ArrayList<Source>();
+        for (int i = 0; i < 95; i++) {
+            sources.add(i == 50 ? null : new Source("value" + i, i));
+        }
+
+        List<Dest> result = mapper.mapAllAsync(sources, Dest.class, null, executor).get();
+
+        assertEquals(95, result.size());
+        for (int i = 0; i < 95; i++) {
+            if (i == 50) {
+                assertNull(result.get(i));
+            } else {
+                assertEquals("value" + i, result.get(i).getStringField());
+                assertEquals(i, result.get(i).getIntField());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+package org.openl.rules.mapping;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.dozer.DozerBeanMapper;
+import org.dozer.MappingResultHandler;
+import org.junit.Test;
+import org.openl.rules.mapping.data.Dest;
+import org.openl.rules.mapping.data.Source;
+
+public class BatchMappingTest {
+
+    @Test
+    public void testMapAll() {
+        DozerBeanMapper mapper = new DozerBeanMapper();
+
+        Source source = new Source("a", 1);
+        List<Dest> result = mapper.mapAll(Arrays.asList(source, null, new Source("b", 2), source), Dest.class);
+
+        assertEquals(4, result.size());
+        assertEquals("a", result.get(0).getStringField());
+        assertEquals(1, result.get(0).getIntField());
+        assertNull(result.get(1));
+        assertEquals("b", result.get(2).getStringField());
+        assertEquals(2, result.get(2).getIntField());
+        // each source object is mapped as a separate request
+        assertNotSame(result.get(0), result.get(3));
+        assertEquals("a", result.get(3).getStringField());
+    }
+
+    @Test
+    public void testMapAllWithHandler() {
+        DozerBeanMapper mapper = new DozerBeanMapper();
+
+        List<Source> sources = new ArrayList<Source>();
+        for (int i = 0; i < 100; i++) {
+            sources.add(new Source("value" + i, i));
+        }
+
+        final List<Dest> result = new ArrayList<Dest>();
+        mapper.mapAll(sources, Dest.class, null, new MappingResultHandler<Dest>() {
+            public void handle(Dest dest) {
+                result.add(dest);
+            }
+        });
+
+        assertEquals(100, result.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("value" + i, result.get(i).getStringField());
+            assertEquals(i, result.get(i).getIntField());
+        }
+    }
+
+    @Test
+    public void testMapLazily() {
+        DozerBeanMapper mapper = new DozerBeanMapper();
+
+        final int[] produced = new int[1];
+        Iterator<Source> sources = new Iterator<Source>() {
+            public boolean hasNext() {
+                return produced[0] < 1000;
+            }
+
+            public Source next() {
+                produced[0]++;
+                return produced[0] % 10 == 0 ? null : new Source("value" + produced[0], produced[0]);
+            }
+
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        Iterator<Dest> result = mapper.mapLazily(sources, Dest.class);
+        assertEquals(0, produced[0]);
+
+        for (int i = 1; i <= 1000; i++) {
+            Dest dest = result.next();
+            // source objects are requested one by one
+            assertEquals(i, produced[0]);
+            if (i % 10 == 0) {
+                assertNull(dest);
+            } else {
+                assertEquals("value" + i, dest.getStringField());
+                assertEquals(i, dest.getIntField());
+            }
+        }
+        assertFalse(result.hasNext());
+    }
+
+}
@@ -0,0 +1,85 @@
+package org.openl.rules.mapping;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dozer.classmap.ClassMap;
+import org.dozer.classmap.ClassMappings;
+import org.dozer.classmap.Configuration;
+import org.dozer.classmap.DozerClass;
+import org.junit.Test;
+import org.openl.rules.mapping.data.inheritance.BaseDest;
+import org.openl.rules.mapping.data.inheritance.BaseSource;
+import org.openl.rules.mapping.data.inheritance.ChildDest;
+import org.openl.rules.mapping.data.inheritance.ChildSource;
+
+public class ClassMappingsTest {
+
+    @Test
+    public void testAddedClassMapReplacesCachedMiss() {
+        ClassMappings classMappings = new ClassMappings();
+        assertNull(classMappings.find(BaseSource.class, BaseDest.class));
+        assertNull(classMappings.lookup(BaseSource.class, BaseDest.class, null));
+
+        ClassMap classMap = classMap(BaseSource.class, BaseDest.class, null);
+        classMappings.addDefault(BaseSource.class, BaseDest.class, classMap);
+
+        assertSame(classMap, classMappings.find(BaseSource.class, BaseDest.class));
+        assertSame(classMap, classMappings.lookup(BaseSource.class, BaseDest.class, null));
+    }
+
+    @Test
+    public void testAddedInterfaceClassMapReplacesCachedMiss() {
+        ClassMappings classMappings = new ClassMappings();
+        assertNull(classMappings.lookup(ArrayList.class, BaseDest.class, null));
+
+        ClassMap classMap = classMap(List.class, BaseDest.class, null);
+        classMappings.add(List.class, BaseDest.class, classMap);
+
+        assertSame(classMap, classMappings.lookup(ArrayList.class, BaseDest.class, null));
+    }
+
+    @Test
+    public void testLookupsOfOtherClassesAreKept() {
+        ClassMappings classMappings = new ClassMappings();
+        ClassMap childMap = classMap(ChildSource.class, ChildDest.class, "child");
+        classMappings.add(ChildSource.class, ChildDest.class, "child", childMap);
+        assertSame(childMap, classMappings.lookup(ChildSource.class, ChildDest.class, "child"));
+        assertNull(classMappings.lookup(ChildSource.class, ChildDest.class, null));
+
+        ClassMap baseMap = classMap(BaseSource.class, BaseDest.class, "base");
+        classMappings.add(BaseSource.class, BaseDest.class, "base", baseMap);
+
+        assertSame(childMap, classMappings.lookup(ChildSource.class, ChildDest.class, "child"));
+        assertNull(classMappings.lookup(ChildSource.class, ChildDest.class, null));
+        assertSame(baseMap, classMappings.lookup(BaseSource.class, BaseDest.class, "base"));
+    }
+
+    @Test
+    public void testAddAll() {
+        ClassMappings additional = new ClassMappings();
+        ClassMap baseMap = classMap(BaseSource.class, BaseDest.class, null);
+        ClassMap childMap = classMap(ChildSource.class, ChildDest.class, null);
+        additional.add(BaseSource.class, BaseDest.class, baseMap);
+        additional.add(ChildSource.class, ChildDest.class, childMap);
+
+        ClassMappings classMappings = new ClassMappings();
+        assertNull(classMappings.find(BaseSource.class, BaseDest.class));
+        classMappings.addAll(additional);
+
+        assertSame(baseMap, classMappings.find(BaseSource.class, BaseDest.class));
+        assertSame(childMap, classMappings.find(ChildSource.class, ChildDest.class));
+    }
+
+    private ClassMap classMap(Class<?> srcClass, Class<?> destClass, String mapId) {
+        ClassMap classMap = new ClassMap(new Configuration());
+        classMap.setSrcClass(new DozerClass(srcClass.getName(), srcClass, null, null, null, null, null, null, null, null));
+        classMap.setDestClass(new DozerClass(destClass.getName(), destClass, null, null, null, null, null, null, null, null));
+        classMap.setMapId(mapId);
+        return classMap;
+    }
+
+}
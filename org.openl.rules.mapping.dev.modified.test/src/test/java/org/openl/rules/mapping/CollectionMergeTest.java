@@ -0,0 +1,131 @@
+package org.openl.rules.mapping;
+
+import static org.dozer.loader.api.FieldsMappingOptions.collectionItemDiscriminatorId;
+import static org.dozer.loader.api.FieldsMappingOptions.relationshipType;
+import static org.dozer.loader.api.FieldsMappingOptions.removeOrphans;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.dozer.CollectionItemDiscriminator;
+import org.dozer.DozerBeanMapper;
+import org.dozer.classmap.RelationshipType;
+import org.dozer.loader.api.BeanMappingBuilder;
+import org.dozer.loader.api.FieldsMappingOption;
+import org.dozer.loader.api.TypeMappingOptions;
+import org.junit.Test;
+import org.openl.rules.mapping.data.merge.IteratorHolder;
+import org.openl.rules.mapping.data.merge.MergeHolder;
+import org.openl.rules.mapping.data.merge.MergeItem;
+import org.openl.rules.mapping.data.merge.MergeItemDiscriminator;
+
+public class CollectionMergeTest {
+
+    @Test
+    public void testNonCumulativeMerge() {
+        DozerBeanMapper mapper = createMapper(relationshipType(RelationshipType.NON_CUMULATIVE));
+
+        MergeItem first = new MergeItem(1, "a");
+        MergeItem second = new MergeItem(2, "b");
+        MergeHolder dest = createHolder(first, second);
+
+        mapper.map(createHolder(new MergeItem(2, "b2"), new MergeItem(3, "c")), dest);
+
+        assertEquals(3, dest.getItems().size());
+        assertSame(first, dest.getItems().get(0));
+        assertSame(second, dest.getItems().get(1));
+        assertEquals("b2", second.getValue());
+        assertEquals("c", dest.getItems().get(2).getValue());
+    }
+
+    @Test
+    public void testNonCumulativeMergeRemoveOrphans() {
+        DozerBeanMapper mapper = createMapper(relationshipType(RelationshipType.NON_CUMULATIVE), removeOrphans());
+
+        MergeItem second = new MergeItem(2, "b");
+        MergeHolder dest = createHolder(new MergeItem(1, "a"), second);
+
+        mapper.map(createHolder(new MergeItem(3, "c"), new MergeItem(2, "b2")), dest);
+
+        assertEquals(2, dest.getItems().size());
+        assertSame(second, dest.getItems().get(0));
+        assertEquals("b2", second.getValue());
+        assertEquals(Integer.valueOf(3), dest.getItems().get(1).getId());
+    }
+
+    @Test
+    public void testKeyedDiscriminatorMerge() {
+        DozerBeanMapper mapper = createMapper(collectionItemDiscriminatorId("byId"));
+        mapper.setCollectionItemDiscriminatorsWithId(
+            Collections.<String, CollectionItemDiscriminator> singletonMap("byId", new MergeItemDiscriminator()));
+
+        List<MergeItem> existing = new ArrayList<MergeItem>();
+        for (int i = 0; i < 1000; i++) {
+            existing.add(new MergeItem(i, "old"));
+        }
+        MergeHolder dest = new MergeHolder();
+        dest.setItems(existing);
+
+        List<MergeItem> items = new ArrayList<MergeItem>();
+        for (int i = 500; i < 1500; i++) {
+            items.add(new MergeItem(i, "new"));
+        }
+        MergeHolder source = new MergeHolder();
+        source.setItems(items);
+
+        MergeItem updated = existing.get(700);
+        mapper.map(source, dest);
+
+        assertEquals(1500, dest.getItems().size());
+        assertEquals("old", dest.getItems().get(0).getValue());
+        assertSame(updated, dest.getItems().get(700));
+        assertEquals("new", updated.getValue());
+        assertEquals("new", dest.getItems().get(1499).getValue());
+    }
+
+    @Test
+    public void testIteratorSource() {
+        DozerBeanMapper mapper = new DozerBeanMapper();
+        mapper.addMapping(new BeanMappingBuilder() {
+            protected void configure() {
+                mapping(IteratorHolder.class, MergeHolder.class, TypeMappingOptions.wildcard(false),
+                    TypeMappingOptions.oneWay()).fields("items",
+                        "items",
+                        relationshipType(RelationshipType.NON_CUMULATIVE));
+            }
+        });
+
+        MergeItem first = new MergeItem(1, "a");
+        MergeHolder dest = createHolder(first);
+
+        mapper.map(new IteratorHolder(new MergeItem(1, "a2"), new MergeItem(2, "b")), dest);
+
+        assertEquals(2, dest.getItems().size());
+        assertSame(first, dest.getItems().get(0));
+        assertEquals("a2", first.getValue());
+        assertEquals(Integer.valueOf(2), dest.getItems().get(1).getId());
+        assertEquals("b", dest.getItems().get(1).getValue());
+    }
+
+    private DozerBeanMapper createMapper(final FieldsMappingOption... options) {
+        DozerBeanMapper mapper = new DozerBeanMapper();
+        mapper.addMapping(new BeanMappingBuilder() {
+            protected void configure() {
+                mapping(MergeHolder.class, MergeHolder.class, TypeMappingOptions.wildcard(false))
+                    .fields("items", "items", options);
+            }
+        });
+        return mapper;
+    }
+
+    private MergeHolder createHolder(MergeItem... items) {
+        MergeHolder holder = new MergeHolder();
+        holder.setItems(new ArrayList<MergeItem>(Arrays.asList(items)));
+        return holder;
+    }
+
+}
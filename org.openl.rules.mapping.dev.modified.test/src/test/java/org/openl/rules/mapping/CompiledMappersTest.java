@@ -0,0 +1,114 @@
+package org.openl.rules.mapping;
+
+import static org.dozer.loader.api.FieldsMappingOptions.customConverter;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.dozer.DozerBeanMapper;
+import org.dozer.MappingPlanTestUtils;
+import org.dozer.classmap.FieldMapPlan;
+import org.dozer.loader.api.BeanMappingBuilder;
+import org.junit.Before;
+import org.junit.Test;
+import org.openl.rules.mapping.data.Dest;
+import org.openl.rules.mapping.data.Source;
+import org.openl.rules.mapping.data.converter.CountingCustomConverter;
+
+public class CompiledMappersTest {
+
+    private DozerBeanMapper mapper;
+
+    @Before
+    public void setUp() {
+        mapper = new DozerBeanMapper();
+        mapper.setCompiledMappersEnabled(true);
+    }
+
+    @Test
+    public void test1() {
+        Source source = new Source("some string", 10);
+        Dest dest = mapper.map(source, Dest.class);
+
+        assertEquals("some string", dest.getStringField());
+        assertEquals(10, dest.getIntField());
+        assertCompiled("stringField");
+        assertCompiled("intField");
+    }
+
+    @Test
+    public void test2() {
+
+        BeanMappingBuilder builder = new BeanMappingBuilder() {
+            protected void configure() {
+                mapping(Source.class, Dest.class, wildcard(false)).fields(field("stringField"), field("intField"))
+                    .fields(field("intField"), field("stringField"));
+            }
+        };
+
+        mapper.addMapping(builder);
+
+        Source source = new Source(" 15", 10);
+        Dest dest = mapper.map(source, Dest.class);
+
+        assertEquals("10", dest.getStringField());
+        assertEquals(15, dest.getIntField());
+        assertCompiled("stringField");
+        assertCompiled("intField");
+    }
+
+    @Test
+    public void test3() {
+
+        BeanMappingBuilder builder = new BeanMappingBuilder() {
+            protected void configure() {
+                mapping(Source.class, Dest.class, wildcard(false)).fields(field("stringField"),
+                    field("stringField").required(true).defaultValue("default value"));
+            }
+        };
+
+        mapper.addMapping(builder);
+
+        Dest dest1 = mapper.map(new Source(null, 10), Dest.class);
+        Dest dest2 = mapper.map(new Source("some string", 10), Dest.class);
+
+        assertEquals("default value", dest1.getStringField());
+        assertEquals(0, dest1.getIntField());
+        assertEquals("some string", dest2.getStringField());
+        assertCompiled("stringField");
+    }
+
+    @Test
+    public void test4() {
+
+        BeanMappingBuilder builder = new BeanMappingBuilder() {
+            protected void configure() {
+                mapping(Source.class, Dest.class, wildcard(false))
+                    .fields(field("stringField"), field("stringField"), customConverter(CountingCustomConverter.class))
+                    .fields(field("intField"), field("intField"));
+            }
+        };
+
+        mapper.addMapping(builder);
+
+        Dest dest = mapper.map(new Source("some string", 10), Dest.class);
+
+        assertEquals("some string!", dest.getStringField());
+        assertEquals(10, dest.getIntField());
+        // field mapping with custom converter is processed by generic path
+        assertNull(getFieldMapPlan("stringField").getCompiledFieldMapping());
+        assertCompiled("intField");
+    }
+
+    private void assertCompiled(String destFieldName) {
+        assertNotNull(getFieldMapPlan(destFieldName).getCompiledFieldMapping());
+    }
+
+    private FieldMapPlan getFieldMapPlan(String destFieldName) {
+        FieldMapPlan fieldMapPlan = MappingPlanTestUtils
+            .getFieldMapPlan(mapper, Source.class, Dest.class, destFieldName);
+        assertNotNull(fieldMapPlan);
+        return fieldMapPlan;
+    }
+
+}
@@ -0,0 +1,71 @@
+package org.openl.rules.mapping;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.dozer.cache.ConcurrentDozerCache;
+import org.junit.Test;
+
+public class ConcurrentCacheTest {
+
+    @Test
+    public void test1() {
+        ConcurrentDozerCache<String, String> cache = new ConcurrentDozerCache<String, String>("test", 2);
+        cache.put("a", "value a");
+        cache.put("b", "value b");
+        assertEquals("value a", cache.get("a"));
+
+        // "b" is evicted because "a" was read
+        cache.put("c", "value c");
+
+        assertEquals(2, cache.getSize());
+        assertTrue(cache.containsKey("a"));
+        assertFalse(cache.containsKey("b"));
+        assertNull(cache.get("b"));
+        assertEquals("value c", cache.get("c"));
+    }
+
+    @Test
+    public void test2() throws Exception {
+        final ConcurrentDozerCache<Integer, Integer> cache = new ConcurrentDozerCache<Integer, Integer>("test", 100);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> mismatches = new ArrayList<Future<Integer>>();
+            for (int i = 0; i < 8; i++) {
+                final int offset = i * 1000;
+                mismatches.add(executor.submit(new Callable<Integer>() {
+                    public Integer call() {
+                        int count = 0;
+                        for (int j = 0; j < 1000; j++) {
+                            Integer key = offset + j;
+                            cache.put(key, key);
+                            Integer value = cache.get(key);
+                            if (value != null && !value.equals(key)) {
+                                count++;
+                            }
+                        }
+                        return count;
+                    }
+                }));
+            }
+            for (Future<Integer> future : mismatches) {
+                assertEquals(Integer.valueOf(0), future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(cache.getSize() <= 100);
+    }
+
+}
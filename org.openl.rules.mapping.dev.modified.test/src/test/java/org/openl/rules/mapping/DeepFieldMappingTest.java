@@ -0,0 +1,131 @@
+package org.openl.rules.mapping;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dozer.DozerBeanMapper;
+import org.dozer.loader.api.BeanMappingBuilder;
+import org.junit.Before;
+import org.junit.Test;
+import org.openl.rules.mapping.data.deep.FlatDest;
+import org.openl.rules.mapping.data.deep.Inner;
+import org.openl.rules.mapping.data.deep.Outer;
+
+public class DeepFieldMappingTest {
+
+    private DozerBeanMapper mapper;
+
+    @Before
+    public void setUp() {
+        mapper = new DozerBeanMapper();
+
+        BeanMappingBuilder builder = new BeanMappingBuilder() {
+            protected void configure() {
+                mapping(Outer.class, FlatDest.class, wildcard(false)).fields("inner.value", "value")
+                    .fields("items[1].value", "first")
+                    .fields("inner.name", "name");
+            }
+        };
+
+        mapper.addMapping(builder);
+    }
+
+    @Test
+    public void testRead() {
+        for (int i = 0; i < 2; i++) {
+            Inner inner = new Inner();
+            inner.setValue("value" + i);
+            inner.setName("name" + i);
+            Inner item = new Inner();
+            item.setValue("item" + i);
+            List<Inner> items = new ArrayList<Inner>();
+            items.add(item);
+
+            Outer source = new Outer();
+            source.setInner(inner);
+            source.setItems(items);
+
+            FlatDest dest = mapper.map(source, FlatDest.class);
+
+            assertEquals("value" + i, dest.getValue());
+            assertEquals("item" + i, dest.getFirst());
+            assertEquals("name" + i, dest.getName());
+        }
+    }
+
+    @Test
+    public void testReadFilteredItem() {
+        DozerBeanMapper filterMapper = new DozerBeanMapper();
+        filterMapper.addMapping(new BeanMappingBuilder() {
+            protected void configure() {
+                mapping(Outer.class, FlatDest.class, wildcard(false)).fields("items[@value='b'].name", "name")
+                    .fields("items[@value='c'].name", "first");
+            }
+        });
+
+        List<Inner> items = new ArrayList<Inner>();
+        items.add(new Inner());
+        for (String value : new String[] { "a", "b" }) {
+            Inner item = new Inner();
+            item.setValue(value);
+            item.setName("name-" + value);
+            items.add(item);
+        }
+
+        Outer source = new Outer();
+        source.setItems(items);
+
+        FlatDest dest = filterMapper.map(source, FlatDest.class);
+
+        assertEquals("name-b", dest.getName());
+        assertNull(dest.getFirst());
+    }
+
+    @Test
+    public void testReadNullPath() {
+        FlatDest dest = mapper.map(new Outer(), FlatDest.class);
+
+        assertNull(dest.getValue());
+        assertNull(dest.getFirst());
+        assertNull(dest.getName());
+    }
+
+    @Test
+    public void testWrite() {
+        for (int i = 0; i < 2; i++) {
+            FlatDest source = new FlatDest();
+            source.setValue("value" + i);
+            source.setFirst("item" + i);
+            source.setName("name" + i);
+
+            Outer dest = mapper.map(source, Outer.class);
+
+            assertEquals("value" + i, dest.getInner().getValue());
+            assertEquals("name" + i, dest.getInner().getName());
+            assertEquals(1, dest.getItems().size());
+            assertEquals("item" + i, dest.getItems().get(0).getValue());
+        }
+    }
+
+    @Test
+    public void testWriteExisting() {
+        Inner inner = new Inner();
+        Outer dest = new Outer();
+        dest.setInner(inner);
+
+        FlatDest source = new FlatDest();
+        source.setValue("value");
+        source.setName("name");
+
+        mapper.map(source, dest);
+
+        assertSame(inner, dest.getInner());
+        assertEquals("value", inner.getValue());
+        assertEquals("name", inner.getName());
+    }
+
+}
@@ -1,21 +1,46 @@
 package org.openl.rules.mapping;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang.StringUtils;
+import org.dozer.BeanFactory;
+import org.dozer.ContextAwareCustomConverter;
 import org.dozer.CustomConverter;
 import org.dozer.DozerBeanMapper;
 import org.dozer.FieldMappingCondition;
+import org.dozer.MappingContext;
 import org.dozer.MappingException;
 import org.dozer.loader.api.BeanMappingBuilder;
+import org.dozer.loader.api.TypeMappingOptions;
 import org.junit.Before;
 import org.junit.Test;
 import org.openl.rules.mapping.data.Dest;
 import org.openl.rules.mapping.data.Source;
+import org.openl.rules.mapping.data.condition.CountingMappingCondition;
+import org.openl.rules.mapping.data.construction.ImmutableDest;
+import org.openl.rules.mapping.data.construction.PrivateConstructorDest;
+import org.openl.rules.mapping.data.date.DateDest;
+import org.openl.rules.mapping.data.date.DateSource;
+import org.openl.rules.mapping.data.converter.CountingCustomConverter;
+import org.openl.rules.mapping.data.converter.PrefixCustomConverter;
 import org.openl.rules.mapping.data.converter.ToStringCustomConverter;
+import org.openl.rules.mapping.data.factory.MarkingBeanFactory;
+import org.openl.rules.mapping.data.inheritance.BaseDest;
+import org.openl.rules.mapping.data.inheritance.BaseSource;
 
 public class DozerApiTest {
 
@@ -824,4 +849,299 @@ public class DozerApiTest {
         assertEquals(10, dest.getIntField());
     }
 
+    @Test
+    public void testContextAwareConverter() {
+        final MappingContext.Slot<String> suffix = new MappingContext.Slot<String>("suffix");
+
+        BeanMappingBuilder builder = new BeanMappingBuilder() {
+            protected void configure() {
+                mapping(Source.class, Dest.class, wildcard(false)).fields(field("stringField"),
+                    field("stringField"),
+                    customConverterId("contextConverter"));
+            }
+        };
+
+        Map<String, CustomConverter> customConvertersWithId = new HashMap<String, CustomConverter>();
+        customConvertersWithId.put("contextConverter", new ContextAwareCustomConverter() {
+
+            public Object convert(MappingContext context, Object existingDestinationFieldValue,
+                Object sourceFieldValue, Class<?> destinationClass, Class<?> sourceClass) {
+                Object parent = context.getParentObjects().getSourceParents().get(0);
+                return String.valueOf(sourceFieldValue) + ((Source) parent).getIntField() + context.get(suffix);
+            }
+
+            public Object convert(Object existingDestinationFieldValue, Object sourceFieldValue,
+                Class<?> destinationClass, Class<?> sourceClass) {
+                throw new IllegalStateException("Mapping context is expected");
+            }
+
+        });
+
+        mapper.setCustomConvertersWithId(customConvertersWithId);
+        mapper.addMapping(builder);
+
+        MappingContext context = new MappingContext();
+        context.set(suffix, "!");
+        Dest dest = mapper.map(new Source("value", 10), Dest.class, context);
+
+        assertEquals("value10!", dest.getStringField());
+        assertNull(context.getParentObjects());
+    }
+
+    @Test
+    public void testConditionClassIsInstantiatedOnce() {
+        CountingMappingCondition.INSTANCES.set(0);
+
+        BeanMappingBuilder builder = new BeanMappingBuilder() {
+            protected void configure() {
+                mapping(Source.class, Dest.class, wildcard(false), oneWay()).fields(field("stringField"),
+                    field("stringField"),
+                    condition(CountingMappingCondition.class.getName()));
+            }
+        };
+
+        mapper.addMapping(builder);
+
+        for (int i = 0; i < 3; i++) {
+            Dest dest = mapper.map(new Source("value" + i, i), Dest.class);
+            assertEquals("value" + i, dest.getStringField());
+        }
+
+        assertEquals(1, CountingMappingCondition.INSTANCES.get());
+    }
+
+    @Test
+    public void testUnknownConditionIdFailsOnInitialization() {
+
+        BeanMappingBuilder builder = new BeanMappingBuilder() {
+            protected void configure() {
+                mapping(Source.class, Dest.class, wildcard(false)).fields(field("stringField"),
+                    field("stringField"),
+                    conditionId("unknown-condition-id"));
+            }
+        };
+
+        mapper.addMapping(builder);
+
+        try {
+            // the broken field mapping is not used by requested mapping
+            mapper.map(new Dest("value", 10), Dest.class);
+            fail("Mapping exception is expected");
+        } catch (MappingException e) {
+            assertTrue(e.getMessage().contains("unknown-condition-id"));
+        }
+    }
+
+    @Test
+    public void testDefaultConverterClassIsInstantiatedOnce() {
+        CountingCustomConverter.INSTANCES.set(0);
+
+        BeanMappingBuilder builder = new BeanMappingBuilder() {
+            protected void configure() {
+                config(defaultCustomConverter(CountingCustomConverter.class, String.class, String.class));
+                mapping(Source.class, Dest.class, wildcard(false), oneWay()).fields(field("stringField"),
+                    field("stringField"));
+            }
+        };
+
+        mapper.addMapping(builder);
+
+        for (int i = 0; i < 3; i++) {
+            Dest dest = mapper.map(new Source("value" + i, i), Dest.class);
+            assertEquals("value" + i + "!", dest.getStringField());
+        }
+
+        assertEquals(1, CountingCustomConverter.INSTANCES.get());
+    }
+
+    @Test
+    public void testPrivateConstructorIsInvokedForEachDestination() {
+        PrivateConstructorDest.INSTANCES.set(0);
+
+        BeanMappingBuilder builder = new BeanMappingBuilder() {
+            protected void configure() {
+                mapping(Source.class, PrivateConstructorDest.class, wildcard(false), oneWay())
+                    .fields(field("stringField"), field("stringField"));
+            }
+        };
+
+        mapper.addMapping(builder);
+
+        for (int i = 0; i < 3; i++) {
+            PrivateConstructorDest dest = mapper.map(new Source("value" + i, i), PrivateConstructorDest.class);
+            assertEquals("value" + i, dest.getStringField());
+        }
+
+        assertEquals(3, PrivateConstructorDest.INSTANCES.get());
+    }
+
+    @Test
+    public void testBeanFactoriesAreNotSharedBetweenMappers() {
+        BeanMappingBuilder builder = new BeanMappingBuilder() {
+            protected void configure() {
+                mapping(Source.class, Dest.class, wildcard(false), oneWay(),
+                    TypeMappingOptions.beanFactory("markingFactory"))
+                    .fields(field("stringField"), field("stringField"));
+            }
+        };
+
+        DozerBeanMapper first = new DozerBeanMapper();
+        first.setFactories(Collections.<String, BeanFactory> singletonMap("markingFactory",
+            new MarkingBeanFactory(1)));
+        first.addMapping(builder);
+
+        DozerBeanMapper second = new DozerBeanMapper();
+        second.setFactories(Collections.<String, BeanFactory> singletonMap("markingFactory",
+            new MarkingBeanFactory(2)));
+        second.addMapping(builder);
+
+        Dest firstDest = first.map(new Source("value", 10), Dest.class);
+        Dest secondDest = second.map(new Source("value", 10), Dest.class);
+
+        assertEquals("value", firstDest.getStringField());
+        assertEquals(1, firstDest.getIntField());
+        assertEquals("value", secondDest.getStringField());
+        assertEquals(2, secondDest.getIntField());
+    }
+
+    @Test
+    public void testDestinationIsCreatedByConstructorFromMappedValues() {
+        BeanMappingBuilder builder = new BeanMappingBuilder() {
+            protected void configure() {
+                mapping(type(Source.class),
+                    type(ImmutableDest.class).creatorParameters("stringField", "intField"),
+                    wildcard(false),
+                    oneWay()).fields(field("stringField"), field("stringField"))
+                        .fields(field("intField"), field("intField"));
+            }
+        };
+
+        mapper.addMapping(builder);
+
+        ImmutableDest dest = mapper.map(new Source("value", 10), ImmutableDest.class);
+
+        assertEquals("value", dest.getStringField());
+        assertEquals(10, dest.getIntField());
+    }
+
+    @Test
+    public void testDestinationIsCreatedByBuilderFromMappedValues() {
+        BeanMappingBuilder builder = new BeanMappingBuilder() {
+            protected void configure() {
+                mapping(type(Source.class),
+                    type(ImmutableDest.class).creatorParameters("stringField", "intField").builderMethod("builder"),
+                    wildcard(false),
+                    oneWay()).fields(field("stringField"), field("stringField"));
+            }
+        };
+
+        mapper.addMapping(builder);
+
+        ImmutableDest dest = mapper.map(new Source("value", 10), ImmutableDest.class);
+
+        assertEquals("value", dest.getStringField());
+        // builder default is kept for unmapped parameter
+        assertEquals(-1, dest.getIntField());
+    }
+
+    @Test
+    public void testDateFormatIsAppliedInConcurrentMappings() throws Exception {
+        BeanMappingBuilder builder = new BeanMappingBuilder() {
+            protected void configure() {
+                mapping(DateSource.class, DateDest.class, wildcard(false), oneWay(), dateFormat("yyyy-MM-dd"))
+                    .fields(field("dateField"), field("dateField"))
+                    .fields(field("dateField"), field("timestampField"));
+            }
+        };
+
+        mapper.addMapping(builder);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<DateDest>> results = new ArrayList<Future<DateDest>>();
+            for (int i = 1; i <= 28; i++) {
+                final String date = String.format("2020-02-%02d", i);
+                results.add(executor.submit(new Callable<DateDest>() {
+                    public DateDest call() {
+                        return mapper.map(new DateSource(date), DateDest.class);
+                    }
+                }));
+            }
+
+            SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
+            for (int i = 0; i < results.size(); i++) {
+                DateDest dest = results.get(i).get();
+                assertEquals(String.format("2020-02-%02d", i + 1), format.format(dest.getDateField()));
+                assertEquals(dest.getDateField().getTime(), dest.getTimestampField().getTime());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPrimitiveValuesAreConvertedBetweenFieldTypes() {
+        BeanMappingBuilder builder = new BeanMappingBuilder() {
+            protected void configure() {
+                mapping(Source.class, Dest.class, wildcard(false), oneWay())
+                    .fields(field("stringField"), field("intField"))
+                    .fields(field("intField"), field("stringField"));
+            }
+        };
+
+        mapper.addMapping(builder);
+
+        Dest dest = mapper.map(new Source(" 42 ", 7), Dest.class);
+
+        assertEquals(42, dest.getIntField());
+        assertEquals("7", dest.getStringField());
+
+        try {
+            mapper.map(new Source("not a number", 7), Dest.class);
+            fail();
+        } catch (MappingException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testConfigurableConvertersAreNotSharedBetweenThreads() throws Exception {
+        BeanMappingBuilder builder = new BeanMappingBuilder() {
+            protected void configure() {
+                mapping(BaseSource.class, BaseDest.class, wildcard(false), oneWay())
+                    .fields(field("id"), field("id"), customConverter(PrefixCustomConverter.class, "id:"))
+                    .fields(field("name"), field("name"), customConverter(PrefixCustomConverter.class, "name:"));
+            }
+        };
+
+        mapper.addMapping(builder);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> mismatches = new ArrayList<Future<Integer>>();
+            for (int i = 0; i < 8; i++) {
+                mismatches.add(executor.submit(new Callable<Integer>() {
+                    public Integer call() {
+                        int count = 0;
+                        for (int j = 0; j < 500; j++) {
+                            BaseSource source = new BaseSource();
+                            source.setId(String.valueOf(j));
+                            source.setName("n" + j);
+                            BaseDest dest = mapper.map(source, BaseDest.class);
+                            if (!("id:" + j).equals(dest.getId()) || !("name:n" + j).equals(dest.getName())) {
+                                count++;
+                            }
+                        }
+                        return count;
+                    }
+                }));
+            }
+            for (Future<Integer> future : mismatches) {
+                assertEquals(Integer.valueOf(0), future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
 }
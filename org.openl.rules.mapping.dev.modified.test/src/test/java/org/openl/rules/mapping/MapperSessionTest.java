@@ -0,0 +1,88 @@
+package org.openl.rules.mapping;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.dozer.DozerBeanMapper;
+import org.dozer.MapperSession;
+import org.dozer.MappingException;
+import org.junit.Test;
+import org.openl.rules.mapping.data.Dest;
+import org.openl.rules.mapping.data.Source;
+
+public class MapperSessionTest {
+
+    @Test
+    public void test1() {
+        DozerBeanMapper mapper = new DozerBeanMapper();
+        MapperSession session = mapper.newSession();
+
+        Source source = new Source("some string", 10);
+        Dest dest1 = session.map(source, Dest.class);
+        Dest dest2 = session.map(source, Dest.class);
+
+        assertNotSame(dest1, dest2);
+        assertEquals("some string", dest2.getStringField());
+        assertEquals(10, dest2.getIntField());
+    }
+
+    @Test
+    public void test2() throws InterruptedException {
+        DozerBeanMapper mapper = new DozerBeanMapper();
+        final MapperSession session = mapper.newSession();
+        final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    session.map(new Source("some string", 10), Dest.class);
+                } catch (Throwable e) {
+                    error.set(e);
+                }
+            }
+        };
+        thread.start();
+        thread.join();
+
+        assertTrue(error.get() instanceof MappingException);
+    }
+
+    @Test
+    public void test3() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            WeakReference<DozerBeanMapper> mapperRef = mapAndDiscardMapper(executor);
+
+            // pooled thread is still alive, but it must not keep mapper
+            // reachable
+            for (int i = 0; i < 50 && mapperRef.get() != null; i++) {
+                System.gc();
+                Thread.sleep(10);
+            }
+            assertNull(mapperRef.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private WeakReference<DozerBeanMapper> mapAndDiscardMapper(ExecutorService executor) throws Exception {
+        final DozerBeanMapper mapper = new DozerBeanMapper();
+        Dest dest = executor.submit(new Callable<Dest>() {
+            public Dest call() {
+                return mapper.map(new Source("some string", 10), Dest.class);
+            }
+        }).get();
+        assertEquals("some string", dest.getStringField());
+        return new WeakReference<DozerBeanMapper>(mapper);
+    }
+
+}
@@ -0,0 +1,153 @@
+package org.openl.rules.mapping;
+
+import static org.dozer.loader.api.FieldsMappingOptions.parallelCollection;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.dozer.CustomConverter;
+import org.dozer.DozerBeanMapper;
+import org.dozer.loader.api.BeanMappingBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openl.rules.mapping.data.converter.PrefixCustomConverter;
+import org.openl.rules.mapping.data.parallel.Node;
+
+public class ParallelCollectionMappingTest {
+
+    private ForkJoinPool pool;
+    private DozerBeanMapper mapper;
+
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+        mapper = new DozerBeanMapper();
+        mapper.setParallelCollectionPool(pool);
+        mapper.setParallelCollectionThreshold(100);
+        mapper.addMapping(new BeanMappingBuilder() {
+            protected void configure() {
+                mapping(Node.class, Node.class).fields("children", "children", parallelCollection());
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testOrderAndParentReferences() {
+        Node root = createNode("root", null);
+        List<Node> children = new ArrayList<Node>();
+        for (int i = 0; i < 5000; i++) {
+            Node child = createNode("child" + i, root);
+            child.setChildren(new ArrayList<Node>());
+            child.getChildren().add(createNode("leaf" + i, child));
+            children.add(child);
+        }
+        root.setChildren(children);
+
+        Node result = mapper.map(root, Node.class);
+
+        assertNotSame(root, result);
+        assertEquals(5000, result.getChildren().size());
+        for (int i = 0; i < 5000; i++) {
+            Node child = result.getChildren().get(i);
+            assertEquals("child" + i, child.getName());
+            // objects mapped before collection are shared with parallel tasks
+            assertSame(result, child.getParent());
+            assertSame(child, child.getChildren().get(0).getParent());
+            assertEquals("leaf" + i, child.getChildren().get(0).getName());
+        }
+    }
+
+    @Test
+    public void testObjectsSharedByItemsOfDifferentBatches() {
+        Node root = createNode("root", null);
+        Node shared = createNode("shared", null);
+        List<Node> children = new ArrayList<Node>();
+        for (int i = 0; i < 5000; i++) {
+            Node child = createNode("child" + i, null);
+            child.setChildren(new ArrayList<Node>());
+            child.getChildren().add(shared);
+            children.add(child);
+        }
+        // the same item is referenced by the first and the last batch
+        children.add(children.get(0));
+        root.setChildren(children);
+
+        Node result = mapper.map(root, Node.class);
+
+        assertEquals(5001, result.getChildren().size());
+        assertSame(result.getChildren().get(0), result.getChildren().get(5000));
+        Node mappedShared = result.getChildren().get(0).getChildren().get(0);
+        assertNotSame(shared, mappedShared);
+        assertEquals("shared", mappedShared.getName());
+        for (int i = 0; i < 5000; i++) {
+            assertSame(mappedShared, result.getChildren().get(i).getChildren().get(0));
+        }
+    }
+
+    @Test
+    public void testSmallCollection() {
+        Node root = createNode("root", null);
+        List<Node> children = new ArrayList<Node>();
+        for (int i = 0; i < 10; i++) {
+            children.add(createNode("child" + i, root));
+        }
+        root.setChildren(children);
+
+        Node result = mapper.map(root, Node.class);
+
+        assertEquals(10, result.getChildren().size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("child" + i, result.getChildren().get(i).getName());
+            assertSame(result, result.getChildren().get(i).getParent());
+        }
+    }
+
+    @Test
+    public void testSharedConfigurableConverter() {
+        DozerBeanMapper converterMapper = new DozerBeanMapper();
+        converterMapper.setParallelCollectionPool(pool);
+        converterMapper.setParallelCollectionThreshold(100);
+        // injected converter instance is shared by all processors
+        converterMapper.setCustomConverters(Collections.<CustomConverter> singletonList(new PrefixCustomConverter()));
+        converterMapper.addMapping(new BeanMappingBuilder() {
+            protected void configure() {
+                mapping(Node.class, Node.class).fields("children", "children", parallelCollection())
+                    .fields("name", "name", customConverter(PrefixCustomConverter.class, "n:"));
+            }
+        });
+
+        Node root = createNode("root", null);
+        List<Node> children = new ArrayList<Node>();
+        for (int i = 0; i < 5000; i++) {
+            children.add(createNode("child" + i, root));
+        }
+        root.setChildren(children);
+
+        Node result = converterMapper.map(root, Node.class);
+
+        assertEquals("n:root", result.getName());
+        assertEquals(5000, result.getChildren().size());
+        for (int i = 0; i < 5000; i++) {
+            assertEquals("n:child" + i, result.getChildren().get(i).getName());
+        }
+    }
+
+    private Node createNode(String name, Node parent) {
+        Node node = new Node();
+        node.setName(name);
+        node.setParent(parent);
+        return node;
+    }
+
+}
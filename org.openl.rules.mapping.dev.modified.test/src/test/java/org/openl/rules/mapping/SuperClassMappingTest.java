@@ -0,0 +1,61 @@
+package org.openl.rules.mapping;
+
+import static org.junit.Assert.assertEquals;
+
+import org.dozer.DozerBeanMapper;
+import org.dozer.loader.api.BeanMappingBuilder;
+import org.junit.Before;
+import org.junit.Test;
+import org.openl.rules.mapping.data.inheritance.BaseDest;
+import org.openl.rules.mapping.data.inheritance.BaseSource;
+import org.openl.rules.mapping.data.inheritance.ChildDest;
+import org.openl.rules.mapping.data.inheritance.ChildSource;
+
+public class SuperClassMappingTest {
+
+    private DozerBeanMapper mapper;
+
+    @Before
+    public void setUp() {
+        mapper = new DozerBeanMapper();
+
+        BeanMappingBuilder builder = new BeanMappingBuilder() {
+            protected void configure() {
+                mapping(BaseSource.class, BaseDest.class, wildcard(false)).fields("id", "id").fields("name", "name");
+                mapping(ChildSource.class, ChildDest.class, wildcard(false)).fields("code", "name")
+                    .fields("code", "code");
+            }
+        };
+
+        mapper.addMapping(builder);
+    }
+
+    @Test
+    public void test1() {
+        for (int i = 0; i < 2; i++) {
+            ChildSource source = new ChildSource();
+            source.setId("id" + i);
+            source.setName("name" + i);
+            source.setCode("code" + i);
+
+            ChildDest dest = mapper.map(source, ChildDest.class);
+
+            assertEquals("id" + i, dest.getId());
+            assertEquals("code" + i, dest.getName());
+            assertEquals("code" + i, dest.getCode());
+        }
+    }
+
+    @Test
+    public void test2() {
+        BaseSource source = new BaseSource();
+        source.setId("id");
+        source.setName("name");
+
+        BaseDest dest = mapper.map(source, BaseDest.class);
+
+        assertEquals("id", dest.getId());
+        assertEquals("name", dest.getName());
+    }
+
+}
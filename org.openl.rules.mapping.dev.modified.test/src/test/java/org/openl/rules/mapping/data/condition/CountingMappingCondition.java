@@ -0,0 +1,19 @@
+package org.openl.rules.mapping.data.condition;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.dozer.FieldMappingCondition;
+
+public class CountingMappingCondition implements FieldMappingCondition {
+
+    public static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    public CountingMappingCondition() {
+        INSTANCES.incrementAndGet();
+    }
+
+    public boolean mapField(Object sourceFieldValue, Object destFieldValue, Class<?> sourceType, Class<?> destType) {
+        return true;
+    }
+
+}
@@ -0,0 +1,46 @@
+package org.openl.rules.mapping.data.construction;
+
+public class ImmutableDest {
+
+    private final String stringField;
+    private final int intField;
+
+    public ImmutableDest(String stringField, int intField) {
+        this.stringField = stringField;
+        this.intField = intField;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getStringField() {
+        return stringField;
+    }
+
+    public int getIntField() {
+        return intField;
+    }
+
+    public static class Builder {
+
+        private String stringField;
+        private int intField = -1;
+
+        public Builder stringField(String stringField) {
+            this.stringField = stringField;
+            return this;
+        }
+
+        public Builder withIntField(int intField) {
+            this.intField = intField;
+            return this;
+        }
+
+        public ImmutableDest build() {
+            return new ImmutableDest(stringField, intField);
+        }
+
+    }
+
+}
@@ -0,0 +1,23 @@
+package org.openl.rules.mapping.data.construction;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PrivateConstructorDest {
+
+    public static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    private String stringField;
+
+    private PrivateConstructorDest() {
+        INSTANCES.incrementAndGet();
+    }
+
+    public String getStringField() {
+        return stringField;
+    }
+
+    public void setStringField(String stringField) {
+        this.stringField = stringField;
+    }
+
+}
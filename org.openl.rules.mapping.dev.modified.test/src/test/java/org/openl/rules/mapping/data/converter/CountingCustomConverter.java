@@ -0,0 +1,25 @@
+package org.openl.rules.mapping.data.converter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.dozer.CustomConverter;
+
+public class CountingCustomConverter implements CustomConverter {
+
+    public static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    public CountingCustomConverter() {
+        INSTANCES.incrementAndGet();
+    }
+
+    public Object convert(Object existingDestinationFieldValue, Object sourceFieldValue, Class<?> destinationClass,
+        Class<?> sourceClass) {
+
+        if (sourceFieldValue != null) {
+            return sourceFieldValue + "!";
+        }
+
+        return null;
+    }
+
+}
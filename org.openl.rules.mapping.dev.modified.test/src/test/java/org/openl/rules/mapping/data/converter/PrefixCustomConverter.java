@@ -0,0 +1,35 @@
+package org.openl.rules.mapping.data.converter;
+
+import org.dozer.ConfigurableCustomConverter;
+import org.dozer.Mapper;
+import org.dozer.MapperAware;
+
+/**
+ * Prefixes source value with converter parameter. Returns "shared" if the
+ * converter was configured by another thread.
+ */
+public class PrefixCustomConverter implements ConfigurableCustomConverter, MapperAware {
+
+    private String parameter;
+    private Thread configuredBy;
+
+    public void setMapper(Mapper mapper) {
+        configuredBy = Thread.currentThread();
+    }
+
+    public void setParameter(String parameter) {
+        this.parameter = parameter;
+    }
+
+    public Object convert(Object existingDestinationFieldValue, Object sourceFieldValue, Class<?> destinationClass,
+        Class<?> sourceClass) {
+
+        String prefix = parameter;
+        Thread.yield();
+        if (configuredBy != Thread.currentThread()) {
+            return "shared";
+        }
+        return prefix + sourceFieldValue;
+    }
+
+}
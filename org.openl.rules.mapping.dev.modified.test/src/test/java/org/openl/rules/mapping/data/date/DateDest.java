@@ -0,0 +1,27 @@
+package org.openl.rules.mapping.data.date;
+
+import java.sql.Timestamp;
+import java.util.Date;
+
+public class DateDest {
+
+    private Date dateField;
+    private Timestamp timestampField;
+
+    public Date getDateField() {
+        return dateField;
+    }
+
+    public void setDateField(Date dateField) {
+        this.dateField = dateField;
+    }
+
+    public Timestamp getTimestampField() {
+        return timestampField;
+    }
+
+    public void setTimestampField(Timestamp timestampField) {
+        this.timestampField = timestampField;
+    }
+
+}
@@ -0,0 +1,22 @@
+package org.openl.rules.mapping.data.date;
+
+public class DateSource {
+
+    private String dateField;
+
+    public DateSource() {
+    }
+
+    public DateSource(String dateField) {
+        this.dateField = dateField;
+    }
+
+    public String getDateField() {
+        return dateField;
+    }
+
+    public void setDateField(String dateField) {
+        this.dateField = dateField;
+    }
+
+}
@@ -0,0 +1,33 @@
+package org.openl.rules.mapping.data.deep;
+
+public class FlatDest {
+
+    private String value;
+    private String first;
+    private String name;
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public String getFirst() {
+        return first;
+    }
+
+    public void setFirst(String first) {
+        this.first = first;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+}
@@ -0,0 +1,24 @@
+package org.openl.rules.mapping.data.deep;
+
+public class Inner {
+
+    private String value;
+    private String name;
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+}
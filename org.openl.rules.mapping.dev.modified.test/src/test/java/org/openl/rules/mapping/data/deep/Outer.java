@@ -0,0 +1,26 @@
+package org.openl.rules.mapping.data.deep;
+
+import java.util.List;
+
+public class Outer {
+
+    private Inner inner;
+    private List<Inner> items;
+
+    public Inner getInner() {
+        return inner;
+    }
+
+    public void setInner(Inner inner) {
+        this.inner = inner;
+    }
+
+    public List<Inner> getItems() {
+        return items;
+    }
+
+    public void setItems(List<Inner> items) {
+        this.items = items;
+    }
+
+}
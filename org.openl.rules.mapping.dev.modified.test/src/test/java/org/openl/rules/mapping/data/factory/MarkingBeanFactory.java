@@ -0,0 +1,20 @@
+package org.openl.rules.mapping.data.factory;
+
+import org.dozer.BeanFactory;
+import org.openl.rules.mapping.data.Dest;
+
+public class MarkingBeanFactory implements BeanFactory {
+
+    private final int marker;
+
+    public MarkingBeanFactory(int marker) {
+        this.marker = marker;
+    }
+
+    public Object createBean(Object source, Class<?> sourceClass, String targetBeanId) {
+        Dest dest = new Dest();
+        dest.setIntField(marker);
+        return dest;
+    }
+
+}
@@ -0,0 +1,15 @@
+package org.openl.rules.mapping.data.inheritance;
+
+public class ChildDest extends BaseDest {
+
+    private String code;
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+}
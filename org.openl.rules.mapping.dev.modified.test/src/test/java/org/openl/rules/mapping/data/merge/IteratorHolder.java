@@ -0,0 +1,19 @@
+package org.openl.rules.mapping.data.merge;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+public class IteratorHolder {
+
+    private final List<MergeItem> items;
+
+    public IteratorHolder(MergeItem... items) {
+        this.items = Arrays.asList(items);
+    }
+
+    public Iterator<MergeItem> getItems() {
+        return items.iterator();
+    }
+
+}
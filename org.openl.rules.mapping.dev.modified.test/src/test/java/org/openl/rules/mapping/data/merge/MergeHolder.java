@@ -0,0 +1,17 @@
+package org.openl.rules.mapping.data.merge;
+
+import java.util.List;
+
+public class MergeHolder {
+
+    private List<MergeItem> items;
+
+    public List<MergeItem> getItems() {
+        return items;
+    }
+
+    public void setItems(List<MergeItem> items) {
+        this.items = items;
+    }
+
+}
@@ -0,0 +1,49 @@
+package org.openl.rules.mapping.data.merge;
+
+public class MergeItem {
+
+    private Integer id;
+    private String value;
+
+    public MergeItem() {
+    }
+
+    public MergeItem(Integer id, String value) {
+        this.id = id;
+        this.value = value;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof MergeItem)) {
+            return false;
+        }
+        Integer otherId = ((MergeItem) obj).id;
+        return id == null ? otherId == null : id.equals(otherId);
+    }
+
+    @Override
+    public int hashCode() {
+        return id == null ? 0 : id.hashCode();
+    }
+
+}
@@ -0,0 +1,23 @@
+package org.openl.rules.mapping.data.merge;
+
+import org.dozer.KeyedCollectionItemDiscriminator;
+
+public class MergeItemDiscriminator implements KeyedCollectionItemDiscriminator {
+
+    public Object discriminate(Class<?> sourceItemType,
+            Object sourceItemValue,
+            Class<?> destCollectionType,
+            Class<?> destItemType,
+            Object destCollection) {
+        throw new UnsupportedOperationException();
+    }
+
+    public Object getSourceItemKey(Class<?> sourceItemType, Object sourceItemValue) {
+        return ((MergeItem) sourceItemValue).getId();
+    }
+
+    public Object getDestItemKey(Object destItemValue) {
+        return ((MergeItem) destItemValue).getId();
+    }
+
+}
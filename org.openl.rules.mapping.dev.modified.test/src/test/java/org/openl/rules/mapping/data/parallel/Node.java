@@ -0,0 +1,35 @@
+package org.openl.rules.mapping.data.parallel;
+
+import java.util.List;
+
+public class Node {
+
+    private String name;
+    private Node parent;
+    private List<Node> children;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Node getParent() {
+        return parent;
+    }
+
+    public void setParent(Node parent) {
+        this.parent = parent;
+    }
+
+    public List<Node> getChildren() {
+        return children;
+    }
+
+    public void setChildren(List<Node> children) {
+        this.children = children;
+    }
+
+}
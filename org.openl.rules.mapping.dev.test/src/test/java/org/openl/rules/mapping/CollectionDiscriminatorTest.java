@@ -1,6 +1,8 @@
 package org.openl.rules.mapping;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 import java.io.File;
 import java.util.ArrayList;
@@ -9,12 +11,16 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.dozer.CollectionItemDiscriminator;
 import org.junit.Test;
+import org.openl.rules.mapping.loader.discriminator.CollectionItemDiscriminatorFactory;
 import org.openl.rules.mapping.to.A;
 import org.openl.rules.mapping.to.B;
 import org.openl.rules.mapping.to.C;
 import org.openl.rules.mapping.to.D;
 import org.openl.rules.mapping.to.E;
+import org.openl.rules.mapping.to.ExternalArrayElementDiscriminator;
+import org.openl.rules.mapping.to.ExternalListElementDiscriminator;
 import org.openl.rules.mapping.to.containers.ArrayContainer;
 import org.openl.rules.mapping.to.containers.IntArrayContainer;
 import org.openl.rules.mapping.to.containers.ListContainer;
@@ -355,5 +361,44 @@ public class CollectionDiscriminatorTest {
         assertEquals("c1", result.get(0).getAString());
     }
 
-}
+    @Test
+    public void listDiscriminatorMethodIsResolvedByCollectionTypeTest() throws Exception {
+        CollectionItemDiscriminator discriminator = CollectionItemDiscriminatorFactory.createDiscriminator("discriminate",
+            ExternalListElementDiscriminator.class,
+            null);
+
+        A source = new A();
+        source.setAString("y");
+        C c1 = new C();
+        c1.setAString("x");
+        C c2 = new C();
+        c2.setAString("y");
+        List<C> dest = new ArrayList<C>(Arrays.asList(c1, c2));
+
+        assertSame(c2, discriminator.discriminate(A.class, source, ArrayList.class, C.class, dest));
 
+        source.setAString("z");
+        assertNull(discriminator.discriminate(A.class, source, ArrayList.class, C.class, dest));
+    }
+
+    @Test
+    public void arrayDiscriminatorMethodIsResolvedByCollectionTypeTest() throws Exception {
+        CollectionItemDiscriminator discriminator = CollectionItemDiscriminatorFactory.createDiscriminator("discriminate",
+            ExternalArrayElementDiscriminator.class,
+            null);
+
+        A source = new A();
+        source.setAString("x");
+        C c1 = new C();
+        c1.setAString("x");
+        C c2 = new C();
+        c2.setAString("y");
+        C[] dest = new C[] { c1, c2 };
+
+        assertSame(c1, discriminator.discriminate(A.class, source, C[].class, C.class, dest));
+
+        source.setAString("z");
+        assertNull(discriminator.discriminate(A.class, source, C[].class, C.class, dest));
+    }
+
+}
@@ -0,0 +1,15 @@
+package org.openl.rules.mapping.to;
+
+import java.util.List;
+
+public class ExternalListElementDiscriminator {
+
+    public static C discriminate(A source, List<C> dest) {
+        for (C item : dest) {
+            if (item.getAString().equals(source.getAString())) {
+                return item;
+            }
+        }
+        return null;
+    }
+}
@@ -1,6 +1,13 @@
 package org.openl.rules.mapping;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
 import org.dozer.MappingContext;
+import org.dozer.MappingResultHandler;
 
 /**
  * The base interface which defines mapper abstraction.
@@ -46,4 +53,103 @@ public interface Mapper {
      * @return instance of destination object
      */
     <T> T map(Object source, Class<T> destination, MappingContext context);
+
+    /**
+     * Creates new instances of destination object and performs mapping
+     * operation from each source object.
+     * 
+     * @param <T> destination class
+     * @param sources source objects
+     * @param destination destination object definition
+     * @return list of destination objects in the order of source objects
+     */
+    <T> List<T> mapAll(Collection<?> sources, Class<T> destination);
+
+    /**
+     * Creates new instances of destination object and performs mapping
+     * operation from each source object.
+     * 
+     * @param <T> destination class
+     * @param sources source objects
+     * @param destination destination object definition
+     * @param context mapping context
+     * @return list of destination objects in the order of source objects
+     */
+    <T> List<T> mapAll(Collection<?> sources, Class<T> destination, MappingContext context);
+
+    /**
+     * Creates new instances of destination object, performs mapping operation
+     * from each source object and passes destination objects to handler.
+     * 
+     * @param <T> destination class
+     * @param sources source objects
+     * @param destination destination object definition
+     * @param context mapping context
+     * @param handler receiver of destination objects
+     */
+    <T> void mapAll(Collection<?> sources,
+            Class<T> destination,
+            MappingContext context,
+            MappingResultHandler<? super T> handler);
+
+    /**
+     * Returns iterator which creates new instance of destination object and
+     * performs mapping operation from the next source object only when it is
+     * requested.
+     * 
+     * @param <T> destination class
+     * @param sources source objects
+     * @param destination destination object definition
+     * @return iterator of destination objects in the order of source objects
+     */
+    <T> Iterator<T> mapLazily(Iterator<?> sources, Class<T> destination);
+
+    /**
+     * Returns iterator which creates new instance of destination object and
+     * performs mapping operation from the next source object only when it is
+     * requested.
+     * 
+     * @param <T> destination class
+     * @param sources source objects
+     * @param destination destination object definition
+     * @param context mapping context
+     * @return iterator of destination objects in the order of source objects
+     */
+    <T> Iterator<T> mapLazily(Iterator<?> sources, Class<T> destination, MappingContext context);
+
+    /**
+     * Creates new instance of destination object and performs mapping operation
+     * from source object on given executor. Mapping errors are thrown by
+     * {@link Future#get()} as a cause of
+     * {@link java.util.concurrent.ExecutionException}.
+     * 
+     * @param <T> destination class
+     * @param source source object
+     * @param destination destination object definition
+     * @param context mapping context; it is copied when mapping is requested,
+     *            so given context is not modified and can be reused
+     * @param executor executor which performs mapping
+     * @return future of destination object
+     */
+    <T> Future<T> mapAsync(Object source, Class<T> destination, MappingContext context, Executor executor);
+
+    /**
+     * Creates new instances of destination object and performs mapping
+     * operation from each source object. Source objects are mapped in batches
+     * on given executor. Mapping errors are thrown by {@link Future#get()} as
+     * a cause of {@link java.util.concurrent.ExecutionException}.
+     * 
+     * @param <T> destination class
+     * @param sources source objects
+     * @param destination destination object definition
+     * @param context mapping context; it is copied when mapping is requested,
+     *            so given context is not modified and can be reused
+     * @param executor executor which performs mapping
+     * @return future of destination objects list in the order of source
+     *         objects
+     */
+    <T> Future<List<T>> mapAllAsync(Collection<?> sources,
+            Class<T> destination,
+            MappingContext context,
+            Executor executor);
 }
@@ -1,7 +1,18 @@
 package org.openl.rules.mapping;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.dozer.AsyncMapper;
 import org.dozer.MappingContext;
 import org.dozer.MappingException;
+import org.dozer.MappingResultHandler;
 import org.openl.rules.mapping.exception.RulesMappingException;
 
 /**
@@ -48,4 +59,141 @@ class MappingProxy implements Mapper {
             throw new RulesMappingException(e);
         }
     }
+
+    public <T> List<T> mapAll(Collection<?> sources, Class<T> destination) {
+        try {
+            return beanMapper.mapAll(sources, destination);
+        } catch (MappingException e) {
+            throw new RulesMappingException(e);
+        }
+    }
+
+    public <T> List<T> mapAll(Collection<?> sources, Class<T> destination, MappingContext context) {
+        try {
+            return beanMapper.mapAll(sources, destination, context);
+        } catch (MappingException e) {
+            throw new RulesMappingException(e);
+        }
+    }
+
+    public <T> void mapAll(Collection<?> sources,
+            Class<T> destination,
+            MappingContext context,
+            MappingResultHandler<? super T> handler) {
+        try {
+            beanMapper.mapAll(sources, destination, context, handler);
+        } catch (MappingException e) {
+            throw new RulesMappingException(e);
+        }
+    }
+
+    public <T> Iterator<T> mapLazily(Iterator<?> sources, Class<T> destination) {
+        return mapLazily(sources, destination, null);
+    }
+
+    public <T> Iterator<T> mapLazily(Iterator<?> sources, Class<T> destination, MappingContext context) {
+        final Iterator<T> results;
+        try {
+            results = beanMapper.mapLazily(sources, destination, context);
+        } catch (MappingException e) {
+            throw new RulesMappingException(e);
+        }
+
+        // objects are mapped on iteration, so mapping errors are thrown by
+        // next() call
+        return new Iterator<T>() {
+            public boolean hasNext() {
+                return results.hasNext();
+            }
+
+            public T next() {
+                try {
+                    return results.next();
+                } catch (MappingException e) {
+                    throw new RulesMappingException(e);
+                }
+            }
+
+            public void remove() {
+                results.remove();
+            }
+        };
+    }
+
+    public <T> Future<T> mapAsync(Object source, Class<T> destination, MappingContext context, Executor executor) {
+        try {
+            return new RulesMappingFuture<T>(getAsyncMapper().mapAsync(source, destination, context, executor));
+        } catch (MappingException e) {
+            throw new RulesMappingException(e);
+        }
+    }
+
+    public <T> Future<List<T>> mapAllAsync(Collection<?> sources,
+            Class<T> destination,
+            MappingContext context,
+            Executor executor) {
+        try {
+            return new RulesMappingFuture<List<T>>(getAsyncMapper().mapAllAsync(sources,
+                destination,
+                context,
+                executor));
+        } catch (MappingException e) {
+            throw new RulesMappingException(e);
+        }
+    }
+
+    private AsyncMapper getAsyncMapper() {
+        if (beanMapper instanceof AsyncMapper) {
+            return (AsyncMapper) beanMapper;
+        }
+        throw new RulesMappingException("Asynchronous mapping is not supported by " + beanMapper.getClass()
+            .getName());
+    }
+
+    /**
+     * Future which replaces dozer mapping errors with rules mapping ones.
+     */
+    private static final class RulesMappingFuture<T> implements Future<T> {
+
+        private final Future<T> future;
+
+        RulesMappingFuture(Future<T> future) {
+            this.future = future;
+        }
+
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return future.cancel(mayInterruptIfRunning);
+        }
+
+        public boolean isCancelled() {
+            return future.isCancelled();
+        }
+
+        public boolean isDone() {
+            return future.isDone();
+        }
+
+        public T get() throws InterruptedException, ExecutionException {
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                throw translate(e);
+            }
+        }
+
+        public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            try {
+                return future.get(timeout, unit);
+            } catch (ExecutionException e) {
+                throw translate(e);
+            }
+        }
+
+        private static ExecutionException translate(ExecutionException e) {
+            if (e.getCause() instanceof MappingException) {
+                return new ExecutionException(e.getMessage(), new RulesMappingException(e.getCause()));
+            }
+            return e;
+        }
+    }
 }
@@ -103,6 +103,28 @@ public final class RulesBeanMapperFactory {
             Map<String, FieldMappingCondition> conditionsWithId,
             Map<String, BeanFactory> factories,
             List<DozerEventListener> eventListeners) {
+        return createMapperInstance(source, customConvertersWithId, conditionsWithId, factories, eventListeners, false);
+    }
+
+    /**
+     * Creates mapper instance using file with mapping rule definitions.
+     *
+     * @param source file with mapping rule definitions
+     * @param customConvertersWithId external custom converters
+     * @param conditionsWithId external conditions
+     * @param factories custom bean factories
+     * @param eventListeners dozer event listeners
+     * @param compiledMappers <code>true</code> if simple field mappings should
+     *            be compiled into direct accessor calls; <code>false</code> if
+     *            all field mappings should be processed by reflective mapper
+     * @return mapper instance
+     */
+    public static Mapper createMapperInstance(URL source,
+            Map<String, CustomConverter> customConvertersWithId,
+            Map<String, FieldMappingCondition> conditionsWithId,
+            Map<String, BeanFactory> factories,
+            List<DozerEventListener> eventListeners,
+            boolean compiledMappers) {
 
         try {
 
@@ -135,7 +157,8 @@ public final class RulesBeanMapperFactory {
                 customConvertersWithId,
                 conditionsWithId,
                 factories,
-                eventListeners);
+                eventListeners,
+                compiledMappers);
             return new MappingProxy(dozerMapper);
         } catch (Exception e) {
             throw new RulesMappingException("Cannot load mapping definitions from the URL: " + source, e);
@@ -149,7 +172,8 @@ public final class RulesBeanMapperFactory {
             Map<String, CustomConverter> customConvertersWithId,
             Map<String, FieldMappingCondition> conditionsWithId,
             Map<String, BeanFactory> factories,
-            List<DozerEventListener> eventListeners) {
+            List<DozerEventListener> eventListeners,
+            boolean compiledMappers) {
 
         RulesMappingsLoader mappingsLoader = new RulesMappingsLoader(instanceClass, instance, typeResolver);
         DozerMappingBuilder mappingBuilder = new DozerMappingBuilder();
@@ -186,6 +210,7 @@ public final class RulesBeanMapperFactory {
         }
 
         DozerBeanMapper mapper = new DozerBeanMapper();
+        mapper.setCompiledMappersEnabled(compiledMappers);
 
         DozerConfigContainer configContainer = configBuilder.build();
 
@@ -480,9 +480,10 @@ public class RulesMappingsLoader {
 
     private ConverterDescriptor createConverterDescriptor(String converterId, String convertMethod, Class<?> srcType,
         Class<?> destType) {
-        // At this moment we don't know real types of fields and cannot cache
-        // converter instances. To reduce count of converters we are using
-        // proxy objects which invokes appropriate convert method at runtime
+        // At this moment we don't know real types of fields and cannot resolve
+        // convert methods. To reduce count of converters we are using wrappers
+        // which resolve appropriate convert method once per pair of runtime
+        // types
         CustomConverter converter = null;
 
         // Check that user defined convert method using method name.
@@ -504,10 +505,10 @@ public class RulesMappingsLoader {
     }
 
     private ConditionDescriptor createConditionDescriptor(String conditionId, String conditionMethod) {
-        // At this moment we don't know real types of fields and cannot cache
-        // condition instances. To reduce count of condition methods we are
-        // using proxies objects which invokes appropriate condition method at
-        // runtime
+        // At this moment we don't know real types of fields and cannot resolve
+        // condition methods. To reduce count of conditions we are using
+        // wrappers which resolve appropriate condition method once per pair of
+        // runtime types
         FieldMappingCondition condition = null;
 
         if (StringUtils.isNotEmpty(conditionMethod)) {
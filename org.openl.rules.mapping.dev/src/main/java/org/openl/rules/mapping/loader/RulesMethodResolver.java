@@ -0,0 +1,150 @@
+package org.openl.rules.mapping.loader;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.dozer.util.MethodInvoker;
+import org.dozer.util.ReflectionUtils;
+import org.openl.rules.mapping.MappingParameters;
+import org.openl.rules.mapping.exception.RulesMappingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Links rules method (convert method, condition or collection item
+ * discriminator) with its callers. The following method signatures are
+ * supported (in order of priority):
+ * <ul>
+ * <li>(MappingParameters params, srcType srcValue, destType destValue) - used
+ * only if mapping parameters are provided</li>
+ * <li>(srcType srcValue, destType destValue)</li>
+ * </ul>
+ * 
+ * Matching method is resolved once per pair of runtime source and destination
+ * types and then it is invoked through bound method handle.
+ * 
+ * Intended for internal use only.
+ */
+public final class RulesMethodResolver {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RulesMethodResolver.class);
+
+    private final String methodKind;
+    private final String methodName;
+    private final Class<?> instanceClass;
+    private final Object instance;
+
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, BoundMethod>> paramsAwareMethods = new ConcurrentHashMap<Class<?>, ConcurrentMap<Class<?>, BoundMethod>>();
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, BoundMethod>> simpleMethods = new ConcurrentHashMap<Class<?>, ConcurrentMap<Class<?>, BoundMethod>>();
+
+    /**
+     * Creates resolver.
+     * 
+     * @param methodKind kind of method used in error messages, e.g. "convert"
+     * @param methodName rules method name
+     * @param instanceClass class object which defines available methods
+     * @param instance instance of class which is defined by
+     *            <code>instanceClass</code> parameter
+     */
+    public RulesMethodResolver(String methodKind, String methodName, Class<?> instanceClass, Object instance) {
+        this.methodKind = methodKind;
+        this.methodName = methodName;
+        this.instanceClass = instanceClass;
+        this.instance = instance;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * Invokes rules method which matches given types.
+     * 
+     * @param params mapping parameters; can be <code>null</code>
+     * @param srcType source type
+     * @param destType destination type
+     * @param srcValue source value
+     * @param destValue destination value
+     * @return result of method invocation
+     */
+    public Object invoke(MappingParameters params, Class<?> srcType, Class<?> destType, Object srcValue,
+        Object destValue) {
+
+        BoundMethod boundMethod = getBoundMethod(params != null, srcType, destType);
+
+        if (boundMethod.paramsAware) {
+            return boundMethod.invoker.invoke(instance, params, srcValue, destValue);
+        }
+
+        return boundMethod.invoker.invoke(instance, srcValue, destValue);
+    }
+
+    private BoundMethod getBoundMethod(boolean withParams, Class<?> srcType, Class<?> destType) {
+        // null types cannot be used as cache keys
+        if (srcType == null || destType == null) {
+            return resolve(withParams, srcType, destType);
+        }
+
+        ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, BoundMethod>> cache = withParams ? paramsAwareMethods
+                                                                                         : simpleMethods;
+        ConcurrentMap<Class<?>, BoundMethod> methods = cache.get(srcType);
+        if (methods == null) {
+            methods = new ConcurrentHashMap<Class<?>, BoundMethod>();
+            ConcurrentMap<Class<?>, BoundMethod> existing = cache.putIfAbsent(srcType, methods);
+            if (existing != null) {
+                methods = existing;
+            }
+        }
+
+        BoundMethod boundMethod = methods.get(destType);
+        if (boundMethod == null) {
+            boundMethod = resolve(withParams, srcType, destType);
+            methods.putIfAbsent(destType, boundMethod);
+        }
+
+        return boundMethod;
+    }
+
+    private BoundMethod resolve(boolean withParams, Class<?> srcType, Class<?> destType) {
+        Method method = null;
+        boolean paramsAware = false;
+
+        if (withParams) {
+            method = ReflectionUtils.findMatchingAccessibleMethod(instanceClass,
+                methodName,
+                new Class<?>[] { MappingParameters.class, srcType, destType });
+            paramsAware = method != null;
+        }
+
+        if (method == null) {
+            method = ReflectionUtils.findMatchingAccessibleMethod(instanceClass,
+                methodName,
+                new Class<?>[] { srcType, destType });
+        }
+
+        if (method == null) {
+            throw new RulesMappingException(String.format("Cannot find %s method with name '%s'",
+                methodKind,
+                methodName));
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Binding %s method: %s", methodKind, method));
+        }
+
+        return new BoundMethod(MethodInvoker.create(method), paramsAware);
+    }
+
+    private static final class BoundMethod {
+
+        private final MethodInvoker invoker;
+        private final boolean paramsAware;
+
+        private BoundMethod(MethodInvoker invoker, boolean paramsAware) {
+            this.invoker = invoker;
+            this.paramsAware = paramsAware;
+        }
+    }
+
+}
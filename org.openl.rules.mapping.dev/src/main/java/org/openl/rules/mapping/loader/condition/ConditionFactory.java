@@ -1,9 +1,8 @@
 package org.openl.rules.mapping.loader.condition;
 
-import java.lang.reflect.Proxy;
-
 import org.apache.commons.lang3.StringUtils;
 import org.dozer.FieldMappingCondition;
+import org.openl.rules.mapping.loader.RulesMethodResolver;
 
 /**
  * Provides method to create field mapping condition object.
@@ -21,34 +20,15 @@ public final class ConditionFactory {
      * @param instanceClass class object which defines available methods
      * @param instance instance of class which is defined by
      *            <code>instanceClass</code> parameter
-     * @return {@link FieldMappingCondition} instance
+     * @return {@link FieldMappingCondition} instance or <code>null</code> if
+     *         condition name is empty
      */
     public static FieldMappingCondition createCondition(String condition, Class<?> instanceClass, Object instance) {
-        return new ConditionWrapper(createConditionProxy(condition, instanceClass, instance));
-    }
-
-    /**
-     * Creates proxy object for condition instance.
-     * 
-     * @param condition condition method name
-     * @param instanceClass class object which defines available methods
-     * @param instance instance of class which is defined by
-     *            <code>instanceClass</code> parameter
-     * @return {@link RulesFieldMappingCondition} instance
-     */
-    private static RulesFieldMappingCondition createConditionProxy(final String condition, final Class<?> instanceClass,
-        final Object instance) {
-
-        if (StringUtils.isNotEmpty(condition)) {
-            Class<?>[] interfaces = new Class[] { RulesFieldMappingCondition.class };
-            ClassLoader classLoader = instanceClass.getClassLoader();
-
-            return (RulesFieldMappingCondition) Proxy.newProxyInstance(classLoader, interfaces,
-                new ConditionInvocationHander(condition, instanceClass, instance));
+        if (StringUtils.isEmpty(condition)) {
+            return null;
         }
 
-        return null;
+        return new ConditionWrapper(new RulesMethodResolver("condition", condition, instanceClass, instance));
     }
 
-  
 }
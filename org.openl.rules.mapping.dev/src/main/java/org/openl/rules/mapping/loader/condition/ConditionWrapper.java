@@ -1,39 +1,33 @@
 package org.openl.rules.mapping.loader.condition;
 
-import org.dozer.FieldMappingCondition;
+import org.dozer.BaseMappingParamsAwareFieldMappingCondition;
 import org.openl.rules.mapping.MappingParameters;
-import org.dozer.MappingParamsAware;
+import org.openl.rules.mapping.loader.RulesMethodResolver;
 
 /**
- * Links Dozer's field mapping condition abstraction with implementations what are
- * supported by rules mapper.
- * 
- * Current wrapper class joins condition abstractions using java
- * inheritance mechanism and defines which method of
- * {@link RulesFieldMappingCondition} instance will be invoked.
+ * Links Dozer's field mapping condition abstraction with condition methods
+ * what are supported by rules mapper. Condition method is invoked directly
+ * through {@link RulesMethodResolver}.
  */
-class ConditionWrapper implements MappingParamsAware, FieldMappingCondition {
+class ConditionWrapper extends BaseMappingParamsAwareFieldMappingCondition {
 
-    private RulesFieldMappingCondition conditionProxy;
-    private MappingParameters params;
+    private final RulesMethodResolver conditionMethod;
 
-    public ConditionWrapper(RulesFieldMappingCondition conditionProxy) {
-        this.conditionProxy = conditionProxy;
-    }
-
-    public void setMappingParams(MappingParameters params) {
-        this.params = params;
+    public ConditionWrapper(RulesMethodResolver conditionMethod) {
+        this.conditionMethod = conditionMethod;
     }
 
     /**
      * Dispatches "map field" method invocation.
      */
-    public boolean mapField(Object sourceFieldValue, Object destFieldValue, Class<?> sourceType, Class<?> destType) {
-        if (params != null) {
-            return conditionProxy.mapField(params, sourceFieldValue, destFieldValue, sourceType, destType);
-        }
-
-        return conditionProxy.mapField(sourceFieldValue, destFieldValue, sourceType, destType);
+    @Override
+    public boolean mapField(MappingParameters params,
+            Object sourceFieldValue,
+            Object destFieldValue,
+            Class<?> sourceType,
+            Class<?> destType) {
+
+        return (Boolean) conditionMethod.invoke(params, sourceType, destType, sourceFieldValue, destFieldValue);
     }
 
 }
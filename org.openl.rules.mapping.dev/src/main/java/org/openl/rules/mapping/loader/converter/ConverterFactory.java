@@ -1,9 +1,8 @@
 package org.openl.rules.mapping.loader.converter;
 
-import java.lang.reflect.Proxy;
-
 import org.apache.commons.lang3.StringUtils;
 import org.dozer.CustomConverter;
+import org.openl.rules.mapping.loader.RulesMethodResolver;
 
 /**
  * Provides method to create custom converter object.
@@ -21,33 +20,15 @@ public final class ConverterFactory {
      * @param instanceClass class object which defines available methods
      * @param instance instance of class which is defined by
      *            <code>instanceClass</code> parameter
-     * @return {@CustomConverter} instance
+     * @return {@CustomConverter} instance or <code>null</code> if conversion
+     *         method name is empty
      */
     public static CustomConverter createConverter(String convertMethod, Class<?> instanceClass, Object instance) {
-        return new CustomConverterWrapper(createConverterProxy(convertMethod, instanceClass, instance));
-    }
-
-    /**
-     * Creates proxy object for converter instance.
-     * 
-     * @param convertMethodName convert method name
-     * @param instanceClass class object which defines available methods
-     * @param instance instance of class which is defined by
-     *            <code>instanceClass</code> parameter
-     * @return {@link CustomConverter} instance
-     */
-    private static RulesCustomConverter createConverterProxy(final String convertMethodName,
-        final Class<?> instanceClass, final Object instance) {
-
-        if (StringUtils.isNotEmpty(convertMethodName)) {
-            Class<?>[] interfaces = new Class[] { RulesCustomConverter.class };
-            ClassLoader classLoader = instanceClass.getClassLoader();
-
-            return (RulesCustomConverter) Proxy.newProxyInstance(classLoader, interfaces,
-                new CustomConverterInvocationHandler(convertMethodName, instanceClass, instance));
+        if (StringUtils.isEmpty(convertMethod)) {
+            return null;
         }
 
-        return null;
+        return new CustomConverterWrapper(new RulesMethodResolver("convert", convertMethod, instanceClass, instance));
     }
 
 }
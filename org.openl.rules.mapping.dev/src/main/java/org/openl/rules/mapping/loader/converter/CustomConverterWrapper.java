@@ -1,43 +1,37 @@
 package org.openl.rules.mapping.loader.converter;
 
-import org.dozer.CustomConverter;
+import org.dozer.BaseMappingParamsAwareCustomConverter;
 import org.openl.rules.mapping.MappingParameters;
-import org.dozer.MappingParamsAware;
+import org.openl.rules.mapping.loader.RulesMethodResolver;
 
 /**
- * Links Dozer's custom converter abstraction with implementations what are
- * supported by rules mapper.
- * 
- * Current wrapper class joins custom converter abstractions using java
- * inheritance mechanism and defines which method of
- * {@link RulesCustomConverter} instance will be invoked.
+ * Links Dozer's custom converter abstraction with convert methods what are
+ * supported by rules mapper. Convert method is invoked directly through
+ * {@link RulesMethodResolver}.
  */
-class CustomConverterWrapper implements MappingParamsAware, CustomConverter {
+class CustomConverterWrapper extends BaseMappingParamsAwareCustomConverter {
 
-    private RulesCustomConverter customConverterProxy;
-    private MappingParameters params;
+    private final RulesMethodResolver convertMethod;
 
-    public CustomConverterWrapper(RulesCustomConverter customConverterProxy) {
-        this.customConverterProxy = customConverterProxy;
-    }
-
-    public void setMappingParams(MappingParameters params) {
-        this.params = params;
+    public CustomConverterWrapper(RulesMethodResolver convertMethod) {
+        this.convertMethod = convertMethod;
     }
 
     /**
-     * Dispatches convert method invocation.  
+     * Dispatches convert method invocation.
      */
-    public Object convert(Object existingDestinationFieldValue, Object sourceFieldValue, Class<?> destinationClass,
-        Class<?> sourceClass) {
-
-        if (params != null) {
-            return customConverterProxy.convert(params, existingDestinationFieldValue, sourceFieldValue,
-                destinationClass, sourceClass);
-        }
-
-        return customConverterProxy.convert(existingDestinationFieldValue, sourceFieldValue, destinationClass,
-            sourceClass);
+    @Override
+    public Object convert(MappingParameters mappingParameters,
+            Object existingDestinationFieldValue,
+            Object sourceFieldValue,
+            Class<?> destinationClass,
+            Class<?> sourceClass) {
+
+        return convertMethod.invoke(mappingParameters,
+            sourceClass,
+            destinationClass,
+            sourceFieldValue,
+            existingDestinationFieldValue);
     }
 
 }
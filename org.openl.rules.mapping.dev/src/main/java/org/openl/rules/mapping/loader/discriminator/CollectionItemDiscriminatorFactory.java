@@ -1,9 +1,8 @@
 package org.openl.rules.mapping.loader.discriminator;
 
-import java.lang.reflect.Proxy;
-
 import org.apache.commons.lang3.StringUtils;
 import org.dozer.CollectionItemDiscriminator;
+import org.openl.rules.mapping.loader.RulesMethodResolver;
 
 public class CollectionItemDiscriminatorFactory {
 
@@ -11,20 +10,14 @@ public class CollectionItemDiscriminatorFactory {
     }
 
     public static CollectionItemDiscriminator createDiscriminator(String discriminator, Class<?> instanceClass, Object instance) {
-        return new CollectionItemDiscriminatorWrapper(createDiscriminatorProxy(discriminator, instanceClass, instance));
-    }
-
-    private static RulesCollectionItemDiscriminator createDiscriminatorProxy(final String discriminator, final Class<?> instanceClass,
-        final Object instance) {
-
-        if (StringUtils.isNotEmpty(discriminator)) {
-            Class<?>[] interfaces = new Class[] { RulesCollectionItemDiscriminator.class };
-            ClassLoader classLoader = instanceClass.getClassLoader();
-
-            return (RulesCollectionItemDiscriminator) Proxy.newProxyInstance(classLoader, interfaces,
-                new CollectionItemDiscriminatorInvocationHander(discriminator, instanceClass, instance));
+        if (StringUtils.isEmpty(discriminator)) {
+            return null;
         }
 
-        return null;
+        return new CollectionItemDiscriminatorWrapper(new RulesMethodResolver("discriminator",
+            discriminator,
+            instanceClass,
+            instance));
     }
+
 }
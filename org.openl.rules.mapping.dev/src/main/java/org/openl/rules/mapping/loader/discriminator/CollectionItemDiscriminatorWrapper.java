@@ -1,20 +1,47 @@
 package org.openl.rules.mapping.loader.discriminator;
 
-import org.dozer.CollectionItemDiscriminator;
-import org.openl.rules.mapping.MappingParameters;
+import org.dozer.ContextAwareCollectionItemDiscriminator;
+import org.dozer.MappingContext;
 import org.dozer.MappingParamsAware;
-
-public class CollectionItemDiscriminatorWrapper implements MappingParamsAware, CollectionItemDiscriminator {
-
-    private RulesCollectionItemDiscriminator collectionItemDiscriminatorProxy;
-    private MappingParameters params;
-
-    public CollectionItemDiscriminatorWrapper(RulesCollectionItemDiscriminator collectionItemDiscriminatorProxy) {
-        this.collectionItemDiscriminatorProxy = collectionItemDiscriminatorProxy;
+import org.openl.rules.mapping.MappingParameters;
+import org.openl.rules.mapping.loader.RulesMethodResolver;
+
+/**
+ * Links Dozer's collection item discriminator abstraction with discriminator
+ * methods what are supported by rules mapper. Discriminator method is invoked
+ * directly through {@link RulesMethodResolver}.
+ */
+public class CollectionItemDiscriminatorWrapper implements MappingParamsAware,
+        ContextAwareCollectionItemDiscriminator {
+
+    /**
+     * Thread local variable which holds user defined mapping parameters. Used
+     * only if discriminator is called without mapping context.
+     */
+    private final ThreadLocal<MappingParameters> parameters = new ThreadLocal<MappingParameters>();
+
+    private final RulesMethodResolver discriminatorMethod;
+
+    public CollectionItemDiscriminatorWrapper(RulesMethodResolver discriminatorMethod) {
+        this.discriminatorMethod = discriminatorMethod;
     }
 
     public void setMappingParams(MappingParameters params) {
-        this.params = params;
+        parameters.set(params);
+    }
+
+    public Object discriminate(MappingContext context,
+            Class<?> sourceItemType,
+            Object sourceItemValue,
+            Class<?> destCollectionType,
+            Class<?> destItemType,
+            Object destCollection) {
+
+        return discriminatorMethod.invoke(context.getParams(),
+            sourceItemType,
+            destCollectionType,
+            sourceItemValue,
+            destCollection);
     }
 
     @Override
@@ -23,12 +50,12 @@ public class CollectionItemDiscriminatorWrapper implements MappingParamsAware, C
             Class<?> destCollectionType,
             Class<?> destItemType,
             Object destCollection) {
-        
-        if (params != null) {
-            return collectionItemDiscriminatorProxy.discriminate(params, sourceItemType, sourceItemValue, destCollectionType, destItemType, destCollection);
-        }
 
-        return collectionItemDiscriminatorProxy.discriminate(sourceItemType, sourceItemValue, destCollectionType, destItemType, destCollection);
+        return discriminatorMethod.invoke(parameters.get(),
+            sourceItemType,
+            destCollectionType,
+            sourceItemValue,
+            destCollection);
     }
 
 }